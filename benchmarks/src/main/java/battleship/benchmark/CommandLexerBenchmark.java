@@ -0,0 +1,100 @@
+package battleship.benchmark;
+
+import battleship.game.input.CommandLexer;
+import battleship.game.input.InputValidationState;
+import battleship.game.square.DirectionToSquare;
+import battleship.game.square.Square;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandLexerBenchmark {
+    private static final String[] VALID = {"A1 A5", "C3 F3", "J10 J8", "E5 E7", "B2 B3", "H4 H6", "D9 G9", "F1 F4"};
+    private static final String[] MALFORMED = {"A1", "A1 B2", "1A A5", "A A5", "a1 a5", "A1 A5 A6", "AX A5", "K1"};
+    private static final String[] ADVERSARIAL = {
+            "A99999999999 A1", "A-2147483649 A1", "A+ A1", "A1  A5", "A1 A" + "9".repeat(64),
+            " ".repeat(32), "Z" + "0".repeat(48) + "1 Z1", "A١ A٥"
+    };
+
+    @Param({"valid", "malformed", "adversarial"})
+    public String inputKind;
+
+    private final CommandLexer lexer = new CommandLexer(10);
+    private String[] inputs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        inputs = switch (inputKind) {
+            case "valid" -> VALID;
+            case "malformed" -> MALFORMED;
+            default -> ADVERSARIAL;
+        };
+    }
+
+    @Benchmark
+    public int lexPlacement() {
+        InputValidationState state = lexer.lexPlacement(nextInput());
+        return state == InputValidationState.VALID ? lexer.getFrontCell() : state.ordinal();
+    }
+
+    @Benchmark
+    public int splitAndParsePlacement() {
+        String input = nextInput();
+        List<String> coordinates = new ArrayList<>(Arrays.asList(input.split(" ")));
+        InputValidationState state = validatePlacement(coordinates);
+        if (state != InputValidationState.VALID) {
+            return state.ordinal();
+        }
+        Square front = new Square(coordinates.get(0));
+        return front.getLineAsIndex() * 10 + front.getColumnAsIndex();
+    }
+
+    private String nextInput() {
+        return inputs[next++ & (inputs.length - 1)];
+    }
+
+    private static InputValidationState validatePlacement(List<String> coordinates) {
+        if (coordinates.size() != 2) {
+            return InputValidationState.WRONG_SIZE;
+        } else if (isNotValidCoordinateFormat(coordinates.get(0)) || isNotValidCoordinateFormat(coordinates.get(1))) {
+            return InputValidationState.WRONG_FORMAT;
+        }
+        DirectionToSquare direction = new Square(coordinates.get(0)).getDirectionTo(new Square(coordinates.get(1)));
+        return switch (direction) {
+            case LEFT_DOWN, LEFT_UP, RIGHT_DOWN, RIGHT_UP -> InputValidationState.NOT_SAME_LANE_OR_COLUMN;
+            default -> InputValidationState.VALID;
+        };
+    }
+
+    private static boolean isNotValidCoordinateFormat(String coordinate) {
+        if (coordinate.length() < 2 || coordinate.charAt(0) < 'A' || coordinate.charAt(0) > 'Z') {
+            return true;
+        }
+        try {
+            Integer.parseInt(coordinate.substring(1));
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+package battleship.benchmark;
+
+import battleship.game.engine.ShipPlacement;
+import battleship.game.engine.strategy.FleetGenerator;
+import battleship.game.engine.strategy.RandomPlacementStrategy;
+import battleship.game.grid.BitboardGameGrid;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.ship.ShipType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FleetGenerationBenchmark {
+    private static final ShipType[] FLEET = ShipType.values();
+
+    @Param({"10", "26"})
+    public int gridSize;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final int[] frontCells = new int[FLEET.length];
+    private final int[] rearCells = new int[FLEET.length];
+    private FleetGenerator generator;
+    private RandomPlacementStrategy naiveStrategy;
+
+    @Setup
+    public void setUp() {
+        generator = new FleetGenerator(gridSize, FLEET);
+        naiveStrategy = new RandomPlacementStrategy(random.split());
+    }
+
+    @Benchmark
+    public int[] generateFleet() {
+        generator.generate(random, frontCells, rearCells);
+        return frontCells;
+    }
+
+    @Benchmark
+    public GameGrid generateFleetOntoGrid() {
+        GameGrid grid = new BitboardGameGrid(gridSize);
+        generator.generate(random, frontCells, rearCells);
+        for (int i = 0; i < FLEET.length; i++) {
+            grid.addShip(frontCells[i], rearCells[i], FLEET[i]);
+        }
+        return grid;
+    }
+
+    @Benchmark
+    public GameGrid retryUntilShipPlaced() {
+        GameGrid grid = new BitboardGameGrid(gridSize);
+        naiveStrategy.onPlacementStarted(grid);
+        for (ShipType shipType : FLEET) {
+            ShipPlacement placement;
+            do {
+                placement = naiveStrategy.nextPlacement(shipType);
+            } while (grid.addShip(placement.frontCell(), placement.rearCell(), shipType)
+                    != GridModificationResult.SHIP_PLACED);
+        }
+        return grid;
+    }
+}
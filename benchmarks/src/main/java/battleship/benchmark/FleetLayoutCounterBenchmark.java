@@ -0,0 +1,69 @@
+package battleship.benchmark;
+
+import battleship.game.analytics.FleetLayoutCounter;
+import battleship.game.engine.ShipPlacement;
+import battleship.game.engine.strategy.RandomFleetPlacementStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.rules.GameRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class FleetLayoutCounterBenchmark {
+    private static final int OBSERVED_SHOTS_PERCENT = 25;
+
+    @Param({"6", "7", "8", "9", "10", "11", "12"})
+    public int gridSize;
+
+    private FleetLayoutCounter counter;
+    private byte[] observations;
+
+    @Setup
+    public void setUp() {
+        GameRules rules = new GameRules(gridSize, GameRules.STANDARD.getFleet());
+        counter = new FleetLayoutCounter(rules);
+        SplittableRandom random = new SplittableRandom(gridSize);
+        GameGrid grid = rules.createGameGrid();
+        RandomFleetPlacementStrategy placement = new RandomFleetPlacementStrategy(random.split(), rules);
+        if (counter.countLayouts().signum() > 0) {
+            placement.onPlacementStarted(grid);
+            for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+                ShipPlacement shipPlacement = placement.nextPlacement(rules.getShipType(ship));
+                grid.addShip(shipPlacement.frontCell(), shipPlacement.rearCell(), rules.getShipType(ship));
+            }
+        }
+        int[] shotOrder = GameGridBenchmark.createShotOrder(rules.getNumberOfCells(), random);
+        for (int shot = 0; shot < rules.getNumberOfCells() * OBSERVED_SHOTS_PERCENT / 100; shot++) {
+            grid.registerShoot(shotOrder[shot]);
+        }
+        observations = FleetLayoutCounter.observe(grid);
+    }
+
+    @Benchmark
+    public BigInteger countLayouts() {
+        return counter.countLayouts();
+    }
+
+    @Benchmark
+    public FleetLayoutCounter.LayoutCount countLayoutsByCellAfterShots() {
+        return counter.countLayoutsByCell(observations);
+    }
+}
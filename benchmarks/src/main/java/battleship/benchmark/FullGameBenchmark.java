@@ -0,0 +1,61 @@
+package battleship.benchmark;
+
+import battleship.game.engine.GameEngine;
+import battleship.game.engine.GameResult;
+import battleship.game.engine.PlacementStrategy;
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.engine.strategy.ProbabilityDensityShootingStrategy;
+import battleship.game.engine.strategy.RandomPlacementStrategy;
+import battleship.game.engine.strategy.RandomShootingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FullGameBenchmark {
+    @Param({"random", "probabilityDensity"})
+    public String shooter;
+
+    private GameEngine engine;
+    private PlacementStrategy placementPlayer1;
+    private PlacementStrategy placementPlayer2;
+    private ShootingStrategy shootingPlayer1;
+    private ShootingStrategy shootingPlayer2;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        engine = new GameEngine();
+        placementPlayer1 = new RandomPlacementStrategy(random.split());
+        placementPlayer2 = new RandomPlacementStrategy(random.split());
+        shootingPlayer1 = createShooter(random.split());
+        shootingPlayer2 = createShooter(random.split());
+    }
+
+    private ShootingStrategy createShooter(SplittableRandom random) {
+        return "random".equals(shooter)
+                ? new RandomShootingStrategy(random)
+                : new ProbabilityDensityShootingStrategy();
+    }
+
+    @Benchmark
+    public GameResult playGame() {
+        return engine.play(placementPlayer1, placementPlayer2, shootingPlayer1, shootingPlayer2);
+    }
+}
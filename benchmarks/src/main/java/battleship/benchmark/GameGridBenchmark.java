@@ -0,0 +1,106 @@
+package battleship.benchmark;
+
+import battleship.game.grid.BitboardGameGrid;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.grid.SquareArrayGameGrid;
+import battleship.game.ship.ShipType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameGridBenchmark {
+    static final int GRID_SIZE = 10;
+    static final int[][] FLEET_PLACEMENTS = {
+            {0, 4},
+            {22, 25},
+            {47, 67},
+            {70, 72},
+            {89, 99}
+    };
+
+    @Param({"bitboard", "squareArray"})
+    public String implementation;
+
+    private GameGrid shotGrid;
+    private int[] shotOrder;
+    private int nextShot;
+
+    @Setup
+    public void setUp() {
+        shotOrder = createShotOrder(GRID_SIZE * GRID_SIZE, new SplittableRandom(42));
+        shotGrid = createGridWithFleet(implementation);
+        for (int cellIndex : shotOrder) {
+            shotGrid.registerShoot(cellIndex);
+        }
+    }
+
+    @Benchmark
+    public GameGrid addShip() {
+        return createGridWithFleet(implementation);
+    }
+
+    @Benchmark
+    public GridModificationResult registerShoot() {
+        int cellIndex = shotOrder[nextShot];
+        nextShot = nextShot + 1 == shotOrder.length ? 0 : nextShot + 1;
+        return shotGrid.registerShoot(cellIndex);
+    }
+
+    @Benchmark
+    public void placeFleetAndShootUntilWinner(Blackhole blackhole) {
+        GameGrid grid = createGridWithFleet(implementation);
+        for (int cellIndex : shotOrder) {
+            GridModificationResult result = grid.registerShoot(cellIndex);
+            blackhole.consume(result);
+            if (result == GridModificationResult.WINNER) {
+                break;
+            }
+        }
+    }
+
+    static GameGrid createGrid(String implementation) {
+        return "bitboard".equals(implementation) ? new BitboardGameGrid(GRID_SIZE) : new SquareArrayGameGrid();
+    }
+
+    static GameGrid createGridWithFleet(String implementation) {
+        GameGrid grid = createGrid(implementation);
+        ShipType[] fleet = ShipType.values();
+        for (int i = 0; i < fleet.length; i++) {
+            grid.addShip(FLEET_PLACEMENTS[i][0], FLEET_PLACEMENTS[i][1], fleet[i]);
+        }
+        return grid;
+    }
+
+    static int[] createShotOrder(int numberOfCells, SplittableRandom random) {
+        int[] shotOrder = new int[numberOfCells];
+        for (int i = 0; i < numberOfCells; i++) {
+            shotOrder[i] = i;
+        }
+        for (int i = numberOfCells - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = shotOrder[i];
+            shotOrder[i] = shotOrder[j];
+            shotOrder[j] = swap;
+        }
+        return shotOrder;
+    }
+}
@@ -0,0 +1,91 @@
+package battleship.benchmark;
+
+import battleship.game.engine.strategy.FleetGenerator;
+import battleship.game.grid.BitboardGameGrid;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GameGridSnapshot;
+import battleship.game.rules.GameRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameGridSnapshotBenchmark {
+    @Param({"10", "100"})
+    public int gridSize;
+
+    private GameRules rules;
+    private int[] frontCells;
+    private int[] rearCells;
+    private int[] shots;
+    private GameGrid grid;
+    private GameGrid target;
+    private GameGridSnapshot snapshot;
+    private byte[] serializedSnapshot;
+
+    @Setup
+    public void setUp() {
+        rules = GameRules.withRepeatedFleet(gridSize, gridSize / 10);
+        frontCells = new int[rules.getNumberOfShips()];
+        rearCells = new int[rules.getNumberOfShips()];
+        SplittableRandom random = new SplittableRandom(42);
+        new FleetGenerator(gridSize, rules.getFleet()).generate(random, frontCells, rearCells);
+        shots = new int[rules.getNumberOfCells() / 2];
+        for (int shot = 0; shot < shots.length; shot++) {
+            shots[shot] = random.nextInt(rules.getNumberOfCells());
+        }
+        grid = rebuildFromMoves();
+        target = new BitboardGameGrid(rules);
+        snapshot = grid.snapshot();
+        serializedSnapshot = snapshot.toByteArray();
+    }
+
+    @Benchmark
+    public GameGridSnapshot takeSnapshot() {
+        return grid.snapshot();
+    }
+
+    @Benchmark
+    public GameGrid restoreIntoExistingGrid() {
+        target.restore(snapshot);
+        return target;
+    }
+
+    @Benchmark
+    public GameGrid restoreIntoNewGrid() {
+        return new BitboardGameGrid(snapshot);
+    }
+
+    @Benchmark
+    public GameGrid restoreFromBytes() {
+        return new BitboardGameGrid(GameGridSnapshot.fromByteArray(serializedSnapshot));
+    }
+
+    @Benchmark
+    public GameGrid rebuildFromMoves() {
+        GameGrid rebuilt = new BitboardGameGrid(rules);
+        for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+            rebuilt.addShip(frontCells[ship], rearCells[ship], rules.getShipType(ship));
+        }
+        for (int shot : shots) {
+            rebuilt.registerShoot(shot);
+        }
+        return rebuilt;
+    }
+}
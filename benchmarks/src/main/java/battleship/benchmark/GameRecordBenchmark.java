@@ -0,0 +1,88 @@
+package battleship.benchmark;
+
+import battleship.game.engine.GameEngine;
+import battleship.game.engine.strategy.ProbabilityDensityShootingStrategy;
+import battleship.game.engine.strategy.RandomFleetPlacementStrategy;
+import battleship.game.engine.strategy.RandomShootingStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.record.GameRecord;
+import battleship.game.record.GameRecordReader;
+import battleship.game.record.GameRecordWriter;
+import battleship.game.rules.GameRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameRecordBenchmark {
+    private static final int NUMBER_OF_GAMES = 10_000;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("battleship-records", ".bin");
+        GameEngine engine = new GameEngine(GameRules.STANDARD, true);
+        SplittableRandom random = new SplittableRandom(42);
+        try (GameRecordWriter writer = new GameRecordWriter(file)) {
+            for (int game = 0; game < NUMBER_OF_GAMES; game++) {
+                writer.append(GameRules.STANDARD, engine.play(
+                        new RandomFleetPlacementStrategy(random.split()),
+                        new RandomFleetPlacementStrategy(random.split()),
+                        new RandomShootingStrategy(random.split()),
+                        new ProbabilityDensityShootingStrategy()));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long scanShots() throws IOException {
+        long hits = 0;
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            while (reader.next()) {
+                GameRecord record = reader.getRecord();
+                for (int shot = 0; shot < record.getNumberOfShots(); shot++) {
+                    hits += record.getShotResult(shot).ordinal();
+                }
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public long replayGames() throws IOException {
+        long gridSizes = 0;
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            while (reader.next()) {
+                GameGrid[] grids = reader.getRecord().replay();
+                gridSizes += grids[0].getGridSize();
+            }
+        }
+        return gridSizes;
+    }
+}
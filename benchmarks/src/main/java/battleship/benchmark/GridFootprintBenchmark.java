@@ -0,0 +1,77 @@
+package battleship.benchmark;
+
+import battleship.game.engine.strategy.FleetGenerator;
+import battleship.game.grid.BitboardGameGrid;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.SparseGameGrid;
+import battleship.game.rules.GameRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class GridFootprintBenchmark {
+    @Param({"100", "1000", "3000"})
+    public int gridSize;
+
+    @Param({"bitboard", "sparse"})
+    public String storage;
+
+    private GameRules rules;
+    private int[] frontCells;
+    private int[] rearCells;
+
+    @Setup
+    public void setUp() {
+        rules = GameRules.withRepeatedFleet(gridSize, 4);
+        frontCells = new int[rules.getNumberOfShips()];
+        rearCells = new int[rules.getNumberOfShips()];
+        new FleetGenerator(gridSize, rules.getFleet()).generate(new SplittableRandom(42), frontCells, rearCells);
+    }
+
+    @Benchmark
+    public GameGrid createGridWithFleet() {
+        GameGrid grid = createGameGrid();
+        placeFleet(grid);
+        return grid;
+    }
+
+    @Benchmark
+    public GameGrid sinkFleet() {
+        GameGrid grid = createGameGrid();
+        placeFleet(grid);
+        for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+            int step = rearCells[ship] - frontCells[ship] < gridSize ? 1 : gridSize;
+            for (int cell = frontCells[ship]; cell <= rearCells[ship]; cell += step) {
+                grid.registerShoot(cell);
+            }
+        }
+        return grid;
+    }
+
+    private GameGrid createGameGrid() {
+        return "bitboard".equals(storage) ? new BitboardGameGrid(rules) : new SparseGameGrid(rules);
+    }
+
+    private void placeFleet(GameGrid grid) {
+        for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+            grid.addShip(frontCells[ship], rearCells[ship], rules.getShipType(ship));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package battleship.benchmark;
+
+import battleship.game.engine.GameEngine;
+import battleship.game.engine.GameResult;
+import battleship.game.engine.PlacementStrategy;
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.engine.strategy.RandomFleetPlacementStrategy;
+import battleship.game.engine.strategy.RandomShootingStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.rules.GameRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LargeBoardBenchmark {
+    @Param({"100", "1000"})
+    public int gridSize;
+
+    @Param({"1", "20"})
+    public int numberOfFleets;
+
+    private GameRules rules;
+    private GameEngine engine;
+    private PlacementStrategy placementPlayer1;
+    private PlacementStrategy placementPlayer2;
+    private ShootingStrategy shootingPlayer1;
+    private ShootingStrategy shootingPlayer2;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        rules = GameRules.withRepeatedFleet(gridSize, numberOfFleets);
+        engine = new GameEngine(rules, false);
+        placementPlayer1 = new RandomFleetPlacementStrategy(random.split(), rules);
+        placementPlayer2 = new RandomFleetPlacementStrategy(random.split(), rules);
+        shootingPlayer1 = new RandomShootingStrategy(random.split());
+        shootingPlayer2 = new RandomShootingStrategy(random.split());
+    }
+
+    @Benchmark
+    public GameGrid createGameGrid() {
+        return rules.createGameGrid();
+    }
+
+    @Benchmark
+    public GameResult playGame() {
+        return engine.play(placementPlayer1, placementPlayer2, shootingPlayer1, shootingPlayer2);
+    }
+}
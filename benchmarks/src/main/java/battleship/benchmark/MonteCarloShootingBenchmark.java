@@ -0,0 +1,78 @@
+package battleship.benchmark;
+
+import battleship.game.engine.ShipPlacement;
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.engine.strategy.MonteCarloShootingStrategy;
+import battleship.game.engine.strategy.ProbabilityDensityShootingStrategy;
+import battleship.game.engine.strategy.RandomFleetPlacementStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class MonteCarloShootingBenchmark {
+    private static final long FLEET_SEED = 11;
+    private static final double Z_95 = 1.959964;
+
+    public static void main(String[] args) {
+        int numberOfGames = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        GameRules rules = GameRules.STANDARD;
+        System.out.printf("%d games per row, %d available processors%n", numberOfGames,
+                Runtime.getRuntime().availableProcessors());
+        run("probability density", rules, numberOfGames, new ProbabilityDensityShootingStrategy(rules));
+        for (int threads : new int[] {1, 2, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            for (MonteCarloShootingStrategy.Objective objective : MonteCarloShootingStrategy.Objective.values()) {
+                for (long budgetMicros : new long[] {100, 1000, 5000}) {
+                    MonteCarloShootingStrategy strategy = new MonteCarloShootingStrategy(rules,
+                            new SplittableRandom(1), TimeUnit.MICROSECONDS.toNanos(budgetMicros), pool, objective);
+                    String name = "monte carlo " + objective.name().toLowerCase().replace('_', ' ') + " "
+                            + budgetMicros + "us x" + threads;
+                    run(name, rules, numberOfGames, strategy);
+                }
+            }
+            pool.shutdown();
+        }
+    }
+
+    private static void run(String name, GameRules rules, int numberOfGames, ShootingStrategy strategy) {
+        SplittableRandom fleetRandom = new SplittableRandom(FLEET_SEED);
+        long shots = 0;
+        long squaredShots = 0;
+        long decisionNanos = 0;
+        for (int game = 0; game < numberOfGames; game++) {
+            GameGrid grid = rules.createGameGrid();
+            placeFleet(grid, rules, new RandomFleetPlacementStrategy(fleetRandom.split(), rules));
+            strategy.onGameStarted(grid);
+            int gameShots = 0;
+            GridModificationResult result;
+            do {
+                long start = System.nanoTime();
+                int cellIndex = strategy.nextShot();
+                decisionNanos += System.nanoTime() - start;
+                result = grid.registerShoot(cellIndex);
+                strategy.onShotResult(cellIndex, result);
+                gameShots++;
+            } while (result != GridModificationResult.WINNER);
+            shots += gameShots;
+            squaredShots += (long) gameShots * gameShots;
+        }
+        double mean = (double) shots / numberOfGames;
+        double variance = ((double) squaredShots - numberOfGames * mean * mean) / (numberOfGames - 1);
+        double samples = strategy instanceof MonteCarloShootingStrategy monteCarlo
+                ? monteCarlo.getMeanSamplesPerDecision() : 0;
+        System.out.printf("%-40s %6.2f +- %4.2f shots to win  %9.1f us/decision  %8.0f samples/decision%n",
+                name, mean, Z_95 * Math.sqrt(variance / numberOfGames), decisionNanos / 1e3 / shots, samples);
+    }
+
+    private static void placeFleet(GameGrid grid, GameRules rules, RandomFleetPlacementStrategy placement) {
+        placement.onPlacementStarted(grid);
+        for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+            ShipPlacement shipPlacement = placement.nextPlacement(rules.getShipType(ship));
+            grid.addShip(shipPlacement.frontCell(), shipPlacement.rearCell(), rules.getShipType(ship));
+        }
+    }
+}
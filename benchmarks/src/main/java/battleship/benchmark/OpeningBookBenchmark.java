@@ -0,0 +1,75 @@
+package battleship.benchmark;
+
+import battleship.game.book.OpeningBook;
+import battleship.game.book.OpeningBookBuilder;
+import battleship.game.book.OpeningBookShootingStrategy;
+import battleship.game.engine.ShipPlacement;
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.engine.strategy.ProbabilityDensityShootingStrategy;
+import battleship.game.engine.strategy.RandomFleetPlacementStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+public class OpeningBookBenchmark {
+    private static final int WARMUP_GAMES = 5_000;
+    private static final int CAPACITY = 1 << 20;
+
+    public static void main(String[] args) {
+        int numberOfGames = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int numberOfTrainingGames = args.length > 1 ? Integer.parseInt(args[1]) : 40_000;
+        GameRules rules = GameRules.STANDARD;
+        OpeningBook book = new OpeningBook(rules, CAPACITY);
+        book.registerMBean(ManagementFactory.getPlatformMBeanServer(), "benchmark");
+        long start = System.nanoTime();
+        new OpeningBookBuilder(book, random -> new ProbabilityDensityShootingStrategy(rules), new ForkJoinPool(1))
+                .populate(numberOfTrainingGames, 0);
+        System.out.printf("%d openings simulated in %.2f s: %s%n", numberOfTrainingGames,
+                (System.nanoTime() - start) / 1e9, book);
+
+        run("probability density", rules, book, numberOfGames, new ProbabilityDensityShootingStrategy(rules));
+        run("opening book", rules, book, numberOfGames,
+                new OpeningBookShootingStrategy(book, new ProbabilityDensityShootingStrategy(rules)));
+        System.out.println(book);
+    }
+
+    private static void run(String name, GameRules rules, OpeningBook book, int numberOfGames,
+                            ShootingStrategy strategy) {
+        playGames(strategy, rules, book.getMaximumDepth(), WARMUP_GAMES, 1);
+        long[] totals = playGames(strategy, rules, book.getMaximumDepth(), numberOfGames, 2);
+        System.out.printf("%-20s %8.1f ns/opening decision  %6.2f ms per %d games%n", name,
+                (double) totals[1] / totals[0], totals[1] / 1e6, numberOfGames);
+    }
+
+    private static long[] playGames(ShootingStrategy strategy, GameRules rules, int maximumDepth, int numberOfGames,
+                                    long seed) {
+        RandomFleetPlacementStrategy placement = new RandomFleetPlacementStrategy(new SplittableRandom(seed), rules);
+        long shots = 0;
+        long decisionNanos = 0;
+        for (int game = 0; game < numberOfGames; game++) {
+            GameGrid grid = rules.createGameGrid();
+            placement.onPlacementStarted(grid);
+            for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+                ShipPlacement shipPlacement = placement.nextPlacement(rules.getShipType(ship));
+                grid.addShip(shipPlacement.frontCell(), shipPlacement.rearCell(), rules.getShipType(ship));
+            }
+            strategy.onGameStarted(grid);
+            GridModificationResult result;
+            int depth = 0;
+            do {
+                strategy.onTurnStarted();
+                long start = System.nanoTime();
+                int cellIndex = strategy.nextShot();
+                decisionNanos += System.nanoTime() - start;
+                result = grid.registerShoot(cellIndex);
+                strategy.onShotResult(cellIndex, result);
+                shots++;
+            } while (result != GridModificationResult.WINNER && ++depth < maximumDepth);
+        }
+        return new long[] {shots, decisionNanos};
+    }
+}
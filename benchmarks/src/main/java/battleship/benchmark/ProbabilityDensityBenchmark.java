@@ -0,0 +1,67 @@
+package battleship.benchmark;
+
+import battleship.game.engine.ShipPlacement;
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.engine.strategy.ProbabilityDensityShootingStrategy;
+import battleship.game.engine.strategy.RandomPlacementStrategy;
+import battleship.game.engine.strategy.RandomShootingStrategy;
+import battleship.game.grid.BitboardGameGrid;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.ship.ShipType;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+public class ProbabilityDensityBenchmark {
+    private static final int WARMUP_GAMES = 20_000;
+
+    public static void main(String[] args) {
+        int numberOfGames = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        for (int gridSize : new int[] {10, 26}) {
+            run("random", gridSize, numberOfGames, () -> new RandomShootingStrategy(new SplittableRandom(1)));
+            run("probability density", gridSize, numberOfGames, ProbabilityDensityShootingStrategy::new);
+        }
+    }
+
+    private static void run(String name, int gridSize, int numberOfGames, Supplier<ShootingStrategy> factory) {
+        ShootingStrategy strategy = factory.get();
+        RandomPlacementStrategy placement = new RandomPlacementStrategy(new SplittableRandom(gridSize));
+        playGames(strategy, placement, gridSize, WARMUP_GAMES);
+        long[] totals = playGames(strategy, placement, gridSize, numberOfGames);
+        System.out.printf("%-20s %2dx%-2d  %8.1f ns/decision  %6.2f shots to win%n", name, gridSize, gridSize,
+                (double) totals[1] / totals[0], (double) totals[0] / numberOfGames);
+    }
+
+    private static long[] playGames(ShootingStrategy strategy, RandomPlacementStrategy placement, int gridSize,
+                                    int numberOfGames) {
+        long shots = 0;
+        long decisionNanos = 0;
+        for (int game = 0; game < numberOfGames; game++) {
+            GameGrid grid = new BitboardGameGrid(gridSize);
+            placeFleet(grid, placement);
+            strategy.onGameStarted(grid);
+            GridModificationResult result;
+            do {
+                long start = System.nanoTime();
+                int cellIndex = strategy.nextShot();
+                decisionNanos += System.nanoTime() - start;
+                result = grid.registerShoot(cellIndex);
+                strategy.onShotResult(cellIndex, result);
+                shots++;
+            } while (result != GridModificationResult.WINNER);
+        }
+        return new long[] {shots, decisionNanos};
+    }
+
+    private static void placeFleet(GameGrid grid, RandomPlacementStrategy placement) {
+        placement.onPlacementStarted(grid);
+        for (ShipType shipType : ShipType.values()) {
+            ShipPlacement shipPlacement;
+            do {
+                shipPlacement = placement.nextPlacement(shipType);
+            } while (grid.addShip(shipPlacement.frontCell(), shipPlacement.rearCell(), shipType)
+                    != GridModificationResult.SHIP_PLACED);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package battleship.benchmark;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.printer.GameGridPrintHelper;
+import battleship.game.grid.printer.GameGridRenderer;
+import battleship.game.grid.printer.GameGridViewPerspective;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderingBenchmark {
+    @Param({"ALLY_PERSPECTIVE", "ENEMY_PERSPECTIVE", "GOD_PERSPECTIVE"})
+    public GameGridViewPerspective perspective;
+
+    private final GameGridRenderer renderer = new GameGridRenderer();
+    private GameGrid grid;
+
+    @Setup
+    public void setUp() {
+        grid = GameGridBenchmark.createGridWithFleet("bitboard");
+        int[] shotOrder = GameGridBenchmark.createShotOrder(GameGridBenchmark.GRID_SIZE * GameGridBenchmark.GRID_SIZE,
+                new SplittableRandom(7));
+        for (int i = 0; i < shotOrder.length / 2; i++) {
+            grid.registerShoot(shotOrder[i]);
+        }
+    }
+
+    @Benchmark
+    public String generateGameGridView() {
+        return GameGridPrintHelper.generateGameGridView(grid, perspective);
+    }
+
+    @Benchmark
+    public int renderIntoReusableBuffer() {
+        return renderer.reset().appendView(grid, perspective).length();
+    }
+}
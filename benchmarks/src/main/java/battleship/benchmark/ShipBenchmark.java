@@ -0,0 +1,40 @@
+package battleship.benchmark;
+
+import battleship.game.ship.Ship;
+import battleship.game.ship.ShipType;
+import battleship.game.square.Square;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShipBenchmark {
+    private final Square[] squares = {
+            new Square(0, 0), new Square(0, 1), new Square(0, 2), new Square(0, 3), new Square(0, 4)
+    };
+
+    @Benchmark
+    public boolean addAndDestroyAllSegments() {
+        Ship ship = new Ship(ShipType.AIRCRAFT_CARRIER);
+        for (Square square : squares) {
+            ship.addSquare(square);
+        }
+        for (int segment = 0; segment < squares.length; segment++) {
+            ship.destroySegment(segment);
+        }
+        return ship.isAlive();
+    }
+}
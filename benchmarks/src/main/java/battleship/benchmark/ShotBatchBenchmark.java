@@ -0,0 +1,74 @@
+package battleship.benchmark;
+
+import battleship.game.grid.BitboardGameGrid;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GameGridSnapshot;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.ship.ShipType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShotBatchBenchmark {
+    private static final int GRID_SIZE = GameGridBenchmark.GRID_SIZE;
+
+    private GameGrid grid;
+    private GameGridSnapshot fleet;
+    private int[] shotOrder;
+    private byte[] results;
+
+    @Setup
+    public void setUp() {
+        grid = new BitboardGameGrid(GRID_SIZE);
+        ShipType[] shipTypes = ShipType.values();
+        for (int i = 0; i < shipTypes.length; i++) {
+            grid.addShip(GameGridBenchmark.FLEET_PLACEMENTS[i][0], GameGridBenchmark.FLEET_PLACEMENTS[i][1],
+                    shipTypes[i]);
+        }
+        fleet = grid.snapshot();
+        shotOrder = GameGridBenchmark.createShotOrder(GRID_SIZE * GRID_SIZE, new SplittableRandom(42));
+        results = new byte[shotOrder.length];
+    }
+
+    @Benchmark
+    public int singleShots() {
+        grid.restore(fleet);
+        int shots = 0;
+        for (int cellIndex : shotOrder) {
+            GridModificationResult result = grid.registerShoot(cellIndex);
+            results[shots++] = (byte) result.ordinal();
+            if (result == GridModificationResult.WINNER) {
+                break;
+            }
+        }
+        return shots;
+    }
+
+    @Benchmark
+    public int batchedShots() {
+        grid.restore(fleet);
+        return grid.registerShoots(shotOrder, results);
+    }
+
+    @Benchmark
+    public int restoreOnly() {
+        grid.restore(fleet);
+        return results.length;
+    }
+}
@@ -0,0 +1,103 @@
+package battleship.benchmark;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GameGridSnapshot;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.grid.printer.GameGridRenderer;
+import battleship.game.grid.printer.GameGridViewPerspective;
+import battleship.game.spectator.SpectatorFeed;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static battleship.util.Constants.GameGridPrinterConstants.GAME_GRIDS_SEPARATOR;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpectatorFeedBenchmark {
+    private static final int VIEWER_BUFFER_SIZE = 1024;
+
+    @Param({"1", "100", "1000"})
+    public int viewers;
+
+    private final GameGridRenderer renderer = new GameGridRenderer();
+    private GameGrid gridPlayer1;
+    private GameGrid gridPlayer2;
+    private GameGridSnapshot fleet;
+    private int[] shotOrder;
+    private int nextShot;
+    private SpectatorFeed feed;
+    private SpectatorFeed.Subscription[] subscriptions;
+    private ByteBuffer[] viewerBuffers;
+
+    @Setup
+    public void setUp() {
+        gridPlayer1 = GameGridBenchmark.createGridWithFleet("bitboard");
+        gridPlayer2 = GameGridBenchmark.createGridWithFleet("bitboard");
+        fleet = gridPlayer2.snapshot();
+        shotOrder = GameGridBenchmark.createShotOrder(GameGridBenchmark.GRID_SIZE * GameGridBenchmark.GRID_SIZE,
+                new SplittableRandom(3));
+        feed = new SpectatorFeed(gridPlayer1, gridPlayer2, GameGridViewPerspective.ENEMY_PERSPECTIVE);
+        subscriptions = new SpectatorFeed.Subscription[viewers];
+        viewerBuffers = new ByteBuffer[viewers];
+        for (int i = 0; i < viewers; i++) {
+            subscriptions[i] = feed.subscribe();
+            viewerBuffers[i] = ByteBuffer.allocate(VIEWER_BUFFER_SIZE);
+        }
+    }
+
+    @Benchmark
+    public int deltaFanOut() {
+        int cellIndex = shoot();
+        feed.publish(2, cellIndex, cellIndex);
+        int sentBytes = 0;
+        for (int i = 0; i < viewers; i++) {
+            sentBytes += subscriptions[i].drainTo(viewerBuffers[i].clear());
+        }
+        return sentBytes;
+    }
+
+    @Benchmark
+    public int fullBoardPerViewer() {
+        shoot();
+        renderer.reset()
+                .appendView(gridPlayer2, GameGridViewPerspective.ENEMY_PERSPECTIVE)
+                .appendNewLine()
+                .appendLine(GAME_GRIDS_SEPARATOR)
+                .appendView(gridPlayer1, GameGridViewPerspective.ENEMY_PERSPECTIVE)
+                .appendNewLine();
+        int sentBytes = 0;
+        for (int i = 0; i < viewers; i++) {
+            ByteBuffer target = viewerBuffers[i];
+            target.clear();
+            sentBytes += renderer.writeTo(target, 0);
+        }
+        return sentBytes;
+    }
+
+    private int shoot() {
+        int cellIndex = shotOrder[nextShot++];
+        if (gridPlayer2.registerShoot(cellIndex) == GridModificationResult.WINNER || nextShot == shotOrder.length) {
+            gridPlayer2.restore(fleet);
+            nextShot = 0;
+            feed.publishKeyframe();
+        }
+        return cellIndex;
+    }
+}
@@ -0,0 +1,63 @@
+package battleship.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchGameRunnerTest {
+    private static final String FIXTURES = "/battleship/game/batch/";
+
+    @Test
+    void transcriptsMatchTheGoldenFiles() throws IOException {
+        BatchGameRunner runner = new BatchGameRunner(null, getFixture("golden"), new ForkJoinPool(2));
+        List<BatchGameRunner.ScriptResult> results = runner.run(getFixture("scripts"));
+
+        assertEquals(2, results.size());
+        BatchGameRunner.ScriptResult abandonedGame = results.get(0);
+        assertEquals("abandoned-game.txt", abandonedGame.script().getFileName().toString());
+        assertFalse(abandonedGame.isFinished());
+        assertEquals(BatchGameRunner.Verdict.MATCHED, abandonedGame.verdict(), "first difference at byte " +
+                abandonedGame.mismatchOffset());
+        BatchGameRunner.ScriptResult finishedGame = results.get(1);
+        assertEquals("finished-game.txt", finishedGame.script().getFileName().toString());
+        assertTrue(finishedGame.isFinished());
+        assertEquals(BatchGameRunner.Verdict.MATCHED, finishedGame.verdict(), "first difference at byte " +
+                finishedGame.mismatchOffset());
+    }
+
+    @Test
+    void driftAndMissingGoldenFilesAreReported(@TempDir Path directory) throws IOException {
+        Path golden = Files.createDirectory(directory.resolve("golden"));
+        Path output = directory.resolve("output");
+        byte[] transcript = Files.readAllBytes(getFixture("golden").resolve("finished-game.out"));
+        transcript[transcript.length / 2] ^= 1;
+        Files.write(golden.resolve("finished-game.out"), transcript);
+
+        List<BatchGameRunner.ScriptResult> results =
+                new BatchGameRunner(output, golden, new ForkJoinPool(1)).run(getFixture("scripts"));
+
+        assertEquals(BatchGameRunner.Verdict.MISSING_GOLDEN, results.get(0).verdict());
+        assertEquals(BatchGameRunner.Verdict.MISMATCHED, results.get(1).verdict());
+        assertEquals(transcript.length / 2, results.get(1).mismatchOffset());
+        assertEquals(results.get(1).transcriptLength(), Files.size(output.resolve("finished-game.out")));
+    }
+
+    private static Path getFixture(String name) {
+        try {
+            return Paths.get(BatchGameRunnerTest.class.getResource(FIXTURES + name).toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package battleship.game;
+
+import battleship.game.grid.BitboardGameGrid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BattleshipGameTest {
+    private static final byte[] EMPTY_GRID = new BitboardGameGrid().snapshot().toByteArray();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rejectsTruncatedSaves() throws IOException {
+        assertRejected(new byte[]{0, 0});
+        byte[] save = save(1).array();
+        assertRejected(Arrays.copyOf(save, Integer.BYTES + 2));
+        assertRejected(Arrays.copyOf(save, save.length - 1));
+    }
+
+    @Test
+    void rejectsSnapshotLengthsOutsideTheSave() throws IOException {
+        assertRejected(save(1).putInt(Integer.BYTES, -1).array());
+        assertRejected(save(1).putInt(Integer.BYTES, Integer.MAX_VALUE).array());
+    }
+
+    @Test
+    void rejectsUnknownNextPlayer() throws IOException {
+        for (int nextPlayer : new int[]{0, 3, -1}) {
+            assertRejected(save(nextPlayer).array());
+        }
+    }
+
+    @Test
+    void rejectsTrailingBytes() throws IOException {
+        byte[] save = save(1).array();
+        assertRejected(Arrays.copyOf(save, save.length + 1));
+    }
+
+    private static ByteBuffer save(int nextPlayer) {
+        return ByteBuffer.allocate(3 * Integer.BYTES + 2 * EMPTY_GRID.length)
+                .putInt(nextPlayer)
+                .putInt(EMPTY_GRID.length).put(EMPTY_GRID)
+                .putInt(EMPTY_GRID.length).put(EMPTY_GRID);
+    }
+
+    private void assertRejected(byte[] content) throws IOException {
+        Path saveFile = Files.write(directory.resolve("battleship.save"), content);
+        BattleshipGame game = new BattleshipGame(saveFile, () -> "",
+                new PrintStream(new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, game::play);
+    }
+}
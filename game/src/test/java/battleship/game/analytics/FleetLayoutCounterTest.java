@@ -0,0 +1,135 @@
+package battleship.game.analytics;
+
+import battleship.game.grid.BitboardGameGrid;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static battleship.util.Constants.GameGridConstants.SHIP;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FleetLayoutCounterTest {
+    private static final ShipType AIRCRAFT_CARRIER = ShipType.AIRCRAFT_CARRIER;
+    private static final ShipType BATTLESHIP = ShipType.BATTLESHIP;
+    private static final ShipType SUBMARINE = ShipType.SUBMARINE;
+    private static final ShipType CRUISER = ShipType.CRUISER;
+    private static final ShipType DESTROYER = ShipType.DESTROYER;
+
+    @Test
+    void unobservedCountsMatchBruteForce() {
+        assertMatchesBruteForce(4, new ShipType[]{DESTROYER}, new byte[16]);
+        assertMatchesBruteForce(4, new ShipType[]{DESTROYER, DESTROYER}, new byte[16]);
+        assertMatchesBruteForce(5, new ShipType[]{CRUISER, SUBMARINE, DESTROYER}, new byte[25]);
+        assertMatchesBruteForce(5, new ShipType[]{DESTROYER, DESTROYER, DESTROYER}, new byte[25]);
+        assertMatchesBruteForce(6, new ShipType[]{BATTLESHIP, CRUISER, DESTROYER, DESTROYER}, new byte[36]);
+        assertMatchesBruteForce(6, new ShipType[]{AIRCRAFT_CARRIER, BATTLESHIP, CRUISER}, new byte[36]);
+        assertMatchesBruteForce(6, ShipType.values(), new byte[36]);
+    }
+
+    @Test
+    void observedCountsMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(20240720);
+        ShipType[] fleet = {BATTLESHIP, SUBMARINE, DESTROYER, DESTROYER};
+        for (int trial = 0; trial < 20; trial++) {
+            byte[] observations = new byte[36];
+            for (int i = 0; i < 6; i++) {
+                observations[random.nextInt(observations.length)] = (byte) (1 + random.nextInt(2));
+            }
+            assertMatchesBruteForce(6, fleet, observations);
+        }
+    }
+
+    @Test
+    void observeReadsShotsFromTheEnemyGrid() {
+        GameGrid grid = new BitboardGameGrid(7);
+        grid.addShip(0, 3, CRUISER);
+        grid.addShip(14, 28, DESTROYER);
+        grid.registerShoot(0);
+        grid.registerShoot(30);
+        grid.registerShoot(48);
+        byte[] expected = new byte[49];
+        expected[0] = FleetLayoutCounter.OBSERVED_HIT;
+        expected[30] = FleetLayoutCounter.OBSERVED_MISS;
+        expected[48] = FleetLayoutCounter.OBSERVED_MISS;
+        assertArrayEquals(expected, FleetLayoutCounter.observe(grid));
+    }
+
+    private static void assertMatchesBruteForce(int gridSize, ShipType[] fleet, byte[] observations) {
+        BruteForce bruteForce = new BruteForce(gridSize, fleet, observations);
+        bruteForce.enumerate(new BitboardGameGrid(gridSize), 0, -1);
+        FleetLayoutCounter counter = new FleetLayoutCounter(new GameRules(gridSize, fleet));
+        String description = gridSize + "x" + gridSize + " " + Arrays.toString(fleet) + " " +
+                Arrays.toString(observations);
+        assertEquals(BigInteger.valueOf(bruteForce.layouts), counter.countLayouts(observations), description);
+        FleetLayoutCounter.LayoutCount count = counter.countLayoutsByCell(observations);
+        assertEquals(BigInteger.valueOf(bruteForce.layouts), count.layouts(), description);
+        for (int cellIndex = 0; cellIndex < gridSize * gridSize; cellIndex++) {
+            assertEquals(BigInteger.valueOf(bruteForce.layoutsByCell[cellIndex]), count.layoutsByCell()[cellIndex],
+                    description + " cell " + cellIndex);
+        }
+    }
+
+    private static final class BruteForce {
+        private final int gridSize;
+        private final ShipType[] fleet;
+        private final byte[] observations;
+        private final long[] layoutsByCell;
+        private long layouts;
+
+        private BruteForce(int gridSize, ShipType[] fleet, byte[] observations) {
+            this.gridSize = gridSize;
+            this.fleet = fleet.clone();
+            Arrays.sort(this.fleet);
+            this.observations = observations;
+            this.layoutsByCell = new long[gridSize * gridSize];
+        }
+
+        private void enumerate(GameGrid grid, int ship, int previousPlacement) {
+            if (ship == fleet.length) {
+                countLayout(grid);
+                return;
+            }
+            int length = fleet[ship].getSize();
+            int numberOfCells = gridSize * gridSize;
+            for (int placement = 0; placement < 2 * numberOfCells; placement++) {
+                if (ship > 0 && fleet[ship - 1] == fleet[ship] && placement <= previousPlacement) {
+                    continue;
+                }
+                int frontCell = placement % numberOfCells;
+                boolean isVertical = placement >= numberOfCells;
+                int lastLineOrColumn = (isVertical ? frontCell / gridSize : frontCell % gridSize) + length - 1;
+                if (lastLineOrColumn >= gridSize) {
+                    continue;
+                }
+                int rearCell = frontCell + (length - 1) * (isVertical ? gridSize : 1);
+                GameGrid nextGrid = new BitboardGameGrid(grid.snapshot());
+                if (nextGrid.addShip(frontCell, rearCell, fleet[ship]) == GridModificationResult.SHIP_PLACED) {
+                    enumerate(nextGrid, ship + 1, placement);
+                }
+            }
+        }
+
+        private void countLayout(GameGrid grid) {
+            for (int cellIndex = 0; cellIndex < observations.length; cellIndex++) {
+                boolean isShip = grid.getCellData(cellIndex).equals(SHIP);
+                if (observations[cellIndex] == FleetLayoutCounter.OBSERVED_MISS && isShip
+                        || observations[cellIndex] == FleetLayoutCounter.OBSERVED_HIT && !isShip) {
+                    return;
+                }
+            }
+            layouts++;
+            for (int cellIndex = 0; cellIndex < observations.length; cellIndex++) {
+                if (grid.getCellData(cellIndex).equals(SHIP)) {
+                    layoutsByCell[cellIndex]++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package battleship.game.analytics;
+
+import battleship.game.engine.GameEngine;
+import battleship.game.engine.strategy.ProbabilityDensityShootingStrategy;
+import battleship.game.engine.strategy.RandomFleetPlacementStrategy;
+import battleship.game.engine.strategy.RandomShootingStrategy;
+import battleship.game.record.GameRecordWriter;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameAnalyticsPipelineTest {
+    private static final GameRules RULES = GameRules.STANDARD;
+
+    @Test
+    void liveEventsMatchRecordedGames(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("games.bsr");
+        GameAnalytics live = new GameAnalytics(RULES.getGridSize());
+        GameEngine engine = new GameEngine(RULES, true, live);
+        SplittableRandom random = new SplittableRandom(20240714);
+        try (GameRecordWriter writer = new GameRecordWriter(file)) {
+            for (int game = 0; game < 500; game++) {
+                writer.append(RULES, engine.play(
+                        new RandomFleetPlacementStrategy(random.split(), RULES),
+                        new RandomFleetPlacementStrategy(random.split(), RULES),
+                        new RandomShootingStrategy(random.split()),
+                        new ProbabilityDensityShootingStrategy(RULES)));
+            }
+        }
+        GameAnalytics recorded = new GameAnalyticsPipeline(file, RULES.getGridSize()).update();
+
+        assertEquals(500, live.getNumberOfGames());
+        assertEquals(live.getNumberOfGames(), recorded.getNumberOfGames());
+        assertEquals(live.getNumberOfSkippedGames(), recorded.getNumberOfSkippedGames());
+        for (int player = 1; player <= 2; player++) {
+            assertEquals(live.getWins(player), recorded.getWins(player));
+        }
+        for (int cell = 0; cell < RULES.getNumberOfCells(); cell++) {
+            assertEquals(live.getShotCount(cell), recorded.getShotCount(cell));
+            assertEquals(live.getHitCount(cell), recorded.getHitCount(cell));
+            assertEquals(live.getOpeningShotCount(cell), recorded.getOpeningShotCount(cell));
+            assertEquals(live.getShipCellCount(cell), recorded.getShipCellCount(cell));
+        }
+        for (ShipType shipType : ShipType.values()) {
+            assertEquals(live.getSinkCount(shipType), recorded.getSinkCount(shipType));
+            assertEquals(live.getAverageShotsToSink(shipType), recorded.getAverageShotsToSink(shipType));
+        }
+    }
+
+    @Test
+    void failedUpdatesAreReportedAndTheScheduleKeepsRunning(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("games.bsr");
+        GameAnalyticsPipeline pipeline = new GameAnalyticsPipeline(file, 10);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch errors = new CountDownLatch(3);
+        CountDownLatch emitted = new CountDownLatch(1);
+        AtomicReference<Exception> firstError = new AtomicReference<>();
+        AtomicReference<GameAnalytics> analytics = new AtomicReference<>();
+        try {
+            ScheduledFuture<?> future = pipeline.emitPeriodically(scheduler, 5, TimeUnit.MILLISECONDS,
+                    update -> {
+                        analytics.set(update);
+                        emitted.countDown();
+                    },
+                    e -> {
+                        firstError.compareAndSet(null, e);
+                        errors.countDown();
+                    });
+
+            assertTrue(errors.await(10, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, firstError.get());
+            assertFalse(future.isDone());
+
+            new GameRecordWriter(file).close();
+            assertTrue(emitted.await(10, TimeUnit.SECONDS));
+            assertEquals(0, analytics.get().getNumberOfGames());
+            assertFalse(future.isDone());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
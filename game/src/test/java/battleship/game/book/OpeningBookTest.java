@@ -0,0 +1,85 @@
+package battleship.game.book;
+
+import battleship.game.engine.strategy.ProbabilityDensityShootingStrategy;
+import battleship.game.rules.GameRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpeningBookTest {
+    private static final GameRules RULES = GameRules.STANDARD;
+
+    @Test
+    void builderRejectsEmptyAndOversizedRuns() {
+        OpeningBookBuilder builder = new OpeningBookBuilder(new OpeningBook(RULES, 64),
+                random -> new ProbabilityDensityShootingStrategy(RULES), new ForkJoinPool(2));
+        assertThrows(IllegalArgumentException.class, () -> builder.populate(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.populate(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.populate(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void builderPlaysPartialBatches() {
+        OpeningBook book = new OpeningBook(RULES, 1 << 12);
+        new OpeningBookBuilder(book, random -> new ProbabilityDensityShootingStrategy(RULES), new ForkJoinPool(2))
+                .populate(256 + 3, 7);
+        assertTrue(book.getSize() > 0);
+        assertTrue(book.get(OpeningBook.ROOT_KEY) >= 0);
+    }
+
+    @Test
+    void hitsKeepAnEntryOutOfEviction() {
+        OpeningBook book = new OpeningBook(RULES, 8);
+        for (int key = 1; key <= 8; key++) {
+            book.put(key, key);
+        }
+        for (int lookup = 0; lookup < 3; lookup++) {
+            assertEquals(1, book.get(1));
+        }
+        book.put(9, 9);
+        assertEquals(1, book.get(1));
+        assertEquals(-1, book.get(2));
+        assertEquals(9, book.get(9));
+        assertEquals(1, book.getEvictions());
+    }
+
+    @Test
+    void concurrentLookupsOnlySeeTheirOwnMoves() throws InterruptedException {
+        OpeningBook book = new OpeningBook(RULES, 16);
+        int numberOfCells = RULES.getNumberOfCells();
+        int lookupsPerThread = 200_000;
+        AtomicInteger wrongMoves = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            SplittableRandom random = new SplittableRandom(thread);
+            boolean isWriter = thread % 2 == 0;
+            threads.add(new Thread(() -> {
+                for (int operation = 0; operation < lookupsPerThread; operation++) {
+                    long key = random.nextInt(1, 64);
+                    if (isWriter) {
+                        book.put(key, (int) key % numberOfCells);
+                    } else {
+                        int move = book.get(key);
+                        if (move != -1 && move != key % numberOfCells) {
+                            wrongMoves.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, wrongMoves.get());
+        assertEquals(2L * lookupsPerThread, book.getHits() + book.getMisses());
+    }
+}
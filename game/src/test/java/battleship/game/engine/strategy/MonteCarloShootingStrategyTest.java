@@ -0,0 +1,53 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.engine.ShipPlacement;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonteCarloShootingStrategyTest {
+    private static final GameRules RULES = GameRules.STANDARD;
+
+    @Test
+    void everyObjectiveWinsWithoutRepeatingShots() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        for (MonteCarloShootingStrategy.Objective objective : MonteCarloShootingStrategy.Objective.values()) {
+            MonteCarloShootingStrategy strategy = new MonteCarloShootingStrategy(RULES, new SplittableRandom(3),
+                    TimeUnit.MICROSECONDS.toNanos(200), pool, objective);
+            SplittableRandom fleetRandom = new SplittableRandom(7);
+            for (int game = 0; game < 10; game++) {
+                playGame(strategy, new RandomFleetPlacementStrategy(fleetRandom.split(), RULES));
+            }
+            assertTrue(strategy.getMeanSamplesPerDecision() > 0, objective.name());
+        }
+        pool.shutdown();
+    }
+
+    private static void playGame(MonteCarloShootingStrategy strategy, RandomFleetPlacementStrategy placement) {
+        GameGrid grid = RULES.createGameGrid();
+        placement.onPlacementStarted(grid);
+        for (int ship = 0; ship < RULES.getNumberOfShips(); ship++) {
+            ShipPlacement shipPlacement = placement.nextPlacement(RULES.getShipType(ship));
+            grid.addShip(shipPlacement.frontCell(), shipPlacement.rearCell(), RULES.getShipType(ship));
+        }
+        strategy.onGameStarted(grid);
+        boolean[] isShot = new boolean[RULES.getNumberOfCells()];
+        GridModificationResult result;
+        do {
+            int cellIndex = strategy.nextShot();
+            assertTrue(cellIndex >= 0 && cellIndex < isShot.length, "shot " + cellIndex);
+            assertFalse(isShot[cellIndex], "repeated shot " + cellIndex);
+            isShot[cellIndex] = true;
+            result = grid.registerShoot(cellIndex);
+            strategy.onShotResult(cellIndex, result);
+        } while (result != GridModificationResult.WINNER);
+    }
+}
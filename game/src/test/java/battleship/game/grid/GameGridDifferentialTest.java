@@ -0,0 +1,155 @@
+package battleship.game.grid;
+
+import battleship.game.ship.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static battleship.util.Constants.GameGridConstants.GRID_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameGridDifferentialTest {
+    private static final int NUMBER_OF_CELLS = GRID_SIZE * GRID_SIZE;
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final String BASELINE_RESULTS = "baseline-results.txt";
+
+    @Test
+    void diagonalShipIsPlacedWithoutCells() {
+        GridPair grids = new GridPair();
+        grids.addShip(0, 22, ShipType.DESTROYER);
+        grids.addShip(0, 1, ShipType.DESTROYER);
+        grids.shoot(22);
+        grids.shoot(0);
+        grids.shoot(1);
+        assertEquals(List.of(GridModificationResult.SHIP_PLACED, GridModificationResult.SHIP_PLACED,
+                GridModificationResult.MISS_REGISTERED, GridModificationResult.HIT_REGISTERED,
+                GridModificationResult.SHIP_SANK), grids.results);
+    }
+
+    @Test
+    void zeroLengthShipIsPlacedWithoutCellsAndBlocksTheWin() {
+        GridPair grids = new GridPair();
+        grids.addShip(44, 44, ShipType.DESTROYER);
+        grids.addShip(0, 1, ShipType.DESTROYER);
+        grids.shoot(44);
+        grids.shoot(0);
+        grids.shoot(1);
+        assertEquals(List.of(GridModificationResult.SHIP_PLACED, GridModificationResult.SHIP_PLACED,
+                GridModificationResult.MISS_REGISTERED, GridModificationResult.HIT_REGISTERED,
+                GridModificationResult.SHIP_SANK), grids.results);
+    }
+
+    @Test
+    void missOnReservedCellIsRegisteredAsMiss() {
+        GridPair grids = new GridPair();
+        grids.addShip(11, 13, ShipType.CRUISER);
+        grids.addShip(0, 2, ShipType.SUBMARINE);
+        grids.shoot(0);
+        grids.shoot(24);
+        grids.shoot(0);
+        grids.shoot(12);
+        assertEquals(List.of(GridModificationResult.SHIP_PLACED, GridModificationResult.SHIPS_TO_CLOSE,
+                GridModificationResult.MISS_REGISTERED, GridModificationResult.MISS_REGISTERED,
+                GridModificationResult.MISS_REGISTERED, GridModificationResult.HIT_REGISTERED), grids.results);
+    }
+
+    @Test
+    void repeatedShotsAndFullGameEndWithWinner() {
+        GridPair grids = new GridPair();
+        grids.addShip(0, 4, ShipType.AIRCRAFT_CARRIER);
+        grids.addShip(99, 69, ShipType.BATTLESHIP);
+        grids.addShip(-1, 3, ShipType.DESTROYER);
+        grids.addShip(5, 100, ShipType.DESTROYER);
+        for (int cellIndex : new int[]{0, 0, 1, 2, 3, 4, 4, 50, 99, 89, 79, 69, -1, 100}) {
+            grids.shoot(cellIndex);
+        }
+        assertEquals(List.of(GridModificationResult.SHIP_PLACED, GridModificationResult.SHIP_PLACED,
+                GridModificationResult.OUT_OF_GAME_GRID, GridModificationResult.OUT_OF_GAME_GRID,
+                GridModificationResult.HIT_REGISTERED, GridModificationResult.HIT_REGISTERED,
+                GridModificationResult.HIT_REGISTERED, GridModificationResult.HIT_REGISTERED,
+                GridModificationResult.HIT_REGISTERED, GridModificationResult.SHIP_SANK,
+                GridModificationResult.SHIP_SANK, GridModificationResult.MISS_REGISTERED,
+                GridModificationResult.HIT_REGISTERED, GridModificationResult.HIT_REGISTERED,
+                GridModificationResult.HIT_REGISTERED, GridModificationResult.WINNER,
+                GridModificationResult.OUT_OF_GAME_GRID, GridModificationResult.OUT_OF_GAME_GRID), grids.results);
+    }
+
+    @Test
+    void randomPlacementsAndShotsMatchTheBaselineResults() throws IOException {
+        List<String> baselineResults = readBaselineResults();
+        String[] legend = baselineResults.get(0).split(",");
+        SplittableRandom random = new SplittableRandom(20240601);
+        for (int game = 1; game < baselineResults.size(); game++) {
+            GridPair grids = new GridPair();
+            int numberOfShips = 1 + random.nextInt(8);
+            for (int ship = 0; ship < numberOfShips; ship++) {
+                ShipType shipType = SHIP_TYPES[random.nextInt(SHIP_TYPES.length)];
+                int frontCell = random.nextInt(-2, NUMBER_OF_CELLS + 2);
+                grids.addShip(frontCell, getRearCell(frontCell, shipType, random), shipType);
+            }
+            int numberOfShots = random.nextInt(2 * NUMBER_OF_CELLS);
+            for (int shot = 0; shot < numberOfShots; shot++) {
+                grids.shoot(random.nextInt(-2, NUMBER_OF_CELLS + 2));
+            }
+            List<GridModificationResult> expected = baselineResults.get(game).chars()
+                    .mapToObj(code -> GridModificationResult.valueOf(legend[code - '0']))
+                    .toList();
+            assertEquals(expected, grids.results, "game " + game);
+        }
+    }
+
+    private static List<String> readBaselineResults() throws IOException {
+        try (InputStream input = GameGridDifferentialTest.class.getResourceAsStream(BASELINE_RESULTS);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.US_ASCII))) {
+            return reader.lines().toList();
+        }
+    }
+
+    private static int getRearCell(int frontCell, ShipType shipType, SplittableRandom random) {
+        int length = shipType.getSize() - 1;
+        return switch (random.nextInt(6)) {
+            case 0 -> frontCell + length;
+            case 1 -> frontCell - length;
+            case 2 -> frontCell + length * GRID_SIZE;
+            case 3 -> frontCell - length * GRID_SIZE;
+            case 4 -> frontCell + length * (GRID_SIZE + 1);
+            default -> random.nextInt(-2, NUMBER_OF_CELLS + 2);
+        };
+    }
+
+    private static final class GridPair {
+        private final GameGrid legacyGrid = new SquareArrayGameGrid();
+        private final GameGrid bitboardGrid = new BitboardGameGrid();
+        private final List<GridModificationResult> results = new ArrayList<>();
+
+        private void addShip(int frontCell, int rearCell, ShipType shipType) {
+            GridModificationResult expected = legacyGrid.addShip(frontCell, rearCell, shipType);
+            assertEquals(expected, bitboardGrid.addShip(frontCell, rearCell, shipType),
+                    () -> "addShip(" + frontCell + ", " + rearCell + ", " + shipType + ")");
+            results.add(expected);
+            assertSameCells();
+        }
+
+        private void shoot(int cellIndex) {
+            GridModificationResult expected = legacyGrid.registerShoot(cellIndex);
+            assertEquals(expected, bitboardGrid.registerShoot(cellIndex), () -> "registerShoot(" + cellIndex + ")");
+            results.add(expected);
+            assertSameCells();
+        }
+
+        private void assertSameCells() {
+            for (int cellIndex = 0; cellIndex < NUMBER_OF_CELLS; cellIndex++) {
+                int cell = cellIndex;
+                assertEquals(legacyGrid.getCellData(cellIndex), bitboardGrid.getCellData(cellIndex),
+                        () -> "cell " + cell);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package battleship.game.grid;
+
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static battleship.util.Constants.GameGridConstants.GRID_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameGridSnapshotTest {
+    private static final int NUMBER_OF_CELLS = GRID_SIZE * GRID_SIZE;
+    private static final List<Supplier<GameGrid>> GRID_FACTORIES = List.of(
+            SquareArrayGameGrid::new,
+            BitboardGameGrid::new,
+            () -> new SparseGameGrid(GRID_SIZE));
+
+    @Test
+    void sparseGridSurvivesSaveAndResume() {
+        GameRules rules = new GameRules(1000, new ShipType[]{ShipType.DESTROYER});
+        GameGrid grid = rules.createGameGrid();
+        assertInstanceOf(SparseGameGrid.class, grid);
+        assertEquals(GridModificationResult.SHIP_PLACED, grid.addShip(500_500, 500_501, ShipType.DESTROYER));
+        assertEquals(GridModificationResult.MISS_REGISTERED, grid.registerShoot(500_499));
+        assertEquals(GridModificationResult.MISS_REGISTERED, grid.registerShoot(0));
+        assertEquals(GridModificationResult.HIT_REGISTERED, grid.registerShoot(500_500));
+
+        GameGrid restored = rules.createGameGrid();
+        restored.restore(GameGridSnapshot.fromByteArray(grid.snapshot().toByteArray()));
+
+        for (int cellIndex : new int[]{0, 1, 499_499, 500_499, 500_500, 500_501, 500_502, 501_501, 999_999}) {
+            assertEquals(grid.getCellData(cellIndex), restored.getCellData(cellIndex), "cell " + cellIndex);
+        }
+        assertEquals(GridModificationResult.HIT_REGISTERED, restored.registerShoot(500_500));
+        assertEquals(GridModificationResult.MISS_REGISTERED, restored.registerShoot(500_502));
+        assertEquals(GridModificationResult.WINNER, restored.registerShoot(500_501));
+    }
+
+    @Test
+    void restoreRejectsSnapshotOfAnotherGridSize() {
+        GameGridSnapshot snapshot = new SparseGameGrid(GRID_SIZE + 1).snapshot();
+        for (Supplier<GameGrid> factory : GRID_FACTORIES) {
+            assertThrows(IllegalArgumentException.class, () -> factory.get().restore(snapshot));
+        }
+    }
+
+    @Test
+    void everyGridResumesAnyGridSnapshotMidGame() {
+        SplittableRandom random = new SplittableRandom(20240715);
+        for (int game = 0; game < 300; game++) {
+            for (Supplier<GameGrid> sourceFactory : GRID_FACTORIES) {
+                for (Supplier<GameGrid> targetFactory : GRID_FACTORIES) {
+                    playAndResume(sourceFactory.get(), targetFactory.get(), random.split());
+                }
+            }
+        }
+    }
+
+    private static void playAndResume(GameGrid source, GameGrid target, SplittableRandom random) {
+        for (ShipType shipType : ShipType.values()) {
+            int frontCell = random.nextInt(NUMBER_OF_CELLS);
+            int rearCell = random.nextBoolean()
+                    ? frontCell + shipType.getSize() - 1
+                    : frontCell + (shipType.getSize() - 1) * GRID_SIZE;
+            source.addShip(frontCell, rearCell, shipType);
+        }
+        int[] shots = random.ints(3 * NUMBER_OF_CELLS, 0, NUMBER_OF_CELLS).toArray();
+        int resumeAt = random.nextInt(shots.length);
+        for (int shot = 0; shot < resumeAt; shot++) {
+            source.registerShoot(shots[shot]);
+        }
+        target.restore(GameGridSnapshot.fromByteArray(source.snapshot().toByteArray()));
+        assertSameCells(source, target);
+        for (int shot = resumeAt; shot < shots.length; shot++) {
+            int cellIndex = shots[shot];
+            assertEquals(source.registerShoot(cellIndex), target.registerShoot(cellIndex),
+                    () -> source.getClass().getSimpleName() + " -> " + target.getClass().getSimpleName() +
+                            " registerShoot(" + cellIndex + ")");
+        }
+        assertSameCells(source, target);
+    }
+
+    private static void assertSameCells(GameGrid expected, GameGrid actual) {
+        for (int cellIndex = 0; cellIndex < NUMBER_OF_CELLS; cellIndex++) {
+            int cell = cellIndex;
+            assertEquals(expected.getCellData(cellIndex), actual.getCellData(cellIndex), () -> "cell " + cell);
+        }
+    }
+}
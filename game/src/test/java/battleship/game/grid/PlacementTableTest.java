@@ -0,0 +1,104 @@
+package battleship.game.grid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlacementTableTest {
+    private static final char FOG = '~';
+    private static final char SHIP = 'O';
+    private static final char RESERVED = 'R';
+
+    @Test
+    void haloMatchesLegacyNeighbourReservation() {
+        SplittableRandom random = new SplittableRandom(20240620);
+        for (int gridSize : new int[]{1, 2, 3, 4, 5, 7, 8, 9, 10, 11, 16, 23, 64, 100, 128}) {
+            for (int trial = 0; trial < 40; trial++) {
+                placeRandomShips(gridSize, random);
+            }
+        }
+    }
+
+    private static void placeRandomShips(int gridSize, SplittableRandom random) {
+        char[][] board = new char[gridSize][gridSize];
+        for (char[] line : board) {
+            Arrays.fill(line, FOG);
+        }
+        long[] reservedCells = new long[(gridSize * gridSize + Long.SIZE - 1) / Long.SIZE];
+        for (int attempt = 0; attempt < 4 * gridSize; attempt++) {
+            int length = 1 + random.nextInt(Math.min(gridSize, 6));
+            int orientation = random.nextInt(2);
+            int anchor = random.nextInt(gridSize * gridSize);
+            PlacementTable table = PlacementTable.get(gridSize, length);
+            int line = anchor / gridSize;
+            int column = anchor % gridSize;
+            int lineStep = orientation == PlacementTable.VERTICAL ? 1 : 0;
+            int columnStep = 1 - lineStep;
+            boolean fits = line + lineStep * (length - 1) < gridSize && column + columnStep * (length - 1) < gridSize;
+            assertEquals(fits, table.fits(anchor, orientation));
+            if (!fits) {
+                continue;
+            }
+            int placement = table.getPlacement(anchor, orientation);
+            boolean isTooClose = false;
+            for (int i = 0; i < length; i++) {
+                char value = board[line + i * lineStep][column + i * columnStep];
+                isTooClose |= value == SHIP || value == RESERVED;
+            }
+            assertEquals(isTooClose, table.intersectsOccupancy(placement, reservedCells),
+                    () -> gridSize + "x" + gridSize + " length " + length + " at " + anchor);
+            if (isTooClose) {
+                continue;
+            }
+            for (int i = 0; i < length; i++) {
+                board[line + i * lineStep][column + i * columnStep] = SHIP;
+                reserveNeighbours(board, line + i * lineStep, column + i * columnStep);
+            }
+            table.setHalo(placement, reservedCells);
+        }
+        for (int cell = 0; cell < gridSize * gridSize; cell++) {
+            char value = board[cell / gridSize][cell % gridSize];
+            assertEquals(value == SHIP || value == RESERVED, (reservedCells[cell >>> 6] & 1L << cell) != 0,
+                    "cell " + cell + " on " + gridSize + "x" + gridSize);
+        }
+    }
+
+    private static void reserveNeighbours(char[][] board, int i, int j) {
+        int gridSize = board.length;
+        if (i - 1 >= 0 && j - 1 >= 0) {
+            reserve(board, i - 1, j - 1);
+            reserve(board, i, j - 1);
+            reserve(board, i - 1, j);
+        } else if (j - 1 >= 0) {
+            reserve(board, i, j - 1);
+        } else if (i - 1 >= 0) {
+            reserve(board, i - 1, j);
+        }
+
+        if (i + 1 < gridSize && j + 1 < gridSize) {
+            reserve(board, i + 1, j + 1);
+            reserve(board, i + 1, j);
+            reserve(board, i, j + 1);
+        } else if (i + 1 < gridSize) {
+            reserve(board, i + 1, j);
+        } else if (j + 1 < gridSize) {
+            reserve(board, i, j + 1);
+        }
+
+        if (i + 1 < gridSize && j - 1 >= 0) {
+            reserve(board, i + 1, j - 1);
+        }
+        if (i - 1 >= 0 && j + 1 < gridSize) {
+            reserve(board, i - 1, j + 1);
+        }
+    }
+
+    private static void reserve(char[][] board, int i, int j) {
+        if (board[i][j] != SHIP) {
+            board[i][j] = RESERVED;
+        }
+    }
+}
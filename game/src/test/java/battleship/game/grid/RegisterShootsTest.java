@@ -0,0 +1,81 @@
+package battleship.game.grid;
+
+import battleship.game.ship.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static battleship.util.Constants.GameGridConstants.GRID_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RegisterShootsTest {
+    private static final int NUMBER_OF_CELLS = GRID_SIZE * GRID_SIZE;
+    private static final byte UNTOUCHED = -1;
+    private static final List<Supplier<GameGrid>> GRID_FACTORIES = List.of(
+            SquareArrayGameGrid::new,
+            BitboardGameGrid::new,
+            () -> new SparseGameGrid(GRID_SIZE));
+
+    @Test
+    void batchedShotsMatchSingleShots() {
+        SplittableRandom random = new SplittableRandom(20240630);
+        for (Supplier<GameGrid> factory : GRID_FACTORIES) {
+            for (int game = 0; game < 1_000; game++) {
+                compareBatchedWithSingleShots(factory.get(), factory.get(), random);
+            }
+        }
+    }
+
+    @Test
+    void rejectsSlicesOutsideTheArrays() {
+        for (Supplier<GameGrid> factory : GRID_FACTORIES) {
+            GameGrid grid = factory.get();
+            assertThrows(IndexOutOfBoundsException.class, () -> grid.registerShoots(new int[4], 2, 5, new byte[8]));
+            assertThrows(IndexOutOfBoundsException.class, () -> grid.registerShoots(new int[4], 0, 4, new byte[3]));
+            assertThrows(IndexOutOfBoundsException.class, () -> grid.registerShoots(new int[4], 3, 2, new byte[4]));
+        }
+    }
+
+    private static void compareBatchedWithSingleShots(GameGrid batchGrid, GameGrid singleGrid,
+                                                      SplittableRandom random) {
+        for (ShipType shipType : ShipType.values()) {
+            int frontCell = random.nextInt(NUMBER_OF_CELLS);
+            int rearCell = random.nextBoolean()
+                    ? frontCell + shipType.getSize() - 1
+                    : frontCell + (shipType.getSize() - 1) * GRID_SIZE;
+            assertEquals(singleGrid.addShip(frontCell, rearCell, shipType),
+                    batchGrid.addShip(frontCell, rearCell, shipType));
+        }
+        int[] cellIndices = random.ints(2 * NUMBER_OF_CELLS, -2, NUMBER_OF_CELLS + 2).toArray();
+        int fromIndex = 0;
+        boolean isOver = false;
+        while (fromIndex < cellIndices.length && !isOver) {
+            int toIndex = Math.min(cellIndices.length, fromIndex + random.nextInt(40));
+            byte[] expected = new byte[cellIndices.length];
+            byte[] actual = new byte[cellIndices.length];
+            Arrays.fill(expected, UNTOUCHED);
+            Arrays.fill(actual, UNTOUCHED);
+            int expectedEnd = toIndex;
+            for (int i = fromIndex; i < toIndex; i++) {
+                GridModificationResult result = singleGrid.registerShoot(cellIndices[i]);
+                expected[i] = (byte) result.ordinal();
+                if (result == GridModificationResult.WINNER) {
+                    expectedEnd = i + 1;
+                    isOver = true;
+                    break;
+                }
+            }
+            assertEquals(expectedEnd, batchGrid.registerShoots(cellIndices, fromIndex, toIndex, actual));
+            assertArrayEquals(expected, actual);
+            fromIndex = toIndex;
+        }
+        for (int cellIndex = 0; cellIndex < NUMBER_OF_CELLS; cellIndex++) {
+            assertEquals(singleGrid.getCellData(cellIndex), batchGrid.getCellData(cellIndex));
+        }
+    }
+}
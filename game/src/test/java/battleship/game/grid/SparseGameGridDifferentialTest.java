@@ -0,0 +1,58 @@
+package battleship.game.grid;
+
+import battleship.game.ship.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SparseGameGridDifferentialTest {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    @Test
+    void sparseAndBitboardGridsAgreeOnRandomGames() {
+        SplittableRandom random = new SplittableRandom(20240610);
+        for (int gridSize : new int[]{1, 5, 8, 10, 13, 64, 100, 257}) {
+            for (int game = 0; game < 200; game++) {
+                playRandomGame(gridSize, random);
+            }
+        }
+    }
+
+    private static void playRandomGame(int gridSize, SplittableRandom random) {
+        GameGrid sparseGrid = new SparseGameGrid(gridSize);
+        GameGrid bitboardGrid = new BitboardGameGrid(gridSize);
+        int numberOfCells = gridSize * gridSize;
+        int numberOfShips = 1 + random.nextInt(Math.min(20, 1 + numberOfCells / 4));
+        for (int ship = 0; ship < numberOfShips; ship++) {
+            ShipType shipType = SHIP_TYPES[random.nextInt(SHIP_TYPES.length)];
+            int frontCell = random.nextInt(-1, numberOfCells + 1);
+            int length = shipType.getSize() - 1;
+            int rearCell = switch (random.nextInt(4)) {
+                case 0 -> frontCell + length;
+                case 1 -> frontCell - length * gridSize;
+                case 2 -> frontCell + length * (gridSize + 1);
+                default -> random.nextInt(-1, numberOfCells + 1);
+            };
+            assertEquals(bitboardGrid.addShip(frontCell, rearCell, shipType),
+                    sparseGrid.addShip(frontCell, rearCell, shipType),
+                    () -> gridSize + "x" + gridSize + " addShip(" + frontCell + ", " + rearCell + ")");
+        }
+        int numberOfShots = Math.min(2 * numberOfCells, 3000);
+        for (int shot = 0; shot < numberOfShots; shot++) {
+            int cellIndex = random.nextInt(-1, numberOfCells + 1);
+            GridModificationResult result = bitboardGrid.registerShoot(cellIndex);
+            assertEquals(result, sparseGrid.registerShoot(cellIndex),
+                    () -> gridSize + "x" + gridSize + " registerShoot(" + cellIndex + ")");
+            if (result == GridModificationResult.WINNER) {
+                break;
+            }
+        }
+        for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+            int cell = cellIndex;
+            assertEquals(bitboardGrid.getCellData(cellIndex), sparseGrid.getCellData(cellIndex),
+                    () -> gridSize + "x" + gridSize + " cell " + cell);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package battleship.game.input;
+
+import battleship.game.square.Square;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CommandLexerTest {
+    private static final String ALPHABET = "AABJKZa@[  0123456789+-١٥";
+    private static final String[] ADVERSARIAL = {
+            "A1 A5", "A1  A5", "A1 A5 ", " A1 A5", "A1 A5 A6", "", " ", "A", "A1", "A+ A1", "A- A1", "A+1 A-1",
+            "A99999999999 A1", "A2147483647 A1", "A-2147483648 A1", "A-2147483649 A1", "A2147483648 A1",
+            "Z" + "0".repeat(48) + "1 Z1", "A١ A٥", "J10 J8", "K1 K2", "A0 A1", "A11 A10"
+    };
+
+    @Test
+    void adversarialInputsMatchSplitAndParse() {
+        for (int gridSize : new int[]{10, 26}) {
+            CommandLexer lexer = new CommandLexer(gridSize);
+            for (String input : ADVERSARIAL) {
+                assertSamePlacement(lexer, input);
+                assertSameShot(lexer, input);
+            }
+        }
+    }
+
+    @Test
+    void randomInputsMatchSplitAndParse() {
+        SplittableRandom random = new SplittableRandom(20240705);
+        for (int gridSize : new int[]{5, 10, 26}) {
+            CommandLexer lexer = new CommandLexer(gridSize);
+            for (int i = 0; i < 100_000; i++) {
+                String input = randomInput(random);
+                assertSamePlacement(lexer, input);
+                assertSameShot(lexer, input);
+            }
+        }
+    }
+
+    private static void assertSamePlacement(CommandLexer lexer, String input) {
+        List<String> coordinates = new ArrayList<>(Arrays.asList(input.split(" ")));
+        InputValidationState expected = validatePlacement(coordinates);
+        assertEquals(expected, lexer.lexPlacement(input), input);
+        if (expected == InputValidationState.VALID) {
+            String front = coordinates.get(0);
+            String rear = coordinates.get(1);
+            assertEquals(getCellIndex(lexer.getGridSize(), front), lexer.getFrontCell(), input);
+            assertEquals(getCellIndex(lexer.getGridSize(), rear), lexer.getRearCell(), input);
+            assertEquals(getShipSize(front, rear), lexer.getShipSize(), input);
+        }
+        if (isLatin1(input)) {
+            byte[] bytes = ("##" + input + "#").getBytes(StandardCharsets.ISO_8859_1);
+            assertEquals(expected, lexer.lexPlacement(bytes, 2, bytes.length - 1), input);
+        }
+    }
+
+    private static void assertSameShot(CommandLexer lexer, String input) {
+        InputValidationState expected = isNotValidCoordinateFormat(input)
+                ? InputValidationState.WRONG_FORMAT : InputValidationState.VALID;
+        assertEquals(expected, lexer.lexShot(input), input);
+        if (expected == InputValidationState.VALID) {
+            assertEquals(getCellIndex(lexer.getGridSize(), input), lexer.getFrontCell(), input);
+        }
+    }
+
+    private static InputValidationState validatePlacement(List<String> coordinates) {
+        if (coordinates.size() != 2) {
+            return InputValidationState.WRONG_SIZE;
+        } else if (isNotValidCoordinateFormat(coordinates.get(0)) || isNotValidCoordinateFormat(coordinates.get(1))) {
+            return InputValidationState.WRONG_FORMAT;
+        }
+        return switch (new Square(coordinates.get(0)).getDirectionTo(new Square(coordinates.get(1)))) {
+            case LEFT_DOWN, LEFT_UP, RIGHT_DOWN, RIGHT_UP -> InputValidationState.NOT_SAME_LANE_OR_COLUMN;
+            default -> InputValidationState.VALID;
+        };
+    }
+
+    private static boolean isNotValidCoordinateFormat(String coordinate) {
+        if (coordinate.length() < 2 || coordinate.charAt(0) < 'A' || coordinate.charAt(0) > 'Z') {
+            return true;
+        }
+        try {
+            Integer.parseInt(coordinate.substring(1));
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        return false;
+    }
+
+    private static int getShipSize(String front, String rear) {
+        Square frontSquare = new Square(front);
+        Square rearSquare = new Square(rear);
+        return Math.max(
+                Math.abs(frontSquare.getLineAsIndex() - rearSquare.getLineAsIndex()),
+                Math.abs(frontSquare.getColumnAsIndex() - rearSquare.getColumnAsIndex())
+        ) + 1;
+    }
+
+    private static int getCellIndex(int gridSize, String coordinate) {
+        Square square = new Square(coordinate);
+        int line = square.getLineAsIndex();
+        int column = square.getColumnAsIndex();
+        if (line < 0 || line >= gridSize || column < 0 || column >= gridSize) {
+            return -1;
+        }
+        return line * gridSize + column;
+    }
+
+    private static boolean isLatin1(String input) {
+        return input.chars().allMatch(c -> c < 0x100);
+    }
+
+    private static String randomInput(SplittableRandom random) {
+        StringBuilder input = new StringBuilder();
+        int length = random.nextInt(12);
+        for (int i = 0; i < length; i++) {
+            input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return input.toString();
+    }
+}
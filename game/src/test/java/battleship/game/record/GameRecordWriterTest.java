@@ -0,0 +1,97 @@
+package battleship.game.record;
+
+import battleship.game.engine.GameEngine;
+import battleship.game.engine.GameResult;
+import battleship.game.engine.strategy.RandomFleetPlacementStrategy;
+import battleship.game.engine.strategy.RandomShootingStrategy;
+import battleship.game.rules.GameRules;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameRecordWriterTest {
+    private static final GameRules RULES = GameRules.STANDARD;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopeningDropsTheTornRecordBeforeAppending() throws IOException {
+        Path file = directory.resolve("games.bsr");
+        List<GameResult> games = playGames(5);
+        try (GameRecordWriter writer = new GameRecordWriter(file)) {
+            for (GameResult game : games.subList(0, 3)) {
+                writer.append(RULES, game);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 7);
+        }
+        try (GameRecordWriter writer = new GameRecordWriter(file)) {
+            for (GameResult game : games.subList(3, 5)) {
+                writer.append(RULES, game);
+            }
+        }
+
+        List<GameResult> expected = List.of(games.get(0), games.get(1), games.get(3), games.get(4));
+        assertRecords(expected, file);
+    }
+
+    @Test
+    void reopeningKeepsCompleteRecords() throws IOException {
+        Path file = directory.resolve("games.bsr");
+        List<GameResult> games = playGames(4);
+        for (GameResult game : games) {
+            try (GameRecordWriter writer = new GameRecordWriter(file)) {
+                writer.append(RULES, game);
+            }
+        }
+        long size = Files.size(file);
+        new GameRecordWriter(file).close();
+
+        assertEquals(size, Files.size(file));
+        assertRecords(games, file);
+    }
+
+    private static List<GameResult> playGames(int numberOfGames) {
+        GameEngine engine = new GameEngine(RULES, true);
+        SplittableRandom random = new SplittableRandom(20240905);
+        List<GameResult> games = new ArrayList<>();
+        for (int game = 0; game < numberOfGames; game++) {
+            games.add(engine.play(
+                    new RandomFleetPlacementStrategy(random.split(), RULES),
+                    new RandomFleetPlacementStrategy(random.split(), RULES),
+                    new RandomShootingStrategy(random.split()),
+                    new RandomShootingStrategy(random.split())));
+        }
+        return games;
+    }
+
+    private static void assertRecords(List<GameResult> expected, Path file) throws IOException {
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            for (GameResult game : expected) {
+                assertTrue(reader.next());
+                GameRecord record = reader.getRecord();
+                assertEquals(game.getWinner(), record.getWinner());
+                assertEquals(game.getMoveLog().length, record.getNumberOfShots());
+                for (int shot = 0; shot < record.getNumberOfShots(); shot++) {
+                    assertEquals(GameResult.getMoveCell(game.getMoveLog()[shot]), record.getShotCell(shot));
+                }
+            }
+            assertFalse(reader.next());
+            assertEquals(Files.size(file), reader.getPosition());
+        }
+    }
+}
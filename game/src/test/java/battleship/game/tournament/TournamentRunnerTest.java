@@ -0,0 +1,60 @@
+package battleship.game.tournament;
+
+import battleship.game.engine.strategy.RandomPlacementStrategy;
+import battleship.game.engine.strategy.RandomShootingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TournamentRunnerTest {
+    private static final Contestant RANDOM =
+            new Contestant("Random", RandomPlacementStrategy::new, RandomShootingStrategy::new);
+
+    private final TournamentRunner runner = new TournamentRunner(RANDOM, RANDOM, new ForkJoinPool(2));
+
+    @Test
+    void rejectsTournamentsWithoutGames() {
+        assertThrows(IllegalArgumentException.class, () -> runner.run(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> runner.run(-5, 1));
+    }
+
+    @Test
+    void rejectsMoreBatchesThanFitInAnArray() {
+        assertThrows(IllegalArgumentException.class, () -> runner.run(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void playsEveryRequestedGameAcrossPartialBatches() {
+        TournamentStatistics statistics = runner.run(4096 + 7, 42);
+        assertEquals(4096 + 7, statistics.getNumberOfGames());
+        assertEquals(statistics.getNumberOfGames(), statistics.getWins(0) + statistics.getWins(1));
+    }
+
+    @Test
+    void sameSeedGivesSameStatisticsAtAnyParallelism() {
+        TournamentStatistics sequential =
+                new TournamentRunner(RANDOM, RANDOM, new ForkJoinPool(1)).run(3 * 4096 + 7, 42);
+        TournamentStatistics parallel = runner.run(3 * 4096 + 7, 42);
+        for (int contestant = 0; contestant < 2; contestant++) {
+            assertEquals(sequential.getWins(contestant), parallel.getWins(contestant));
+            assertEquals(sequential.getMeanShotsToWin(contestant), parallel.getMeanShotsToWin(contestant));
+            for (int percentile : new int[]{50, 90, 99}) {
+                assertEquals(sequential.getShotsToWinPercentile(contestant, percentile),
+                        parallel.getShotsToWinPercentile(contestant, percentile));
+            }
+        }
+    }
+
+    @Test
+    void emptyStatisticsHaveNoNaN() {
+        TournamentStatistics statistics = new TournamentStatistics();
+        assertArrayEquals(new double[] {0, 1}, statistics.getWinRateConfidenceInterval(0));
+        assertArrayEquals(new double[] {0, 0}, statistics.getMeanShotsToWinConfidenceInterval(1));
+        assertEquals(0, statistics.getWinRate(0));
+        assertEquals(0, statistics.getShotsToWinPercentile(0, 99));
+    }
+}
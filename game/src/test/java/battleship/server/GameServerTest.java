@@ -0,0 +1,60 @@
+package battleship.server;
+
+import battleship.game.rules.GameRules;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static battleship.server.Protocol.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServerTest {
+    private static final int READ_TIMEOUT_MILLIS = 10_000;
+
+    @Test
+    void waitingPlayerWhoLeavesIsNotMatched() throws IOException, InterruptedException {
+        try (GameServer server = new GameServer(GameRules.STANDARD, 0)) {
+            server.start();
+            assertNextMatchIsPlayable(server, 500);
+            assertNextMatchIsPlayable(server, 0);
+        }
+    }
+
+    private static void assertNextMatchIsPlayable(GameServer server, long delayMillis)
+            throws IOException, InterruptedException {
+        try (Socket leaver = connect(server)) {
+            assertEquals(WAITING, reader(leaver).readLine());
+        }
+        Thread.sleep(delayMillis);
+        try (Socket first = connect(server); Socket second = connect(server)) {
+            BufferedReader firstReader = reader(first);
+            BufferedReader secondReader = reader(second);
+            assertEquals(WAITING, firstReader.readLine());
+            assertEquals(WAITING, secondReader.readLine());
+            String firstMatch = firstReader.readLine();
+            String secondMatch = secondReader.readLine();
+            String firstPlayer = MATCH + SEPARATOR + 1 + SEPARATOR + GameRules.STANDARD.getGridSize();
+            String secondPlayer = MATCH + SEPARATOR + 2 + SEPARATOR + GameRules.STANDARD.getGridSize();
+            assertEquals(Set.of(firstPlayer, secondPlayer), Set.of(firstMatch, secondMatch));
+            BufferedReader startingReader = firstMatch.equals(firstPlayer) ? firstReader : secondReader;
+            assertTrue(startingReader.readLine().startsWith(PLACE));
+        }
+    }
+
+    private static Socket connect(GameServer server) throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+        return socket;
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+    }
+}
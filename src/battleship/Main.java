@@ -1,10 +1,23 @@
 package battleship;
 
+import battleship.game.BatchGameRunner;
 import battleship.game.BattleshipGame;
+import battleship.game.metrics.GameMetrics;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
 
 public class Main {
-    public static void main(String[] args) {
-        BattleshipGame game = new BattleshipGame();
+    private static final String BATCH_OPTION = "--batch";
+
+    public static void main(String[] args) throws IOException {
+        GameMetrics.install();
+        if (args.length > 0 && args[0].equals(BATCH_OPTION)) {
+            BatchGameRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        BattleshipGame game = args.length > 0 ? new BattleshipGame(Paths.get(args[0])) : new BattleshipGame();
         game.play();
 //        Square s1 = new Square(1, 1);
 //        Square s2 = new Square(1, 2);
@@ -0,0 +1,162 @@
+package battleship.game;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+public class BatchGameRunner {
+    private static final int INITIAL_OUTPUT_SIZE = 64 * 1024;
+    private static final String TRANSCRIPT_EXTENSION = ".out";
+    private static final String NO_DIRECTORY = "-";
+
+    private final Path outputDirectory;
+    private final Path goldenDirectory;
+    private final ForkJoinPool pool;
+    private final Charset charset = Charset.defaultCharset();
+
+    public BatchGameRunner(Path outputDirectory, Path goldenDirectory) {
+        this(outputDirectory, goldenDirectory, ForkJoinPool.commonPool());
+    }
+
+    public BatchGameRunner(Path outputDirectory, Path goldenDirectory, ForkJoinPool pool) {
+        this.outputDirectory = outputDirectory;
+        this.goldenDirectory = goldenDirectory;
+        this.pool = pool;
+    }
+
+    public List<ScriptResult> run(Path scriptDirectory) throws IOException {
+        List<Path> scripts;
+        try (Stream<Path> files = Files.list(scriptDirectory)) {
+            scripts = files.filter(Files::isRegularFile).sorted().toList();
+        }
+        if (outputDirectory != null) {
+            Files.createDirectories(outputDirectory);
+        }
+        List<Callable<ScriptResult>> tasks = new ArrayList<>(scripts.size());
+        for (Path script : scripts) {
+            tasks.add(() -> play(script));
+        }
+        List<ScriptResult> results = new ArrayList<>(scripts.size());
+        for (Future<ScriptResult> future : pool.invokeAll(tasks)) {
+            results.add(getResult(future));
+        }
+        return results;
+    }
+
+    public ScriptResult play(Path script) throws IOException {
+        long startTime = System.nanoTime();
+        ByteArrayOutputStream transcript = new ByteArrayOutputStream(INITIAL_OUTPUT_SIZE);
+        boolean isFinished = true;
+        try (BufferedReader reader = Files.newBufferedReader(script, charset);
+             PrintStream output = new PrintStream(transcript, false, charset)) {
+            new BattleshipGame(null, () -> readLine(reader), output).play();
+        } catch (NoSuchElementException e) {
+            isFinished = false;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        byte[] bytes = transcript.toByteArray();
+        String transcriptName = getTranscriptName(script);
+        if (outputDirectory != null) {
+            Files.write(outputDirectory.resolve(transcriptName), bytes);
+        }
+        Verdict verdict = Verdict.PLAYED;
+        long mismatchOffset = -1;
+        if (goldenDirectory != null) {
+            Path golden = goldenDirectory.resolve(transcriptName);
+            if (!Files.exists(golden)) {
+                verdict = Verdict.MISSING_GOLDEN;
+            } else {
+                mismatchOffset = Arrays.mismatch(bytes, Files.readAllBytes(golden));
+                verdict = mismatchOffset == -1 ? Verdict.MATCHED : Verdict.MISMATCHED;
+            }
+        }
+        return new ScriptResult(script, verdict, isFinished, bytes.length, mismatchOffset,
+                System.nanoTime() - startTime);
+    }
+
+    private static String readLine(BufferedReader reader) {
+        String line;
+        try {
+            line = reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (line == null) {
+            throw new NoSuchElementException("No line found");
+        }
+        return line;
+    }
+
+    private static String getTranscriptName(Path script) {
+        String name = script.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        return (extension > 0 ? name.substring(0, extension) : name) + TRANSCRIPT_EXTENSION;
+    }
+
+    private static ScriptResult getResult(Future<ScriptResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public enum Verdict {
+        PLAYED, MATCHED, MISMATCHED, MISSING_GOLDEN
+    }
+
+    public record ScriptResult(Path script, Verdict verdict, boolean isFinished, int transcriptLength,
+                               long mismatchOffset, long elapsedNanos) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path scriptDirectory = Paths.get(args[0]);
+        Path outputDirectory = args.length > 1 && !args[1].equals(NO_DIRECTORY) ? Paths.get(args[1]) : null;
+        Path goldenDirectory = args.length > 2 && !args[2].equals(NO_DIRECTORY) ? Paths.get(args[2]) : null;
+        ForkJoinPool pool = args.length > 3 ? new ForkJoinPool(Integer.parseInt(args[3])) : ForkJoinPool.commonPool();
+        BatchGameRunner runner = new BatchGameRunner(outputDirectory, goldenDirectory, pool);
+        long start = System.nanoTime();
+        List<ScriptResult> results = runner.run(scriptDirectory);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        int failures = 0;
+        for (ScriptResult result : results) {
+            System.out.printf("%-10s %s%s (%d bytes, %.2f ms)%s%n", result.verdict(), result.script().getFileName(),
+                    result.isFinished() ? "" : " [script ended before the game]", result.transcriptLength(),
+                    result.elapsedNanos() / 1e6,
+                    result.verdict() == Verdict.MISMATCHED ? " first difference at byte " + result.mismatchOffset() : "");
+            if (result.verdict() == Verdict.MISMATCHED || result.verdict() == Verdict.MISSING_GOLDEN) {
+                failures++;
+            }
+        }
+        System.out.printf("%d games in %.2f s (%.0f games/s) on %d threads, %d failed%n", results.size(), seconds,
+                results.size() / seconds, pool.getParallelism(), failures);
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -1,114 +1,229 @@
 package battleship.game;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.function.Supplier;
 
+import battleship.game.engine.GameEngine;
+import battleship.game.engine.PlacementStrategy;
+import battleship.game.engine.ShipPlacement;
+import battleship.game.engine.ShootingStrategy;
 import battleship.game.grid.printer.GameGridViewPerspective;
-import battleship.game.square.Square;
+import battleship.game.input.CommandLexer;
+import battleship.game.input.InputValidationState;
 import battleship.game.grid.GameGrid;
+import battleship.game.grid.GameGridSnapshot;
 import battleship.game.ship.ShipType;
 import battleship.game.grid.GridModificationResult;
-
-import static battleship.game.printer.BattleshipGamePrintHelper.*;
-import static battleship.util.CustomMessages.GamePlayMessage.*;
-import static battleship.util.CustomMessages.GamePlayErrorMessage.*;
+import battleship.game.metrics.GameMetrics;
+import battleship.game.printer.BattleshipGamePrintHelper;
 
 public class BattleshipGame {
-    private enum InputValidationState {
-        WRONG_SIZE,
-        NOT_SAME_LANE_OR_COLUMN,
-        WRONG_FORMAT,
-        VALID
-    }
-    private final Scanner scanner = new Scanner(System.in);
-    private final GameGrid gridPlayer1;
-    private final GameGrid gridPlayer2;
-    private boolean isAWinner = false;
+    private final GameEngine engine = new GameEngine();
+    private final CommandLexer lexer = new CommandLexer(engine.getRules().getGridSize());
+    private final Path saveFile;
+    private final Supplier<String> input;
+    private final BattleshipGamePrintHelper printer;
 
     public BattleshipGame() {
-        gridPlayer1 = new GameGrid();
-        gridPlayer2 = new GameGrid();
+        this(null);
     }
+
+    public BattleshipGame(Path saveFile) {
+        this(saveFile, new Scanner(System.in)::nextLine, System.out);
+    }
+
+    public BattleshipGame(Path saveFile, Supplier<String> input, PrintStream output) {
+        this.saveFile = saveFile;
+        this.input = input;
+        this.printer = new BattleshipGamePrintHelper(output);
+    }
+
     public void play() {
-        notifyNPlayerPlanningStage(1);
-        placeShips(gridPlayer1);
-        beginNextPlayerMove();
+        ConsolePlayer player1 = new ConsolePlayer(1);
+        ConsolePlayer player2 = new ConsolePlayer(2);
+        if (saveFile != null && Files.exists(saveFile)) {
+            resume(player1, player2);
+        } else {
+            engine.play(player1, player2, player1, player2);
+        }
+    }
 
-        notifyNPlayerPlanningStage(2);
-        placeShips(gridPlayer2);
+    private void resume(ConsolePlayer player1, ConsolePlayer player2) {
+        ByteBuffer save;
+        try {
+            save = ByteBuffer.wrap(Files.readAllBytes(saveFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int nextPlayer;
+        try {
+            nextPlayer = save.getInt();
+            if (nextPlayer != 1 && nextPlayer != 2) {
+                throw new IllegalArgumentException("Saved game names player " + nextPlayer + " as the next one");
+            }
+            player1.ownGrid = readGameGrid(save);
+            player2.ownGrid = readGameGrid(save);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated saved game", e);
+        }
+        if (save.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes in saved game");
+        }
+        printer.notifyGameResumed();
         beginNextPlayerMove();
+        engine.resume(player1.ownGrid, player2.ownGrid, nextPlayer, player1, player2);
+    }
+
+    private GameGrid readGameGrid(ByteBuffer save) {
+        int snapshotLength = save.getInt();
+        if (snapshotLength < 0 || snapshotLength > save.remaining()) {
+            throw new IllegalArgumentException("Saved game grid length " + snapshotLength + " exceeds the "
+                    + save.remaining() + " remaining bytes");
+        }
+        byte[] snapshot = new byte[snapshotLength];
+        save.get(snapshot);
+        GameGrid grid = engine.getRules().createGameGrid();
+        grid.restore(GameGridSnapshot.fromByteArray(snapshot));
+        return grid;
+    }
 
-        takeShoots();
+    private void saveGame(GameGrid gridPlayer1, GameGrid gridPlayer2, int nextPlayer) {
+        byte[] snapshotPlayer1 = gridPlayer1.snapshot().toByteArray();
+        byte[] snapshotPlayer2 = gridPlayer2.snapshot().toByteArray();
+        ByteBuffer save = ByteBuffer.allocate(3 * Integer.BYTES + snapshotPlayer1.length + snapshotPlayer2.length)
+                .putInt(nextPlayer)
+                .putInt(snapshotPlayer1.length).put(snapshotPlayer1)
+                .putInt(snapshotPlayer2.length).put(snapshotPlayer2);
+        Path temporaryFile = saveFile.resolveSibling(saveFile.getFileName() + ".tmp");
+        try {
+            Files.write(temporaryFile, save.array());
+            Files.move(temporaryFile, saveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteSavedGame() {
+        try {
+            Files.deleteIfExists(saveFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private void beginNextPlayerMove() {
-        notifyNextPlayerMove();
-        scanner.nextLine();
+        printer.notifyNextPlayerMove();
+        input.get();
     }
 
-    private void takeShoots() {
-        while (true) {
-            printPVPGameGridView(gridPlayer2, gridPlayer1);
-            if (isLastTakenShot(gridPlayer2)) {
-                break;
+    private class ConsolePlayer implements PlacementStrategy, ShootingStrategy {
+        private final int playerNumber;
+        private GameGrid ownGrid;
+        private GameGrid enemyGrid;
+        private ShipType lastRequestedShipType;
+
+        private ConsolePlayer(int playerNumber) {
+            this.playerNumber = playerNumber;
+        }
+
+        @Override
+        public void onPlacementStarted(GameGrid ownGrid) {
+            this.ownGrid = ownGrid;
+            printer.notifyNPlayerPlanningStage(playerNumber);
+            printer.printGameGridView(ownGrid, GameGridViewPerspective.ENEMY_PERSPECTIVE);
+        }
+
+        @Override
+        public ShipPlacement nextPlacement(ShipType shipType) {
+            if (shipType != lastRequestedShipType) {
+                printer.printPlaceShipMessage(shipType);
+                lastRequestedShipType = shipType;
             }
-            beginNextPlayerMove();
+            return placeShip(shipType);
+        }
 
-            printPVPGameGridView(gridPlayer1, gridPlayer2);
-            if (isLastTakenShot(gridPlayer1)) {
-                break;
+        @Override
+        public void onPlacementResult(ShipType shipType, GridModificationResult result) {
+            if (isGoodShipAddingResult(result)) {
+                printer.printGameGridView(ownGrid, GameGridViewPerspective.ALLY_PERSPECTIVE);
             }
+        }
+
+        @Override
+        public void onPlacementFinished() {
             beginNextPlayerMove();
         }
-        notifyLastShipSinking();
-    }
 
-    private boolean isLastTakenShot(GameGrid grid) {
-        while (true) {
-            String userInput = readUsersInputFromConsole();
-            if (validateShotInput(userInput)) {
-                Square shootCoordinates = new Square(userInput);
-                GridModificationResult result = grid.registerShoot(shootCoordinates);
-                printGameGridView(grid, GameGridViewPerspective.ENEMY_PERSPECTIVE);
-                if (isGoodShotResult(result)) {
-                    if (isAWinner) {
-                        return true;
-                    } else {
-                        break;
-                    }
+        @Override
+        public void onGameStarted(GameGrid enemyGrid) {
+            this.enemyGrid = enemyGrid;
+        }
+
+        @Override
+        public void onTurnStarted() {
+            printer.printPVPGameGridView(enemyGrid, ownGrid);
+        }
+
+        @Override
+        public int nextShot() {
+            while (true) {
+                String userInput = readUsersInputFromConsole();
+                long startTime = GameMetrics.startTimer();
+                InputValidationState validationState = lexer.lexShot(userInput);
+                GameMetrics.stopTimer(GameMetrics.Timer.INPUT_PARSING, startTime);
+                if (validationState == InputValidationState.VALID) {
+                    return lexer.getFrontCell();
                 }
             }
         }
-        return false;
-    }
 
-    private boolean validateShotInput(String userInput) {
-        return validateUserInputShoot(userInput) == InputValidationState.VALID;
+        @Override
+        public void onShotResult(int cellIndex, GridModificationResult result) {
+            printer.printGameGridView(enemyGrid, GameGridViewPerspective.ENEMY_PERSPECTIVE);
+            if (isGoodShotResult(result)) {
+                if (result == GridModificationResult.WINNER) {
+                    if (saveFile != null) {
+                        deleteSavedGame();
+                    }
+                    printer.notifyLastShipSinking();
+                } else {
+                    if (saveFile != null) {
+                        saveGame(playerNumber == 1 ? ownGrid : enemyGrid, playerNumber == 1 ? enemyGrid : ownGrid,
+                                3 - playerNumber);
+                    }
+                    beginNextPlayerMove();
+                }
+            }
+        }
     }
 
     private boolean isGoodShotResult(GridModificationResult shotResult) {
         switch(shotResult) {
             case OUT_OF_GAME_GRID -> {
-                System.out.println();
-                System.out.println(WRONG_COORDINATES);
+                printer.notifyWrongCoordinates();
                 return false;
             }
             case HIT_REGISTERED -> {
-                System.out.println();
-                System.out.println(YOU_HIT_A_SHIP);
+                printer.notifyShipHit();
                 return true;
             }
             case MISS_REGISTERED -> {
-                System.out.println();
-                System.out.println(YOU_MISSED);
+                printer.notifyShipMissed();
                 return true;
             }
             case SHIP_SANK -> {
-                System.out.println();
-                System.out.println(YOU_SANK_A_SHIP);
+                printer.notifyShipSinking();
                 return true;
             }
             case WINNER -> {
-                isAWinner = true;
                 return true;
             }
             default -> {
@@ -117,46 +232,29 @@ public class BattleshipGame {
         }
     }
 
-    private InputValidationState validateUserInputShoot(String userProvidedCoordinates) {
-        if (isNotValidCoordinateFormat(userProvidedCoordinates)) {
-            return InputValidationState.WRONG_FORMAT;
-        } else {
-            return InputValidationState.VALID;
-        }
-    }
-
-    private void placeShips(GameGrid grid) {
-        printGameGridView(grid, GameGridViewPerspective.ENEMY_PERSPECTIVE);
-        for (ShipType shipType : ShipType.values()) {
-            printPlaceShipMessage(shipType);
-            placeShip(shipType, grid);
-            printGameGridView(grid, GameGridViewPerspective.ALLY_PERSPECTIVE);
-        }
-    }
-
-    private void placeShip(ShipType shipType, GameGrid grid) {
+    private ShipPlacement placeShip(ShipType shipType) {
         while (true) {
             String userRawInput = readUsersInputFromConsole();
-            List<String> userProvidedCoordinates = new ArrayList<>(Arrays.asList(userRawInput.split(" ")));
-            if (validateShipPlacementInput(userProvidedCoordinates))  {
-                Square frontSquare = new Square(userProvidedCoordinates.get(0));
-                Square rearSquare = new Square(userProvidedCoordinates.get(1));
-                if (!isShipOfCorrectSize(getShipSizeFromCoordinates(frontSquare, rearSquare), shipType)) {
-                    notifyWrongShipSize(shipType.getName());
-                } else if (isGoodShipAddingResult(grid.addShip(frontSquare, rearSquare, shipType))){
-                        break;
+            long startTime = GameMetrics.startTimer();
+            InputValidationState validationState = lexer.lexPlacement(userRawInput);
+            GameMetrics.stopTimer(GameMetrics.Timer.INPUT_PARSING, startTime);
+            if (validateShipPlacementInput(validationState))  {
+                if (!isShipOfCorrectSize(lexer.getShipSize(), shipType)) {
+                    printer.notifyWrongShipSize(shipType.getName());
+                } else {
+                    return new ShipPlacement(lexer.getFrontCell(), lexer.getRearCell());
                 }
             }
         }
     }
 
-    private boolean validateShipPlacementInput(List<String> userProvidedCoordinates) {
-        switch (validateUserInputStrategyStage(userProvidedCoordinates)) {
+    private boolean validateShipPlacementInput(InputValidationState validationState) {
+        switch (validationState) {
             case VALID -> {
                 return true;
             }
             case NOT_SAME_LANE_OR_COLUMN -> {
-                notifyWrongShipPosition();
+                printer.notifyWrongShipPosition();
                 return false;
             }
             default -> {
@@ -168,11 +266,11 @@ public class BattleshipGame {
     private boolean isGoodShipAddingResult(GridModificationResult result) {
         switch(result) {
             case OUT_OF_GAME_GRID -> {
-                notifyWrongShipPosition();
+                printer.notifyWrongShipPosition();
                 return false;
             }
             case SHIPS_TO_CLOSE -> {
-                notifyTooCloseToAnotherShip();
+                printer.notifyTooCloseToAnotherShip();
                 return false;
             }
             case SHIP_PLACED -> {
@@ -188,54 +286,8 @@ public class BattleshipGame {
         return providedShipSize == shipType.getSize();
     }
 
-    private int getShipSizeFromCoordinates(Square frontCell, Square rearCell) {
-        return Math.max(
-                Math.abs(frontCell.getLine() - rearCell.getLine()),
-                Math.abs(frontCell.getColumn() - rearCell.getColumn())
-        ) + 1;
-    }
-
     private String readUsersInputFromConsole() {
-        emptyLine();
-        return scanner.nextLine();
-    }
-
-    private InputValidationState validateUserInputStrategyStage(List<String> userProvidedCoordinates) {
-        if (userProvidedCoordinates.size() != 2) {
-            return InputValidationState.WRONG_SIZE;
-        } else if (isNotValidCoordinateFormat(userProvidedCoordinates.get(0))
-                || isNotValidCoordinateFormat(userProvidedCoordinates.get(1))) {
-            return InputValidationState.WRONG_FORMAT;
-        } else if (isDiagonal(userProvidedCoordinates)) {
-            return InputValidationState.NOT_SAME_LANE_OR_COLUMN;
-        } else {
-            return InputValidationState.VALID;
-        }
-    }
-
-    private boolean isDiagonal(List<String> coordinates) {
-        switch (new Square(coordinates.get(0)).getDirectionTo(new Square(coordinates.get(1)))) {
-            case LEFT_DOWN, LEFT_UP, RIGHT_DOWN, RIGHT_UP -> {
-                return true;
-            }
-            default -> {
-                return false;
-            }
-        }
-    }
-
-    private boolean isNotValidCoordinateFormat(String coordinate) {
-        if (coordinate.length() < 2) {
-            return true;
-        } else if (coordinate.charAt(0) < 'A' || coordinate.charAt(0) > 'Z') {
-            return true;
-        } else {
-            try {
-                Integer.parseInt(coordinate.substring(1));
-            } catch (NumberFormatException e) {
-                return true;
-            }
-        }
-        return false;
+        printer.emptyLine();
+        return input.get();
     }
 }
@@ -0,0 +1,541 @@
+package battleship.game.analytics;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static battleship.util.Constants.GameGridConstants.*;
+
+public class FleetLayoutCounter {
+    public static final byte UNOBSERVED = 0;
+    public static final byte OBSERVED_MISS = 1;
+    public static final byte OBSERVED_HIT = 2;
+    private static final int MINIMUM_STATES_PER_TASK = 4096;
+    private static final int TASKS_PER_THREAD = 4;
+    private static final int MAXIMUM_STATE_BITS = Long.SIZE - 1;
+    private static final int MAXIMUM_FLEET_STATES = 1 << 20;
+
+    private final GameRules rules;
+    private final int gridSize;
+    private final int numberOfCells;
+    private final int[] shipLengths;
+    private final int numberOfFleetStates;
+    private final long[] fleetWeights;
+    private final int[] remainingShips;
+    private final int[] remainingSquares;
+    private final int[] maximumShipSquaresAfter;
+    private final int columnBits;
+    private final long columnMask;
+    private final int diagonalShift;
+    private final int horizontalShift;
+    private final int fleetShift;
+    private final BigInteger shipTypeArrangements;
+    private final ForkJoinPool pool;
+
+    public FleetLayoutCounter(GameRules rules) {
+        this(rules, ForkJoinPool.commonPool());
+    }
+
+    public FleetLayoutCounter(GameRules rules, ForkJoinPool pool) {
+        this.rules = rules;
+        this.pool = pool;
+        gridSize = rules.getGridSize();
+        numberOfCells = rules.getNumberOfCells();
+        ShipType[] fleet = rules.getFleet();
+        shipLengths = Arrays.stream(fleet).mapToInt(ShipType::getSize).distinct().sorted().toArray();
+        int[] initialShipsByLength = new int[shipLengths.length];
+        int[] shipsByType = new int[ShipType.values().length];
+        for (ShipType shipType : fleet) {
+            initialShipsByLength[Arrays.binarySearch(shipLengths, shipType.getSize())]++;
+            shipsByType[shipType.ordinal()]++;
+        }
+        fleetWeights = new long[shipLengths.length];
+        long fleetStates = 1;
+        BigInteger arrangements = BigInteger.ONE;
+        for (int k = 0; k < shipLengths.length; k++) {
+            fleetWeights[k] = fleetStates;
+            fleetStates *= initialShipsByLength[k] + 1;
+            arrangements = arrangements.multiply(factorial(initialShipsByLength[k]));
+        }
+        for (int ships : shipsByType) {
+            arrangements = arrangements.divide(factorial(ships));
+        }
+        shipTypeArrangements = arrangements;
+        columnBits = Integer.SIZE - Integer.numberOfLeadingZeros(shipLengths[shipLengths.length - 1]);
+        columnMask = (1L << columnBits) - 1;
+        diagonalShift = gridSize * columnBits;
+        horizontalShift = diagonalShift + 1;
+        fleetShift = horizontalShift + columnBits;
+        if (fleetStates > MAXIMUM_FLEET_STATES ||
+                fleetShift + Long.SIZE - Long.numberOfLeadingZeros(fleetStates - 1) > MAXIMUM_STATE_BITS) {
+            throw new IllegalArgumentException("A " + gridSize + "x" + gridSize + " grid with " + fleet.length +
+                    " ships is too large for an exact layout count");
+        }
+        numberOfFleetStates = (int) fleetStates;
+        remainingShips = new int[numberOfFleetStates * shipLengths.length];
+        remainingSquares = new int[numberOfFleetStates];
+        for (int fleetState = 0; fleetState < numberOfFleetStates; fleetState++) {
+            for (int k = 0; k < shipLengths.length; k++) {
+                int ships = (int) (fleetState / fleetWeights[k] % (initialShipsByLength[k] + 1));
+                remainingShips[fleetState * shipLengths.length + k] = ships;
+                remainingSquares[fleetState] += ships * shipLengths[k];
+            }
+        }
+        maximumShipSquaresAfter = new int[numberOfCells];
+        for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+            int remainingLines = gridSize - 1 - cellIndex / gridSize;
+            maximumShipSquaresAfter[cellIndex] = gridSize - 1 - cellIndex % gridSize +
+                    2 * ((remainingLines + 1) / 2) * ((gridSize + 1) / 2);
+        }
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    public BigInteger countLayouts() {
+        return countLayouts(new byte[numberOfCells]);
+    }
+
+    public BigInteger countLayouts(byte[] observations) {
+        checkObservations(observations);
+        Layer layer = getRootLayer();
+        for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+            layer = expand(layer, cellIndex, observations[cellIndex]);
+        }
+        return getCompleteLayouts(layer);
+    }
+
+    public LayoutCount countLayoutsByCell() {
+        return countLayoutsByCell(new byte[numberOfCells]);
+    }
+
+    public LayoutCount countLayoutsByCell(byte[] observations) {
+        checkObservations(observations);
+        Layer[] layers = new Layer[numberOfCells + 1];
+        layers[0] = getRootLayer();
+        for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+            layers[cellIndex + 1] = expand(layers[cellIndex], cellIndex, observations[cellIndex]);
+        }
+        Layer lastLayer = layers[numberOfCells];
+        long[] completions = new long[lastLayer.size];
+        for (int i = 0; i < lastLayer.size; i++) {
+            completions[i] = lastLayer.states[i] >>> fleetShift == 0 ? 1 : 0;
+        }
+        BigInteger[] largeCompletions = new BigInteger[lastLayer.size];
+        BigInteger[] layoutsByCell = new BigInteger[numberOfCells];
+        for (int cellIndex = numberOfCells - 1; cellIndex >= 0; cellIndex--) {
+            Layer layer = layers[cellIndex];
+            long[] previousCompletions = new long[layer.size];
+            BigInteger[] previousLargeCompletions = new BigInteger[layer.size];
+            BigInteger occupiedLayouts = pool.invoke(new CompletionTask(layer, layers[cellIndex + 1], cellIndex,
+                    observations[cellIndex], completions, largeCompletions, previousCompletions,
+                    previousLargeCompletions, 0, layer.size, getStatesPerTask(layer)));
+            layoutsByCell[cellIndex] = occupiedLayouts.multiply(shipTypeArrangements);
+            completions = previousCompletions;
+            largeCompletions = previousLargeCompletions;
+            layers[cellIndex + 1] = null;
+        }
+        BigInteger layouts = largeCompletions[0] != null ? largeCompletions[0] : BigInteger.valueOf(completions[0]);
+        return new LayoutCount(layouts.multiply(shipTypeArrangements), layoutsByCell);
+    }
+
+    public static byte[] observe(GameGrid enemyGrid) {
+        byte[] observations = new byte[enemyGrid.getGridSize() * enemyGrid.getGridSize()];
+        for (int cellIndex = 0; cellIndex < observations.length; cellIndex++) {
+            String cellData = enemyGrid.getCellData(cellIndex);
+            if (HIT.equals(cellData)) {
+                observations[cellIndex] = OBSERVED_HIT;
+            } else if (MISS_SHOT.equals(cellData)) {
+                observations[cellIndex] = OBSERVED_MISS;
+            }
+        }
+        return observations;
+    }
+
+    public static void main(String[] args) {
+        int gridSize = args.length > 0 ? Integer.parseInt(args[0]) : GameRules.STANDARD.getGridSize();
+        FleetLayoutCounter counter = new FleetLayoutCounter(new GameRules(gridSize, GameRules.STANDARD.getFleet()));
+
+        long start = System.nanoTime();
+        LayoutCount count = counter.countLayoutsByCell();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d legal fleet layouts on a %dx%d grid counted in %.2f s on %d threads%n",
+                count.layouts(), gridSize, gridSize, seconds, counter.pool.getParallelism());
+        for (int line = 0; line < gridSize; line++) {
+            StringBuilder probabilities = new StringBuilder();
+            for (int column = 0; column < gridSize; column++) {
+                probabilities.append(String.format(" %.3f", count.getShipProbability(line * gridSize + column)));
+            }
+            System.out.println(probabilities.substring(1));
+        }
+    }
+
+    private void checkObservations(byte[] observations) {
+        if (observations.length != numberOfCells) {
+            throw new IllegalArgumentException("Expected " + numberOfCells + " observed cells but got " +
+                    observations.length);
+        }
+    }
+
+    private Layer getRootLayer() {
+        Layer layer = new Layer(1);
+        layer.add((long) (numberOfFleetStates - 1) << fleetShift, 1, null);
+        return layer;
+    }
+
+    private BigInteger getCompleteLayouts(Layer layer) {
+        Sum layouts = new Sum();
+        for (int i = 0; i < layer.size; i++) {
+            if (layer.states[i] >>> fleetShift == 0) {
+                layouts.add(layer.counts[i], layer.getLargeCount(i));
+            }
+        }
+        return layouts.get().multiply(shipTypeArrangements);
+    }
+
+    private Layer expand(Layer layer, int cellIndex, byte observation) {
+        return pool.invoke(new ExpansionTask(layer, cellIndex, observation, 0, layer.size,
+                getStatesPerTask(layer)));
+    }
+
+    private int getStatesPerTask(Layer layer) {
+        return Math.max(MINIMUM_STATES_PER_TASK, layer.size / (TASKS_PER_THREAD * pool.getParallelism()) + 1);
+    }
+
+    private int getSuccessors(long state, int cellIndex, byte observation, long[] successors) {
+        int line = cellIndex / gridSize;
+        int column = cellIndex % gridSize;
+        int up = getColumn(state, column);
+        int left = column > 0 ? getColumn(state, column - 1) : 0;
+        boolean isUpLeftOccupied = column > 0 && (state >>> diagonalShift & 1) != 0;
+        boolean isUpRightOccupied = column + 1 < gridSize && getColumn(state, column + 1) != 0;
+        int horizontalRemainder = (int) (state >>> horizontalShift & columnMask);
+        long base = state & ~(1L << diagonalShift);
+        if (up != 0 && column + 1 < gridSize) {
+            base |= 1L << diagonalShift;
+        }
+        if (up > 1) {
+            if (observation == OBSERVED_MISS || horizontalRemainder > 0 || left != 0) {
+                return 0;
+            }
+            successors[0] = setColumn(base, column, up - 1);
+            return 1;
+        }
+        if (horizontalRemainder > 0) {
+            if (observation == OBSERVED_MISS || up != 0 || isUpRightOccupied) {
+                return 0;
+            }
+            successors[0] = setHorizontalRemainder(setColumn(base, column, 1), horizontalRemainder - 1);
+            return 1;
+        }
+        int numberOfSuccessors = 0;
+        if (observation != OBSERVED_HIT) {
+            successors[numberOfSuccessors++] = setColumn(base, column, 0);
+        }
+        if (observation == OBSERVED_MISS || up != 0 || left != 0 || isUpLeftOccupied || isUpRightOccupied) {
+            return numberOfSuccessors;
+        }
+        int fleetState = (int) (state >>> fleetShift);
+        long profile = base & (1L << fleetShift) - 1;
+        for (int k = 0; k < shipLengths.length; k++) {
+            if (remainingShips[fleetState * shipLengths.length + k] == 0) {
+                continue;
+            }
+            int length = shipLengths[k];
+            long placed = profile | fleetState - fleetWeights[k] << fleetShift;
+            if (column + length <= gridSize) {
+                successors[numberOfSuccessors++] = setHorizontalRemainder(setColumn(placed, column, 1), length - 1);
+            }
+            if (length > 1 && line + length <= gridSize) {
+                successors[numberOfSuccessors++] = setColumn(placed, column, length);
+            }
+        }
+        return numberOfSuccessors;
+    }
+
+    private boolean isFleetPlaceable(long state, int cellIndex) {
+        return remainingSquares[(int) (state >>> fleetShift)] <= maximumShipSquaresAfter[cellIndex];
+    }
+
+    private int getColumn(long state, int column) {
+        return (int) (state >>> column * columnBits & columnMask);
+    }
+
+    private long setColumn(long state, int column, int value) {
+        return state & ~(columnMask << column * columnBits) | (long) value << column * columnBits;
+    }
+
+    private long setHorizontalRemainder(long state, int value) {
+        return state & ~(columnMask << horizontalShift) | (long) value << horizontalShift;
+    }
+
+    private int getMaximumNumberOfSuccessors() {
+        return 1 + 2 * shipLengths.length;
+    }
+
+    private static BigInteger factorial(int n) {
+        BigInteger factorial = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            factorial = factorial.multiply(BigInteger.valueOf(i));
+        }
+        return factorial;
+    }
+
+    public record LayoutCount(BigInteger layouts, BigInteger[] layoutsByCell) {
+        public double getShipProbability(int cellIndex) {
+            if (layouts.signum() == 0) {
+                return 0;
+            }
+            return new BigDecimal(layoutsByCell[cellIndex])
+                    .divide(new BigDecimal(layouts), MathContext.DECIMAL64)
+                    .doubleValue();
+        }
+    }
+
+    private static final class Layer {
+        private long[] states;
+        private long[] counts;
+        private BigInteger[] largeCounts;
+        private int[] table;
+        private int size;
+
+        private Layer(int capacity) {
+            states = new long[capacity];
+            counts = new long[capacity];
+            table = new int[Integer.highestOneBit(capacity) << 2];
+        }
+
+        private BigInteger getLargeCount(int entry) {
+            return largeCounts == null ? null : largeCounts[entry];
+        }
+
+        private int indexOf(long state) {
+            int mask = table.length - 1;
+            for (int slot = hash(state) & mask; table[slot] != 0; slot = slot + 1 & mask) {
+                if (states[table[slot] - 1] == state) {
+                    return table[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private void add(long state, long count, BigInteger largeCount) {
+            int mask = table.length - 1;
+            int slot = hash(state) & mask;
+            for (; table[slot] != 0; slot = slot + 1 & mask) {
+                int entry = table[slot] - 1;
+                if (states[entry] == state) {
+                    addCount(entry, count, largeCount);
+                    return;
+                }
+            }
+            if (size == states.length) {
+                grow();
+                add(state, count, largeCount);
+                return;
+            }
+            states[size] = state;
+            table[slot] = size + 1;
+            addCount(size++, count, largeCount);
+        }
+
+        private void addAll(Layer layer) {
+            for (int i = 0; i < layer.size; i++) {
+                add(layer.states[i], layer.counts[i], layer.getLargeCount(i));
+            }
+        }
+
+        private void addCount(int entry, long count, BigInteger largeCount) {
+            if (largeCount == null && getLargeCount(entry) == null) {
+                long sum = counts[entry] + count;
+                if (sum >= 0) {
+                    counts[entry] = sum;
+                    return;
+                }
+            }
+            if (largeCounts == null) {
+                largeCounts = new BigInteger[states.length];
+            }
+            BigInteger current = largeCounts[entry] != null ? largeCounts[entry] : BigInteger.valueOf(counts[entry]);
+            largeCounts[entry] = current.add(largeCount != null ? largeCount : BigInteger.valueOf(count));
+        }
+
+        private void grow() {
+            int capacity = states.length * 2;
+            states = Arrays.copyOf(states, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            if (largeCounts != null) {
+                largeCounts = Arrays.copyOf(largeCounts, capacity);
+            }
+            table = new int[Integer.highestOneBit(capacity) << 2];
+            int mask = table.length - 1;
+            for (int entry = 0; entry < size; entry++) {
+                int slot = hash(states[entry]) & mask;
+                while (table[slot] != 0) {
+                    slot = slot + 1 & mask;
+                }
+                table[slot] = entry + 1;
+            }
+        }
+
+        private static int hash(long state) {
+            long mixed = state * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ mixed >>> 32);
+        }
+    }
+
+    private static final class Sum {
+        private long value;
+        private BigInteger largeValue;
+
+        private void add(long count, BigInteger largeCount) {
+            if (largeValue == null && largeCount == null) {
+                long sum = value + count;
+                if (sum >= 0) {
+                    value = sum;
+                    return;
+                }
+            }
+            largeValue = get().add(largeCount != null ? largeCount : BigInteger.valueOf(count));
+        }
+
+        private void addProduct(long count, BigInteger largeCount, long factor, BigInteger largeFactor) {
+            if (largeCount == null && largeFactor == null && Math.multiplyHigh(count, factor) == 0 &&
+                    count * factor >= 0) {
+                add(count * factor, null);
+                return;
+            }
+            BigInteger product = (largeCount != null ? largeCount : BigInteger.valueOf(count))
+                    .multiply(largeFactor != null ? largeFactor : BigInteger.valueOf(factor));
+            add(0, product);
+        }
+
+        private BigInteger get() {
+            return largeValue != null ? largeValue : BigInteger.valueOf(value);
+        }
+    }
+
+    private class ExpansionTask extends RecursiveTask<Layer> {
+        private final Layer layer;
+        private final int cellIndex;
+        private final byte observation;
+        private final int fromState;
+        private final int toState;
+        private final int statesPerTask;
+
+        private ExpansionTask(Layer layer, int cellIndex, byte observation, int fromState, int toState,
+                              int statesPerTask) {
+            this.layer = layer;
+            this.cellIndex = cellIndex;
+            this.observation = observation;
+            this.fromState = fromState;
+            this.toState = toState;
+            this.statesPerTask = statesPerTask;
+        }
+
+        @Override
+        protected Layer compute() {
+            if (toState - fromState <= statesPerTask) {
+                Layer nextLayer = new Layer(toState - fromState);
+                long[] successors = new long[getMaximumNumberOfSuccessors()];
+                for (int i = fromState; i < toState; i++) {
+                    int numberOfSuccessors = getSuccessors(layer.states[i], cellIndex, observation, successors);
+                    for (int j = 0; j < numberOfSuccessors; j++) {
+                        if (isFleetPlaceable(successors[j], cellIndex)) {
+                            nextLayer.add(successors[j], layer.counts[i], layer.getLargeCount(i));
+                        }
+                    }
+                }
+                return nextLayer;
+            }
+            int middle = (fromState + toState) >>> 1;
+            ExpansionTask left = new ExpansionTask(layer, cellIndex, observation, fromState, middle, statesPerTask);
+            ExpansionTask right = new ExpansionTask(layer, cellIndex, observation, middle, toState, statesPerTask);
+            left.fork();
+            Layer rightLayer = right.compute();
+            Layer leftLayer = left.join();
+            if (leftLayer.size < rightLayer.size) {
+                rightLayer.addAll(leftLayer);
+                return rightLayer;
+            }
+            leftLayer.addAll(rightLayer);
+            return leftLayer;
+        }
+    }
+
+    private class CompletionTask extends RecursiveTask<BigInteger> {
+        private final Layer layer;
+        private final Layer nextLayer;
+        private final int cellIndex;
+        private final byte observation;
+        private final long[] nextCompletions;
+        private final BigInteger[] nextLargeCompletions;
+        private final long[] completions;
+        private final BigInteger[] largeCompletions;
+        private final int fromState;
+        private final int toState;
+        private final int statesPerTask;
+
+        private CompletionTask(Layer layer, Layer nextLayer, int cellIndex, byte observation,
+                               long[] nextCompletions, BigInteger[] nextLargeCompletions, long[] completions,
+                               BigInteger[] largeCompletions, int fromState, int toState, int statesPerTask) {
+            this.layer = layer;
+            this.nextLayer = nextLayer;
+            this.cellIndex = cellIndex;
+            this.observation = observation;
+            this.nextCompletions = nextCompletions;
+            this.nextLargeCompletions = nextLargeCompletions;
+            this.completions = completions;
+            this.largeCompletions = largeCompletions;
+            this.fromState = fromState;
+            this.toState = toState;
+            this.statesPerTask = statesPerTask;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (toState - fromState <= statesPerTask) {
+                long[] successors = new long[getMaximumNumberOfSuccessors()];
+                int column = cellIndex % gridSize;
+                Sum occupiedLayouts = new Sum();
+                for (int i = fromState; i < toState; i++) {
+                    Sum stateCompletions = new Sum();
+                    Sum occupiedCompletions = new Sum();
+                    int numberOfSuccessors = getSuccessors(layer.states[i], cellIndex, observation, successors);
+                    for (int j = 0; j < numberOfSuccessors; j++) {
+                        int next = nextLayer.indexOf(successors[j]);
+                        if (next < 0) {
+                            continue;
+                        }
+                        stateCompletions.add(nextCompletions[next], nextLargeCompletions[next]);
+                        if (getColumn(successors[j], column) != 0) {
+                            occupiedCompletions.add(nextCompletions[next], nextLargeCompletions[next]);
+                        }
+                    }
+                    completions[i] = stateCompletions.value;
+                    largeCompletions[i] = stateCompletions.largeValue;
+                    occupiedLayouts.addProduct(layer.counts[i], layer.getLargeCount(i),
+                            occupiedCompletions.value, occupiedCompletions.largeValue);
+                }
+                return occupiedLayouts.get();
+            }
+            int middle = (fromState + toState) >>> 1;
+            CompletionTask left = new CompletionTask(layer, nextLayer, cellIndex, observation, nextCompletions,
+                    nextLargeCompletions, completions, largeCompletions, fromState, middle, statesPerTask);
+            CompletionTask right = new CompletionTask(layer, nextLayer, cellIndex, observation, nextCompletions,
+                    nextLargeCompletions, completions, largeCompletions, middle, toState, statesPerTask);
+            left.fork();
+            BigInteger rightLayouts = right.compute();
+            return left.join().add(rightLayouts);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package battleship.game.analytics;
+
+import battleship.game.engine.GameListener;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.grid.ShotListener;
+import battleship.game.record.GameRecord;
+import battleship.game.ship.ShipType;
+
+import java.util.Arrays;
+
+public class GameAnalytics implements GameListener {
+    private static final int NUMBER_OF_SHIP_TYPES = ShipType.values().length;
+
+    private final int gridSize;
+    private final long[] shotsByCell;
+    private final long[] hitsByCell;
+    private final long[] openingShotsByCell;
+    private final long[] shipCellsByCell;
+    private final long[] sinksByShipType = new long[NUMBER_OF_SHIP_TYPES];
+    private final long[] shotsToSinkByShipType = new long[NUMBER_OF_SHIP_TYPES];
+    private final long[] winsByPlayer = new long[2];
+    private long numberOfGames;
+    private long numberOfSkippedGames;
+
+    private final int[] shotsByPlayer = new int[2];
+    private final int[] placedShips = new int[2];
+    private int[][] placements = new int[2][0];
+    private boolean isGameCounted;
+
+    public GameAnalytics(int gridSize) {
+        this.gridSize = gridSize;
+        int numberOfCells = gridSize * gridSize;
+        shotsByCell = new long[numberOfCells];
+        hitsByCell = new long[numberOfCells];
+        openingShotsByCell = new long[numberOfCells];
+        shipCellsByCell = new long[numberOfCells];
+    }
+
+    @Override
+    public void startGame(int gameGridSize) {
+        isGameCounted = gameGridSize == gridSize;
+        shotsByPlayer[0] = 0;
+        shotsByPlayer[1] = 0;
+        placedShips[0] = 0;
+        placedShips[1] = 0;
+    }
+
+    @Override
+    public void onPlacement(int player, ShipType shipType, int frontCell, int rearCell) {
+        if (!isGameCounted) {
+            return;
+        }
+        int firstCell = Math.min(frontCell, rearCell);
+        int lastCell = Math.max(frontCell, rearCell);
+        int step = firstCell / gridSize == lastCell / gridSize ? 1 : gridSize;
+        for (int cell = firstCell; cell <= lastCell; cell += step) {
+            shipCellsByCell[cell]++;
+        }
+        int[] playerPlacements = placements[player - 1];
+        int ship = placedShips[player - 1]++;
+        if (3 * ship + 3 > playerPlacements.length) {
+            playerPlacements = Arrays.copyOf(playerPlacements, Math.max(3 * (ship + 1), 2 * playerPlacements.length));
+            placements[player - 1] = playerPlacements;
+        }
+        playerPlacements[3 * ship] = firstCell;
+        playerPlacements[3 * ship + 1] = lastCell;
+        playerPlacements[3 * ship + 2] = shipType.ordinal();
+    }
+
+    public void onShot(int player, int cellIndex, GridModificationResult result) {
+        if (!isGameCounted) {
+            return;
+        }
+        int shots = ++shotsByPlayer[player - 1];
+        if (shots == 1) {
+            openingShotsByCell[cellIndex]++;
+        }
+        shotsByCell[cellIndex]++;
+        switch (result) {
+            case HIT_REGISTERED -> hitsByCell[cellIndex]++;
+            case SHIP_SANK, WINNER -> {
+                hitsByCell[cellIndex]++;
+                int shipType = findShipType(3 - player, cellIndex);
+                if (shipType >= 0) {
+                    sinksByShipType[shipType]++;
+                    shotsToSinkByShipType[shipType] += shots;
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public ShotListener getShotListener(int player) {
+        return (cellIndex, result) -> onShot(player, cellIndex, result);
+    }
+
+    @Override
+    public void endGame(int winner) {
+        if (isGameCounted) {
+            numberOfGames++;
+            winsByPlayer[winner - 1]++;
+        } else {
+            numberOfSkippedGames++;
+        }
+    }
+
+    public void accept(GameRecord record) {
+        startGame(record.getGridSize());
+        if (isGameCounted) {
+            for (int player = 1; player <= 2; player++) {
+                for (int ship = 0; ship < record.getNumberOfShips(); ship++) {
+                    onPlacement(player, record.getShipType(ship), record.getFrontCell(player, ship),
+                            record.getRearCell(player, ship));
+                }
+            }
+            for (int shot = 0; shot < record.getNumberOfShots(); shot++) {
+                onShot(record.getShotPlayer(shot), record.getShotCell(shot), record.getShotResult(shot));
+            }
+        }
+        endGame(record.getWinner());
+    }
+
+    private int findShipType(int owner, int cellIndex) {
+        int[] ownerPlacements = placements[owner - 1];
+        for (int ship = 0; ship < placedShips[owner - 1]; ship++) {
+            int firstCell = ownerPlacements[3 * ship];
+            int lastCell = ownerPlacements[3 * ship + 1];
+            if (cellIndex < firstCell || cellIndex > lastCell) {
+                continue;
+            }
+            if (firstCell / gridSize == lastCell / gridSize || (cellIndex - firstCell) % gridSize == 0) {
+                return ownerPlacements[3 * ship + 2];
+            }
+        }
+        return -1;
+    }
+
+    GameAnalytics merge(GameAnalytics other) {
+        if (other.gridSize != gridSize) {
+            throw new IllegalArgumentException("Cannot merge analytics of a " + other.gridSize + " grid into a " +
+                    gridSize + " grid");
+        }
+        add(shotsByCell, other.shotsByCell);
+        add(hitsByCell, other.hitsByCell);
+        add(openingShotsByCell, other.openingShotsByCell);
+        add(shipCellsByCell, other.shipCellsByCell);
+        add(sinksByShipType, other.sinksByShipType);
+        add(shotsToSinkByShipType, other.shotsToSinkByShipType);
+        add(winsByPlayer, other.winsByPlayer);
+        numberOfGames += other.numberOfGames;
+        numberOfSkippedGames += other.numberOfSkippedGames;
+        return this;
+    }
+
+    GameAnalytics copy() {
+        return new GameAnalytics(gridSize).merge(this);
+    }
+
+    private static void add(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public long getNumberOfGames() {
+        return numberOfGames;
+    }
+
+    public long getNumberOfSkippedGames() {
+        return numberOfSkippedGames;
+    }
+
+    public long getWins(int player) {
+        return winsByPlayer[player - 1];
+    }
+
+    public long getShotCount(int cellIndex) {
+        return shotsByCell[cellIndex];
+    }
+
+    public long getHitCount(int cellIndex) {
+        return hitsByCell[cellIndex];
+    }
+
+    public double getHitFrequency(int cellIndex) {
+        return shotsByCell[cellIndex] == 0 ? 0 : (double) hitsByCell[cellIndex] / shotsByCell[cellIndex];
+    }
+
+    public long getOpeningShotCount(int cellIndex) {
+        return openingShotsByCell[cellIndex];
+    }
+
+    public long getShipCellCount(int cellIndex) {
+        return shipCellsByCell[cellIndex];
+    }
+
+    public long getSinkCount(ShipType shipType) {
+        return sinksByShipType[shipType.ordinal()];
+    }
+
+    public double getAverageShotsToSink(ShipType shipType) {
+        long sinks = sinksByShipType[shipType.ordinal()];
+        return sinks == 0 ? 0 : (double) shotsToSinkByShipType[shipType.ordinal()] / sinks;
+    }
+}
@@ -0,0 +1,155 @@
+package battleship.game.analytics;
+
+import battleship.game.record.GameRecordReader;
+import battleship.game.ship.ShipType;
+import battleship.game.square.CoordinateCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class GameAnalyticsPipeline {
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    private final Path file;
+    private final int gridSize;
+    private final ForkJoinPool pool;
+    private final GameAnalytics total;
+    private long position = 0;
+
+    public GameAnalyticsPipeline(Path file, int gridSize) {
+        this(file, gridSize, ForkJoinPool.commonPool());
+    }
+
+    public GameAnalyticsPipeline(Path file, int gridSize, ForkJoinPool pool) {
+        this.file = file;
+        this.gridSize = gridSize;
+        this.pool = pool;
+        this.total = new GameAnalytics(gridSize);
+    }
+
+    public synchronized GameAnalytics update() throws IOException {
+        long[] boundaries;
+        try (GameRecordReader reader = new GameRecordReader(file, position, Long.MAX_VALUE)) {
+            boundaries = reader.split(pool.getParallelism() * SEGMENTS_PER_THREAD);
+        }
+        try {
+            total.merge(pool.invoke(new SegmentRangeTask(boundaries, 0, boundaries.length - 1)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        position = boundaries[boundaries.length - 1];
+        return total.copy();
+    }
+
+    public ScheduledFuture<?> emitPeriodically(ScheduledExecutorService scheduler, long period, TimeUnit unit,
+                                               Consumer<GameAnalytics> consumer) {
+        return emitPeriodically(scheduler, period, unit, consumer,
+                e -> System.err.println("Could not update game analytics: " + e.getMessage()));
+    }
+
+    public ScheduledFuture<?> emitPeriodically(ScheduledExecutorService scheduler, long period, TimeUnit unit,
+                                               Consumer<GameAnalytics> consumer, Consumer<Exception> errorConsumer) {
+        return scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                consumer.accept(update());
+            } catch (IOException | RuntimeException e) {
+                errorConsumer.accept(e);
+            }
+        }, 0, period, unit);
+    }
+
+    private GameAnalytics analyzeSegment(long fromOffset, long toOffset) {
+        GameAnalytics analytics = new GameAnalytics(gridSize);
+        if (fromOffset == toOffset) {
+            return analytics;
+        }
+        try (GameRecordReader reader = new GameRecordReader(file, fromOffset, toOffset)) {
+            while (reader.next()) {
+                analytics.accept(reader.getRecord());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return analytics;
+    }
+
+    private class SegmentRangeTask extends RecursiveTask<GameAnalytics> {
+        private final long[] boundaries;
+        private final int fromSegment;
+        private final int toSegment;
+
+        private SegmentRangeTask(long[] boundaries, int fromSegment, int toSegment) {
+            this.boundaries = boundaries;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+        }
+
+        @Override
+        protected GameAnalytics compute() {
+            if (toSegment - fromSegment == 1) {
+                return analyzeSegment(boundaries[fromSegment], boundaries[toSegment]);
+            }
+            int middle = (fromSegment + toSegment) >>> 1;
+            SegmentRangeTask left = new SegmentRangeTask(boundaries, fromSegment, middle);
+            SegmentRangeTask right = new SegmentRangeTask(boundaries, middle, toSegment);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args[0]);
+        int gridSize = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        GameAnalyticsPipeline pipeline = new GameAnalyticsPipeline(file, gridSize);
+        if (args.length > 2) {
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            pipeline.emitPeriodically(scheduler, Long.parseLong(args[2]), TimeUnit.SECONDS,
+                    GameAnalyticsPipeline::printSummary);
+            return;
+        }
+        long start = System.nanoTime();
+        GameAnalytics analytics = pipeline.update();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d games in %.2f s (%.0f games/s) on %d threads%n", analytics.getNumberOfGames(),
+                seconds, analytics.getNumberOfGames() / seconds, pipeline.pool.getParallelism());
+        printSummary(analytics);
+    }
+
+    private static void printSummary(GameAnalytics analytics) {
+        CoordinateCodec codec = new CoordinateCodec(analytics.getGridSize());
+        int numberOfCells = analytics.getGridSize() * analytics.getGridSize();
+        int topOpeningCell = 0;
+        int topShipCell = 0;
+        int topHitCell = 0;
+        for (int cell = 1; cell < numberOfCells; cell++) {
+            if (analytics.getOpeningShotCount(cell) > analytics.getOpeningShotCount(topOpeningCell)) {
+                topOpeningCell = cell;
+            }
+            if (analytics.getShipCellCount(cell) > analytics.getShipCellCount(topShipCell)) {
+                topShipCell = cell;
+            }
+            if (analytics.getHitFrequency(cell) > analytics.getHitFrequency(topHitCell)) {
+                topHitCell = cell;
+            }
+        }
+        System.out.printf("games %d (skipped %d), wins %d/%d%n", analytics.getNumberOfGames(),
+                analytics.getNumberOfSkippedGames(), analytics.getWins(1), analytics.getWins(2));
+        System.out.printf("top opening shot %s (%d), top ship cell %s (%d), top hit rate %s (%.3f)%n",
+                codec.format(topOpeningCell), analytics.getOpeningShotCount(topOpeningCell),
+                codec.format(topShipCell), analytics.getShipCellCount(topShipCell),
+                codec.format(topHitCell), analytics.getHitFrequency(topHitCell));
+        for (ShipType shipType : ShipType.values()) {
+            System.out.printf("%s: %d sunk, %.2f shots to sink%n", shipType.getName(),
+                    analytics.getSinkCount(shipType), analytics.getAverageShotsToSink(shipType));
+        }
+    }
+}
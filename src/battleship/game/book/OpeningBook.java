@@ -0,0 +1,311 @@
+package battleship.game.book;
+
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+public class OpeningBook implements OpeningBookMXBean {
+    public static final int DEFAULT_MAXIMUM_DEPTH = 16;
+    public static final long ROOT_KEY = 0;
+    private static final int MAGIC = 0x4253424B;
+    private static final short VERSION = 1;
+    private static final int WAYS = 8;
+    private static final int MAXIMUM_STRIPES = 64;
+    private static final int MAXIMUM_FREQUENCY = 0xFF;
+    private static final int ENTRY_SIZE = Long.BYTES + Integer.BYTES + Byte.BYTES;
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final GameRules rules;
+    private final int maximumDepth;
+    private final int bucketMask;
+    private final long[] keys;
+    private final int[] moves;
+    private final byte[] frequencies;
+    private final StampedLock[] locks;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public OpeningBook(GameRules rules, int capacity) {
+        this(rules, capacity, DEFAULT_MAXIMUM_DEPTH);
+    }
+
+    public OpeningBook(GameRules rules, int capacity, int maximumDepth) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (maximumDepth < 1) {
+            throw new IllegalArgumentException("Maximum depth must be positive: " + maximumDepth);
+        }
+        this.rules = rules;
+        this.maximumDepth = maximumDepth;
+        int numberOfBuckets = Integer.highestOneBit(Math.max((capacity + WAYS - 1) / WAYS, 1) * 2 - 1);
+        this.bucketMask = numberOfBuckets - 1;
+        this.keys = new long[numberOfBuckets * WAYS];
+        this.moves = new int[numberOfBuckets * WAYS];
+        this.frequencies = new byte[numberOfBuckets * WAYS];
+        this.locks = new StampedLock[Math.min(numberOfBuckets, MAXIMUM_STRIPES)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new StampedLock();
+        }
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    @Override
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    @Override
+    public int getSize() {
+        return size.get();
+    }
+
+    @Override
+    public int getMaximumDepth() {
+        return maximumDepth;
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long numberOfHits = hits.sum();
+        long numberOfLookups = numberOfHits + misses.sum();
+        return numberOfLookups == 0 ? 0 : (double) numberOfHits / numberOfLookups;
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public static long getNextKey(long key, int cellIndex, GridModificationResult result) {
+        int resultCode = switch (result) {
+            case MISS_REGISTERED -> 0;
+            case HIT_REGISTERED -> 1;
+            case SHIP_SANK, WINNER -> 2;
+            default -> throw new IllegalArgumentException("Shot result " + result + " cannot be part of an opening");
+        };
+        return key + mix(3L * cellIndex + resultCode + 1);
+    }
+
+    public int get(long key) {
+        int bucket = (int) key & bucketMask;
+        StampedLock lock = locks[bucket & (locks.length - 1)];
+        long stamp = lock.tryOptimisticRead();
+        if (findSlot(bucket, key) < 0 && lock.validate(stamp)) {
+            misses.increment();
+            return -1;
+        }
+        stamp = lock.readLock();
+        try {
+            int slot = findSlot(bucket, key);
+            if (slot < 0) {
+                misses.increment();
+                return -1;
+            }
+            hits.increment();
+            if ((frequencies[slot] & MAXIMUM_FREQUENCY) != MAXIMUM_FREQUENCY) {
+                frequencies[slot]++;
+            } else {
+                ageBucket(bucket);
+            }
+            return moves[slot] - 1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(long key, int cellIndex) {
+        put(key, cellIndex, 1, false);
+    }
+
+    private void put(long key, int cellIndex, int frequency, boolean isAdmittedOnlyIfMoreFrequent) {
+        Objects.checkIndex(cellIndex, rules.getNumberOfCells());
+        int bucket = (int) key & bucketMask;
+        StampedLock lock = locks[bucket & (locks.length - 1)];
+        long stamp = lock.writeLock();
+        try {
+            int slot = findSlot(bucket, key);
+            if (slot < 0) {
+                slot = chooseVictim(bucket);
+                if (moves[slot] == 0) {
+                    size.incrementAndGet();
+                } else if (isAdmittedOnlyIfMoreFrequent && (frequencies[slot] & MAXIMUM_FREQUENCY) > frequency) {
+                    return;
+                } else {
+                    evictions.increment();
+                }
+                keys[slot] = key;
+                frequencies[slot] = (byte) frequency;
+            }
+            moves[slot] = cellIndex + 1;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private int findSlot(int bucket, long key) {
+        int firstSlot = bucket * WAYS;
+        for (int slot = firstSlot; slot < firstSlot + WAYS; slot++) {
+            if (moves[slot] != 0 && keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int chooseVictim(int bucket) {
+        int firstSlot = bucket * WAYS;
+        int victim = firstSlot;
+        for (int slot = firstSlot; slot < firstSlot + WAYS; slot++) {
+            if (moves[slot] == 0) {
+                return slot;
+            }
+            if ((frequencies[slot] & MAXIMUM_FREQUENCY) < (frequencies[victim] & MAXIMUM_FREQUENCY)) {
+                victim = slot;
+            }
+        }
+        return victim;
+    }
+
+    private void ageBucket(int bucket) {
+        for (int slot = bucket * WAYS; slot < (bucket + 1) * WAYS; slot++) {
+            frequencies[slot] = (byte) ((frequencies[slot] & MAXIMUM_FREQUENCY) >>> 1);
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        long[] savedKeys = new long[keys.length];
+        int[] savedMoves = new int[keys.length];
+        byte[] savedFrequencies = new byte[keys.length];
+        int numberOfEntries = 0;
+        for (int stripe = 0; stripe < locks.length; stripe++) {
+            long stamp = locks[stripe].readLock();
+            try {
+                for (int bucket = stripe; bucket <= bucketMask; bucket += locks.length) {
+                    for (int slot = bucket * WAYS; slot < (bucket + 1) * WAYS; slot++) {
+                        if (moves[slot] != 0) {
+                            savedKeys[numberOfEntries] = keys[slot];
+                            savedMoves[numberOfEntries] = moves[slot] - 1;
+                            savedFrequencies[numberOfEntries] = frequencies[slot];
+                            numberOfEntries++;
+                        }
+                    }
+                }
+            } finally {
+                locks[stripe].unlockRead(stamp);
+            }
+        }
+        int headerSize = getHeaderSize(rules.getNumberOfShips());
+        Path temporaryFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    headerSize + (long) numberOfEntries * ENTRY_SIZE);
+            mapping.putInt(MAGIC).putShort(VERSION)
+                    .putShort((short) rules.getGridSize())
+                    .putShort((short) rules.getNumberOfShips());
+            for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+                mapping.put((byte) rules.getShipType(ship).ordinal());
+            }
+            mapping.putShort((short) maximumDepth).putInt(numberOfEntries);
+            for (int entry = 0; entry < numberOfEntries; entry++) {
+                mapping.putLong(savedKeys[entry]).putInt(savedMoves[entry]).put(savedFrequencies[entry]);
+            }
+            mapping.force();
+        }
+        Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static OpeningBook load(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapping.remaining() < getHeaderSize(0) || mapping.getInt() != MAGIC) {
+                throw new IOException(path + " is not an opening book file");
+            }
+            short version = mapping.getShort();
+            if (version != VERSION) {
+                throw new IOException(path + " has unsupported opening book version " + version);
+            }
+            int gridSize = mapping.getShort() & 0xFFFF;
+            int numberOfShips = mapping.getShort() & 0xFFFF;
+            if (mapping.capacity() < getHeaderSize(numberOfShips)) {
+                throw new IOException(path + " has a truncated header");
+            }
+            ShipType[] fleet = new ShipType[numberOfShips];
+            for (int ship = 0; ship < numberOfShips; ship++) {
+                fleet[ship] = SHIP_TYPES[mapping.get()];
+            }
+            int maximumDepth = mapping.getShort() & 0xFFFF;
+            int numberOfEntries = mapping.getInt();
+            if (mapping.remaining() != (long) numberOfEntries * ENTRY_SIZE) {
+                throw new IOException(path + " should hold " + numberOfEntries + " entries but has " +
+                        mapping.remaining() + " bytes of them");
+            }
+            OpeningBook book = new OpeningBook(new GameRules(gridSize, fleet), capacity, maximumDepth);
+            for (int entry = 0; entry < numberOfEntries; entry++) {
+                long key = mapping.getLong();
+                int cellIndex = mapping.getInt();
+                book.put(key, cellIndex, mapping.get() & MAXIMUM_FREQUENCY, true);
+            }
+            return book;
+        }
+    }
+
+    public void registerMBean(MBeanServer server, String name) {
+        try {
+            ObjectName objectName = new ObjectName("battleship:type=OpeningBook,name=" + ObjectName.quote(name));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register opening book " + name, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d openings up to depth %d, hit rate %.4f (%d hits, %d misses), %d evictions",
+                getSize(), getCapacity(), maximumDepth, getHitRate(), getHits(), getMisses(), getEvictions());
+    }
+
+    private static int getHeaderSize(int numberOfShips) {
+        return Integer.BYTES + 3 * Short.BYTES + numberOfShips + Short.BYTES + Integer.BYTES;
+    }
+
+    private static long mix(long value) {
+        value *= 0x9E3779B97F4A7C15L;
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
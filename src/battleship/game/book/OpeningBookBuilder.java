@@ -0,0 +1,136 @@
+package battleship.game.book;
+
+import battleship.game.engine.ShipPlacement;
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.engine.strategy.MonteCarloShootingStrategy;
+import battleship.game.engine.strategy.ProbabilityDensityShootingStrategy;
+import battleship.game.engine.strategy.RandomFleetPlacementStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class OpeningBookBuilder {
+    private static final int GAMES_PER_BATCH = 256;
+    private static final long MAXIMUM_NUMBER_OF_GAMES = (long) Integer.MAX_VALUE * GAMES_PER_BATCH;
+    private static final int DEFAULT_CAPACITY = 1 << 20;
+
+    private final OpeningBook book;
+    private final Function<SplittableRandom, ShootingStrategy> shootingStrategyFactory;
+    private final ForkJoinPool pool;
+
+    public OpeningBookBuilder(OpeningBook book, Function<SplittableRandom, ShootingStrategy> shootingStrategyFactory) {
+        this(book, shootingStrategyFactory, ForkJoinPool.commonPool());
+    }
+
+    public OpeningBookBuilder(OpeningBook book, Function<SplittableRandom, ShootingStrategy> shootingStrategyFactory,
+                              ForkJoinPool pool) {
+        this.book = book;
+        this.shootingStrategyFactory = shootingStrategyFactory;
+        this.pool = pool;
+    }
+
+    public void populate(long numberOfGames, long masterSeed) {
+        if (numberOfGames < 1 || numberOfGames > MAXIMUM_NUMBER_OF_GAMES) {
+            throw new IllegalArgumentException("Number of games [" + numberOfGames + "] should be between 1 and " +
+                    MAXIMUM_NUMBER_OF_GAMES);
+        }
+        int numberOfBatches = Math.toIntExact((numberOfGames - 1) / GAMES_PER_BATCH + 1);
+        long[] batchSeeds = new long[numberOfBatches];
+        SplittableRandom masterRandom = new SplittableRandom(masterSeed);
+        for (int i = 0; i < numberOfBatches; i++) {
+            batchSeeds[i] = masterRandom.nextLong();
+        }
+        pool.invoke(new BatchRangeTask(batchSeeds, 0, numberOfBatches, numberOfGames));
+    }
+
+    private void playBatch(long seed, int numberOfGames) {
+        GameRules rules = book.getRules();
+        SplittableRandom random = new SplittableRandom(seed);
+        RandomFleetPlacementStrategy placementStrategy = new RandomFleetPlacementStrategy(random.split(), rules);
+        OpeningBookShootingStrategy shootingStrategy = new OpeningBookShootingStrategy(book,
+                shootingStrategyFactory.apply(random.split()), true);
+        for (int game = 0; game < numberOfGames; game++) {
+            GameGrid grid = rules.createGameGrid();
+            placementStrategy.onPlacementStarted(grid);
+            for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+                ShipPlacement placement = placementStrategy.nextPlacement(rules.getShipType(ship));
+                grid.addShip(placement.frontCell(), placement.rearCell(), rules.getShipType(ship));
+            }
+            shootingStrategy.onGameStarted(grid);
+            GridModificationResult result;
+            do {
+                shootingStrategy.onTurnStarted();
+                int cellIndex = shootingStrategy.nextShot();
+                result = grid.registerShoot(cellIndex);
+                shootingStrategy.onShotResult(cellIndex, result);
+            } while (result != GridModificationResult.WINNER && shootingStrategy.getDepth() < book.getMaximumDepth());
+        }
+    }
+
+    private class BatchRangeTask extends RecursiveAction {
+        private final long[] batchSeeds;
+        private final int fromBatch;
+        private final int toBatch;
+        private final long numberOfGames;
+
+        private BatchRangeTask(long[] batchSeeds, int fromBatch, int toBatch, long numberOfGames) {
+            this.batchSeeds = batchSeeds;
+            this.fromBatch = fromBatch;
+            this.toBatch = toBatch;
+            this.numberOfGames = numberOfGames;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBatch - fromBatch <= 1) {
+                long remainingGames = numberOfGames - (long) fromBatch * GAMES_PER_BATCH;
+                playBatch(batchSeeds[fromBatch], (int) Math.min(GAMES_PER_BATCH, remainingGames));
+                return;
+            }
+            int middle = (fromBatch + toBatch) >>> 1;
+            invokeAll(new BatchRangeTask(batchSeeds, fromBatch, middle, numberOfGames),
+                    new BatchRangeTask(batchSeeds, middle, toBatch, numberOfGames));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args[0]);
+        long numberOfGames = args.length > 1 ? Long.parseLong(args[1]) : 100_000;
+        String strategy = args.length > 2 ? args[2] : "density";
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(args.length > 3 ? Long.parseLong(args[3]) : 20);
+        int capacity = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_CAPACITY;
+        int maximumDepth = args.length > 5 ? Integer.parseInt(args[5]) : OpeningBook.DEFAULT_MAXIMUM_DEPTH;
+        long masterSeed = args.length > 6 ? Long.parseLong(args[6]) : 0;
+        GameRules rules = GameRules.STANDARD;
+        OpeningBook book = Files.exists(file)
+                ? OpeningBook.load(file, capacity)
+                : new OpeningBook(rules, capacity, maximumDepth);
+        Function<SplittableRandom, ShootingStrategy> factory = switch (strategy) {
+            case "density" -> random -> new ProbabilityDensityShootingStrategy(book.getRules());
+            case "montecarlo" -> random -> new MonteCarloShootingStrategy(book.getRules(), random, budgetNanos);
+            default -> throw new IllegalArgumentException("Unknown strategy " + strategy +
+                    ", expected density or montecarlo");
+        };
+        book.registerMBean(ManagementFactory.getPlatformMBeanServer(), file.getFileName().toString());
+        OpeningBookBuilder builder = new OpeningBookBuilder(book, factory);
+
+        long start = System.nanoTime();
+        builder.populate(numberOfGames, masterSeed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        book.save(file);
+        System.out.printf("%d openings simulated in %.2f s on %d threads%n", numberOfGames, seconds,
+                builder.pool.getParallelism());
+        System.out.println(book);
+    }
+}
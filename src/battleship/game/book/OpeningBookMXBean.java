@@ -0,0 +1,17 @@
+package battleship.game.book;
+
+public interface OpeningBookMXBean {
+    int getCapacity();
+
+    int getSize();
+
+    int getMaximumDepth();
+
+    long getHits();
+
+    long getMisses();
+
+    double getHitRate();
+
+    long getEvictions();
+}
@@ -0,0 +1,93 @@
+package battleship.game.book;
+
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+
+import java.util.Arrays;
+
+public class OpeningBookShootingStrategy implements ShootingStrategy {
+    private final OpeningBook book;
+    private final ShootingStrategy delegate;
+    private final boolean isLearning;
+    private long[] shotCells = new long[0];
+    private int numberOfCells;
+    private long historyKey;
+    private int depth;
+    private long bookMoves;
+
+    public OpeningBookShootingStrategy(OpeningBook book, ShootingStrategy delegate) {
+        this(book, delegate, false);
+    }
+
+    public OpeningBookShootingStrategy(OpeningBook book, ShootingStrategy delegate, boolean isLearning) {
+        this.book = book;
+        this.delegate = delegate;
+        this.isLearning = isLearning;
+    }
+
+    public long getBookMoves() {
+        return bookMoves;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public void onGameStarted(GameGrid enemyGrid) {
+        if (enemyGrid.getGridSize() != book.getRules().getGridSize()) {
+            throw new IllegalArgumentException("Opening book is for " + book.getRules().getGridSize() +
+                    "x" + book.getRules().getGridSize() + " grids but the enemy grid is " +
+                    enemyGrid.getGridSize() + "x" + enemyGrid.getGridSize());
+        }
+        numberOfCells = enemyGrid.getGridSize() * enemyGrid.getGridSize();
+        if (shotCells.length != (numberOfCells + Long.SIZE - 1) / Long.SIZE) {
+            shotCells = new long[(numberOfCells + Long.SIZE - 1) / Long.SIZE];
+        } else {
+            Arrays.fill(shotCells, 0);
+        }
+        historyKey = OpeningBook.ROOT_KEY;
+        depth = 0;
+        delegate.onGameStarted(enemyGrid);
+    }
+
+    @Override
+    public void onTurnStarted() {
+        delegate.onTurnStarted();
+    }
+
+    @Override
+    public int nextShot() {
+        if (depth >= book.getMaximumDepth()) {
+            return delegate.nextShot();
+        }
+        int bookMove = book.get(historyKey);
+        if (bookMove >= 0 && bookMove < numberOfCells && !isShot(bookMove)) {
+            bookMoves++;
+            return bookMove;
+        }
+        int cellIndex = delegate.nextShot();
+        if (isLearning && cellIndex >= 0 && cellIndex < numberOfCells) {
+            book.put(historyKey, cellIndex);
+        }
+        return cellIndex;
+    }
+
+    @Override
+    public void onShotResult(int cellIndex, GridModificationResult result) {
+        delegate.onShotResult(cellIndex, result);
+        if (result == GridModificationResult.OUT_OF_GAME_GRID || isShot(cellIndex)) {
+            return;
+        }
+        shotCells[cellIndex >>> 6] |= 1L << cellIndex;
+        if (depth < book.getMaximumDepth()) {
+            historyKey = OpeningBook.getNextKey(historyKey, cellIndex, result);
+        }
+        depth++;
+    }
+
+    private boolean isShot(int cellIndex) {
+        return (shotCells[cellIndex >>> 6] & 1L << cellIndex) != 0;
+    }
+}
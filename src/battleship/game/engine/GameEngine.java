@@ -0,0 +1,168 @@
+package battleship.game.engine;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.grid.ObservedGameGrid;
+import battleship.game.metrics.GameMetrics;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+public class GameEngine {
+    private static final int INITIAL_MOVE_LOG_SIZE = 128;
+
+    private final GameRules rules;
+    private final Supplier<GameGrid> gridFactory;
+    private final boolean isMoveLogEnabled;
+    private final GameListener listener;
+    private int[] moveLog;
+    private int numberOfMoves;
+
+    public GameEngine() {
+        this(GameRules.STANDARD, false);
+    }
+
+    public GameEngine(GameRules rules, boolean isMoveLogEnabled) {
+        this(rules, rules::createGameGrid, isMoveLogEnabled);
+    }
+
+    public GameEngine(Supplier<GameGrid> gridFactory, boolean isMoveLogEnabled) {
+        this(GameRules.STANDARD, gridFactory, isMoveLogEnabled);
+    }
+
+    public GameEngine(GameRules rules, Supplier<GameGrid> gridFactory, boolean isMoveLogEnabled) {
+        this(rules, gridFactory, isMoveLogEnabled, null);
+    }
+
+    public GameEngine(GameRules rules, boolean isMoveLogEnabled, GameListener listener) {
+        this(rules, rules::createGameGrid, isMoveLogEnabled, listener);
+    }
+
+    public GameEngine(GameRules rules, Supplier<GameGrid> gridFactory, boolean isMoveLogEnabled,
+                      GameListener listener) {
+        this.rules = rules;
+        this.gridFactory = gridFactory;
+        this.isMoveLogEnabled = isMoveLogEnabled;
+        this.listener = listener;
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    public GameResult play(PlacementStrategy placementPlayer1, PlacementStrategy placementPlayer2,
+                           ShootingStrategy shootingPlayer1, ShootingStrategy shootingPlayer2) {
+        GameGrid gridPlayer1 = createGameGrid();
+        GameGrid gridPlayer2 = createGameGrid();
+        int[][] placementLog = isMoveLogEnabled ? new int[2][2 * rules.getNumberOfShips()] : null;
+        if (listener != null) {
+            listener.startGame(rules.getGridSize());
+        }
+        placeShips(1, gridPlayer1, placementPlayer1, isMoveLogEnabled ? placementLog[0] : null);
+        placeShips(2, gridPlayer2, placementPlayer2, isMoveLogEnabled ? placementLog[1] : null);
+
+        shootingPlayer1.onGameStarted(gridPlayer2);
+        shootingPlayer2.onGameStarted(gridPlayer1);
+        GameResult result = takeShoots(observe(gridPlayer1, 2), observe(gridPlayer2, 1), shootingPlayer1,
+                shootingPlayer2, 1, placementLog);
+        if (listener != null) {
+            listener.endGame(result.getWinner());
+        }
+        return result;
+    }
+
+    public GameResult resume(GameGrid gridPlayer1, GameGrid gridPlayer2, int nextPlayer,
+                             ShootingStrategy shootingPlayer1, ShootingStrategy shootingPlayer2) {
+        shootingPlayer1.onGameStarted(gridPlayer2);
+        shootingPlayer2.onGameStarted(gridPlayer1);
+        return takeShoots(gridPlayer1, gridPlayer2, shootingPlayer1, shootingPlayer2, nextPlayer, null);
+    }
+
+    private GameGrid createGameGrid() {
+        GameGrid grid = gridFactory.get();
+        if (grid.getGridSize() != rules.getGridSize()) {
+            throw new IllegalStateException("Grid size [" + grid.getGridSize() + "] does not match the rules: " +
+                    rules.getGridSize());
+        }
+        return grid;
+    }
+
+    private GameGrid observe(GameGrid grid, int shootingPlayer) {
+        return listener == null ? grid : new ObservedGameGrid(grid, listener.getShotListener(shootingPlayer));
+    }
+
+    private void placeShips(int player, GameGrid grid, PlacementStrategy strategy, int[] placementLog) {
+        strategy.onPlacementStarted(grid);
+        for (int ship = 0; ship < rules.getNumberOfShips(); ship++) {
+            ShipType shipType = rules.getShipType(ship);
+            GridModificationResult result;
+            ShipPlacement placement;
+            do {
+                placement = strategy.nextPlacement(shipType);
+                long startTime = GameMetrics.startTimer();
+                result = grid.addShip(placement.frontCell(), placement.rearCell(), shipType);
+                GameMetrics.stopTimer(GameMetrics.Timer.PLACEMENT_VALIDATION, startTime);
+                GameMetrics.recordOutcome(result);
+                strategy.onPlacementResult(shipType, result);
+            } while (result != GridModificationResult.SHIP_PLACED);
+            if (listener != null) {
+                listener.onPlacement(player, shipType, placement.frontCell(), placement.rearCell());
+            }
+            if (placementLog != null) {
+                placementLog[2 * ship] = placement.frontCell();
+                placementLog[2 * ship + 1] = placement.rearCell();
+            }
+        }
+        strategy.onPlacementFinished();
+    }
+
+    private GameResult takeShoots(GameGrid gridPlayer1, GameGrid gridPlayer2,
+                                  ShootingStrategy shootingPlayer1, ShootingStrategy shootingPlayer2,
+                                  int firstPlayer, int[][] placementLog) {
+        numberOfMoves = 0;
+        int[] shotsByPlayer = new int[2];
+        int player = firstPlayer;
+        while (true) {
+            GameGrid enemyGrid = player == 1 ? gridPlayer2 : gridPlayer1;
+            ShootingStrategy strategy = player == 1 ? shootingPlayer1 : shootingPlayer2;
+            boolean isAWinner = isLastTakenShot(player, enemyGrid, strategy);
+            shotsByPlayer[player - 1]++;
+            if (isAWinner) {
+                break;
+            }
+            player = 3 - player;
+        }
+        GameMetrics.recordFinishedGame();
+        int[] log = isMoveLogEnabled ? Arrays.copyOf(moveLog, numberOfMoves) : null;
+        return new GameResult(player, shotsByPlayer[0], shotsByPlayer[1], log, placementLog);
+    }
+
+    private boolean isLastTakenShot(int player, GameGrid enemyGrid, ShootingStrategy strategy) {
+        strategy.onTurnStarted();
+        GridModificationResult result;
+        int cellIndex;
+        do {
+            cellIndex = strategy.nextShot();
+            long startTime = GameMetrics.startTimer();
+            result = enemyGrid.registerShoot(cellIndex);
+            GameMetrics.stopTimer(GameMetrics.Timer.SHOT_RESOLUTION, startTime);
+            GameMetrics.recordOutcome(result);
+            strategy.onShotResult(cellIndex, result);
+        } while (result == GridModificationResult.OUT_OF_GAME_GRID);
+        if (isMoveLogEnabled) {
+            logMove(GameResult.encodeMove(player, cellIndex, result));
+        }
+        return result == GridModificationResult.WINNER;
+    }
+
+    private void logMove(int move) {
+        if (moveLog == null) {
+            moveLog = new int[INITIAL_MOVE_LOG_SIZE];
+        } else if (numberOfMoves == moveLog.length) {
+            moveLog = Arrays.copyOf(moveLog, numberOfMoves * 2);
+        }
+        moveLog[numberOfMoves++] = move;
+    }
+}
@@ -0,0 +1,14 @@
+package battleship.game.engine;
+
+import battleship.game.grid.ShotListener;
+import battleship.game.ship.ShipType;
+
+public interface GameListener {
+    void startGame(int gridSize);
+
+    void onPlacement(int player, ShipType shipType, int frontCell, int rearCell);
+
+    ShotListener getShotListener(int player);
+
+    void endGame(int winner);
+}
@@ -0,0 +1,85 @@
+package battleship.game.engine;
+
+import battleship.game.grid.GridModificationResult;
+
+public class GameResult {
+    public static final int CELL_SHIFT = 4;
+    public static final int PLAYER_SHIFT = 3;
+    public static final int RESULT_MASK = (1 << PLAYER_SHIFT) - 1;
+    private static final GridModificationResult[] RESULTS = GridModificationResult.values();
+
+    private final int winner;
+    private final int player1Shots;
+    private final int player2Shots;
+    private final int[] moveLog;
+    private final int[][] placementLog;
+
+    public GameResult(int winner, int player1Shots, int player2Shots, int[] moveLog) {
+        this(winner, player1Shots, player2Shots, moveLog, null);
+    }
+
+    public GameResult(int winner, int player1Shots, int player2Shots, int[] moveLog, int[][] placementLog) {
+        this.winner = winner;
+        this.player1Shots = player1Shots;
+        this.player2Shots = player2Shots;
+        this.moveLog = moveLog;
+        this.placementLog = placementLog;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public int getShotCount() {
+        return player1Shots + player2Shots;
+    }
+
+    public int getShotCount(int player) {
+        return player == 1 ? player1Shots : player2Shots;
+    }
+
+    public int getWinnerShotCount() {
+        return getShotCount(winner);
+    }
+
+    public boolean hasMoveLog() {
+        return moveLog != null;
+    }
+
+    public int[] getMoveLog() {
+        return moveLog;
+    }
+
+    public boolean hasPlacementLog() {
+        return placementLog != null;
+    }
+
+    public int getPlacementFrontCell(int player, int ship) {
+        return placementLog[player - 1][2 * ship];
+    }
+
+    public int getPlacementRearCell(int player, int ship) {
+        return placementLog[player - 1][2 * ship + 1];
+    }
+
+    public static int encodeMove(int player, int cellIndex, GridModificationResult result) {
+        return cellIndex << CELL_SHIFT | (player - 1) << PLAYER_SHIFT | result.ordinal();
+    }
+
+    public static int getMovePlayer(int move) {
+        return ((move >>> PLAYER_SHIFT) & 1) + 1;
+    }
+
+    public static int getMoveCell(int move) {
+        return move >>> CELL_SHIFT;
+    }
+
+    public static GridModificationResult getMoveResult(int move) {
+        return RESULTS[move & RESULT_MASK];
+    }
+
+    @Override
+    public String toString() {
+        return "Player " + winner + " won after " + getWinnerShotCount() + " shots (" + getShotCount() + " in total)";
+    }
+}
@@ -0,0 +1,123 @@
+package battleship.game.engine;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.grid.printer.GameGridViewPerspective;
+import battleship.game.metrics.GameMetrics;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+import battleship.game.spectator.SpectatorFeed;
+
+public class GameSession {
+    public enum Phase {
+        PLACEMENT,
+        SHOOTING,
+        FINISHED
+    }
+
+    private final GameRules rules;
+    private final GameGrid[] grids;
+    private final int[] placedShips = new int[2];
+    private final int[] shotsByPlayer = new int[2];
+    private Phase phase = Phase.PLACEMENT;
+    private int currentPlayer = 1;
+    private int winner = 0;
+    private SpectatorFeed spectatorFeed;
+
+    public GameSession(GameRules rules) {
+        this.rules = rules;
+        this.grids = new GameGrid[]{rules.createGameGrid(), rules.createGameGrid()};
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public int getShotCount(int player) {
+        return shotsByPlayer[player - 1];
+    }
+
+    public GameGrid getOwnGrid(int player) {
+        return grids[player - 1];
+    }
+
+    public GameGrid getEnemyGrid(int player) {
+        return grids[2 - player];
+    }
+
+    public SpectatorFeed getSpectatorFeed() {
+        if (spectatorFeed == null) {
+            spectatorFeed = new SpectatorFeed(grids[0], grids[1], GameGridViewPerspective.ENEMY_PERSPECTIVE);
+        }
+        return spectatorFeed;
+    }
+
+    public boolean hasSpectatorFeed() {
+        return spectatorFeed != null;
+    }
+
+    public boolean hasShipsToPlace(int player) {
+        return placedShips[player - 1] < rules.getNumberOfShips();
+    }
+
+    public ShipType getNextShipType(int player) {
+        return rules.getShipType(placedShips[player - 1]);
+    }
+
+    public GridModificationResult placeShip(int player, int frontCell, int rearCell) {
+        if (phase != Phase.PLACEMENT || !hasShipsToPlace(player)) {
+            throw new IllegalStateException("Player " + player + " has no ships left to place");
+        }
+        long startTime = GameMetrics.startTimer();
+        GridModificationResult result = getOwnGrid(player).addShip(frontCell, rearCell, getNextShipType(player));
+        GameMetrics.stopTimer(GameMetrics.Timer.PLACEMENT_VALIDATION, startTime);
+        GameMetrics.recordOutcome(result);
+        if (result == GridModificationResult.SHIP_PLACED) {
+            if (spectatorFeed != null) {
+                spectatorFeed.publish(player, frontCell, rearCell);
+            }
+            placedShips[player - 1]++;
+            if (!hasShipsToPlace(1) && !hasShipsToPlace(2)) {
+                phase = Phase.SHOOTING;
+            }
+        }
+        return result;
+    }
+
+    public GridModificationResult shoot(int player, int cellIndex) {
+        if (phase != Phase.SHOOTING || player != currentPlayer) {
+            throw new IllegalStateException("It is not player " + player + "'s turn");
+        }
+        long startTime = GameMetrics.startTimer();
+        GridModificationResult result = getEnemyGrid(player).registerShoot(cellIndex);
+        GameMetrics.stopTimer(GameMetrics.Timer.SHOT_RESOLUTION, startTime);
+        GameMetrics.recordOutcome(result);
+        if (result == GridModificationResult.OUT_OF_GAME_GRID) {
+            return result;
+        }
+        if (spectatorFeed != null) {
+            spectatorFeed.publish(3 - player, cellIndex, cellIndex);
+        }
+        shotsByPlayer[player - 1]++;
+        if (result == GridModificationResult.WINNER) {
+            phase = Phase.FINISHED;
+            winner = player;
+            GameMetrics.recordFinishedGame();
+        } else {
+            currentPlayer = 3 - player;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package battleship.game.engine;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.ship.ShipType;
+
+public interface PlacementStrategy {
+    default void onPlacementStarted(GameGrid ownGrid) {
+    }
+
+    ShipPlacement nextPlacement(ShipType shipType);
+
+    default void onPlacementResult(ShipType shipType, GridModificationResult result) {
+    }
+
+    default void onPlacementFinished() {
+    }
+}
@@ -0,0 +1,4 @@
+package battleship.game.engine;
+
+public record ShipPlacement(int frontCell, int rearCell) {
+}
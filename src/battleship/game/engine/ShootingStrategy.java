@@ -0,0 +1,17 @@
+package battleship.game.engine;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+
+public interface ShootingStrategy {
+    default void onGameStarted(GameGrid enemyGrid) {
+    }
+
+    default void onTurnStarted() {
+    }
+
+    int nextShot();
+
+    default void onShotResult(int cellIndex, GridModificationResult result) {
+    }
+}
@@ -0,0 +1,76 @@
+package battleship.game.engine.strategy;
+
+final class Bitsets {
+    private Bitsets() {
+
+    }
+
+    static int getNumberOfWords(int numberOfBits) {
+        return (numberOfBits + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    static int countSetBits(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    static void shiftRight(long[] source, int distance, long[] target) {
+        int wordShift = distance >>> 6;
+        int bitShift = distance & (Long.SIZE - 1);
+        for (int i = 0; i < target.length; i++) {
+            int sourceWord = i + wordShift;
+            long low = sourceWord < source.length ? source[sourceWord] : 0;
+            long high = sourceWord + 1 < source.length ? source[sourceWord + 1] : 0;
+            target[i] = bitShift == 0 ? low : low >>> bitShift | high << (Long.SIZE - bitShift);
+        }
+    }
+
+    static int selectSetBit(long[] bits, int rank) {
+        for (int i = 0; i < bits.length; i++) {
+            int bitsInWord = Long.bitCount(bits[i]);
+            if (rank < bitsInWord) {
+                long word = bits[i];
+                for (int j = 0; j < rank; j++) {
+                    word &= word - 1;
+                }
+                return i * Long.SIZE + Long.numberOfTrailingZeros(word);
+            }
+            rank -= bitsInWord;
+        }
+        throw new IllegalStateException("Rank exceeds the number of set bits");
+    }
+
+    static void clearRange(long[] bits, int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        int firstWord = fromIndex >>> 6;
+        int lastWord = (toIndex - 1) >>> 6;
+        long firstWordMask = -1L << fromIndex;
+        long lastWordMask = -1L >>> -toIndex;
+        if (firstWord == lastWord) {
+            bits[firstWord] &= ~(firstWordMask & lastWordMask);
+        } else {
+            bits[firstWord] &= ~firstWordMask;
+            for (int i = firstWord + 1; i < lastWord; i++) {
+                bits[i] = 0;
+            }
+            bits[lastWord] &= ~lastWordMask;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.ship.ShipType;
+
+import java.util.Arrays;
+
+import static battleship.game.engine.strategy.Bitsets.*;
+
+class BoardKnowledge {
+    private final int[] fleetLengths;
+    private final int[] remainingLengths;
+    private int numberOfRemainingShips;
+    private int gridSize;
+    private int numberOfCells;
+    private long[] shotCells;
+    private long[] allowedCells;
+    private long[] openHits;
+    private int[] floodFillStack;
+
+    BoardKnowledge(ShipType[] fleet) {
+        fleetLengths = Arrays.stream(fleet).mapToInt(ShipType::getSize).boxed()
+                .sorted((first, second) -> second - first).mapToInt(Integer::intValue).toArray();
+        remainingLengths = new int[fleetLengths.length];
+    }
+
+    void reset(int gridSize) {
+        if (gridSize != this.gridSize || shotCells == null) {
+            this.gridSize = gridSize;
+            numberOfCells = gridSize * gridSize;
+            int numberOfWords = getNumberOfWords(numberOfCells);
+            shotCells = new long[numberOfWords];
+            allowedCells = new long[numberOfWords];
+            openHits = new long[numberOfWords];
+            floodFillStack = new int[numberOfCells];
+        }
+        Arrays.fill(shotCells, 0);
+        Arrays.fill(openHits, 0);
+        Arrays.fill(allowedCells, -1L);
+        clearRange(allowedCells, numberOfCells, allowedCells.length * Long.SIZE);
+        System.arraycopy(fleetLengths, 0, remainingLengths, 0, fleetLengths.length);
+        numberOfRemainingShips = fleetLengths.length;
+    }
+
+    int getGridSize() {
+        return gridSize;
+    }
+
+    int getNumberOfCells() {
+        return numberOfCells;
+    }
+
+    int getMaximumShipLength() {
+        return fleetLengths.length == 0 ? 0 : fleetLengths[0];
+    }
+
+    int[] getFleetLengths() {
+        return fleetLengths;
+    }
+
+    int getNumberOfRemainingShips() {
+        return numberOfRemainingShips;
+    }
+
+    int getRemainingShipLength(int ship) {
+        return remainingLengths[ship];
+    }
+
+    long[] getAllowedCells() {
+        return allowedCells;
+    }
+
+    long[] getOpenHits() {
+        return openHits;
+    }
+
+    boolean hasOpenHits() {
+        for (long word : openHits) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isShot(int cell) {
+        return isSet(shotCells, cell);
+    }
+
+    void registerMiss(int cell) {
+        set(shotCells, cell);
+        clear(allowedCells, cell);
+    }
+
+    void registerHit(int cell) {
+        set(shotCells, cell);
+        set(openHits, cell);
+        int line = cell / gridSize;
+        int column = cell % gridSize;
+        for (int lineOffset = -1; lineOffset <= 1; lineOffset += 2) {
+            for (int columnOffset = -1; columnOffset <= 1; columnOffset += 2) {
+                if (isOnTheGrid(line + lineOffset, column + columnOffset)) {
+                    clear(allowedCells, (line + lineOffset) * gridSize + column + columnOffset);
+                }
+            }
+        }
+    }
+
+    void registerSunkShip(int cell) {
+        registerHit(cell);
+        int shipLength = 0;
+        int stackSize = 0;
+        floodFillStack[stackSize++] = cell;
+        clear(openHits, cell);
+        while (stackSize > 0) {
+            int current = floodFillStack[--stackSize];
+            shipLength++;
+            int line = current / gridSize;
+            int column = current % gridSize;
+            for (int lineOffset = -1; lineOffset <= 1; lineOffset++) {
+                for (int columnOffset = -1; columnOffset <= 1; columnOffset++) {
+                    if (!isOnTheGrid(line + lineOffset, column + columnOffset)) {
+                        continue;
+                    }
+                    int neighbour = (line + lineOffset) * gridSize + column + columnOffset;
+                    clear(allowedCells, neighbour);
+                    if (isSet(openHits, neighbour)) {
+                        clear(openHits, neighbour);
+                        floodFillStack[stackSize++] = neighbour;
+                    }
+                }
+            }
+        }
+        removeShip(shipLength);
+    }
+
+    private void removeShip(int shipLength) {
+        for (int ship = 0; ship < numberOfRemainingShips; ship++) {
+            if (remainingLengths[ship] == shipLength) {
+                System.arraycopy(remainingLengths, ship + 1, remainingLengths, ship,
+                        numberOfRemainingShips - ship - 1);
+                numberOfRemainingShips--;
+                return;
+            }
+        }
+    }
+
+    private boolean isOnTheGrid(int line, int column) {
+        return line >= 0 && line < gridSize && column >= 0 && column < gridSize;
+    }
+}
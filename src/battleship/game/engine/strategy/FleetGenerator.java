@@ -0,0 +1,125 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.grid.PlacementTable;
+import battleship.game.ship.ShipType;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static battleship.game.engine.strategy.Bitsets.*;
+
+public class FleetGenerator {
+    private static final int HORIZONTAL = 0;
+    private static final int VERTICAL = 1;
+    private static final int MAX_ATTEMPTS = 1000;
+
+    private final int gridSize;
+    private final int numberOfCells;
+    private final int[] shipSizes;
+    private final Integer[] placementOrder;
+    private final long[][][] anchorsOnTheGrid;
+    private final long[] freeCells;
+    private final long[] shiftedFreeCells;
+    private final long[][] legalAnchors;
+    private final PlacementTable[] placementTables;
+
+    public FleetGenerator(int gridSize, ShipType[] fleet) {
+        this.gridSize = gridSize;
+        numberOfCells = gridSize * gridSize;
+        shipSizes = Arrays.stream(fleet).mapToInt(ShipType::getSize).toArray();
+        placementOrder = new Integer[fleet.length];
+        for (int i = 0; i < fleet.length; i++) {
+            placementOrder[i] = i;
+        }
+        Arrays.sort(placementOrder, (first, second) -> shipSizes[second] - shipSizes[first]);
+
+        int numberOfWords = getNumberOfWords(numberOfCells);
+        freeCells = new long[numberOfWords];
+        shiftedFreeCells = new long[numberOfWords];
+        legalAnchors = new long[2][numberOfWords];
+        anchorsOnTheGrid = new long[fleet.length][2][numberOfWords];
+        placementTables = PlacementTable.isSupported(gridSize) ? new PlacementTable[fleet.length] : null;
+        if (placementTables != null) {
+            for (int ship = 0; ship < fleet.length; ship++) {
+                placementTables[ship] = PlacementTable.get(gridSize, shipSizes[ship]);
+            }
+        }
+        for (int ship = 0; ship < fleet.length; ship++) {
+            for (int anchor = 0; anchor < numberOfCells; anchor++) {
+                if (anchor % gridSize + shipSizes[ship] <= gridSize) {
+                    set(anchorsOnTheGrid[ship][HORIZONTAL], anchor);
+                }
+                if (anchor / gridSize + shipSizes[ship] <= gridSize) {
+                    set(anchorsOnTheGrid[ship][VERTICAL], anchor);
+                }
+            }
+        }
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public void generate(SplittableRandom random, int[] frontCells, int[] rearCells) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (tryGenerate(random, frontCells, rearCells)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("Could not fit the fleet on a " + gridSize + "x" + gridSize + " grid");
+    }
+
+    private boolean tryGenerate(SplittableRandom random, int[] frontCells, int[] rearCells) {
+        Arrays.fill(freeCells, -1L);
+        clearRange(freeCells, numberOfCells, freeCells.length * Long.SIZE);
+        for (int ship : placementOrder) {
+            int horizontalAnchors = collectLegalAnchors(ship, HORIZONTAL, 1);
+            int verticalAnchors = collectLegalAnchors(ship, VERTICAL, gridSize);
+            if (horizontalAnchors + verticalAnchors == 0) {
+                return false;
+            }
+            int rank = random.nextInt(horizontalAnchors + verticalAnchors);
+            int step;
+            if (rank < horizontalAnchors) {
+                frontCells[ship] = selectSetBit(legalAnchors[HORIZONTAL], rank);
+                step = 1;
+            } else {
+                frontCells[ship] = selectSetBit(legalAnchors[VERTICAL], rank - horizontalAnchors);
+                step = gridSize;
+            }
+            rearCells[ship] = frontCells[ship] + (shipSizes[ship] - 1) * step;
+            reserveNeighbourhood(ship, frontCells[ship], rearCells[ship], step);
+        }
+        return true;
+    }
+
+    private int collectLegalAnchors(int ship, int orientation, int step) {
+        long[] anchors = legalAnchors[orientation];
+        System.arraycopy(anchorsOnTheGrid[ship][orientation], 0, anchors, 0, anchors.length);
+        for (int i = 0; i < anchors.length; i++) {
+            anchors[i] &= freeCells[i];
+        }
+        for (int segment = 1; segment < shipSizes[ship]; segment++) {
+            shiftRight(freeCells, segment * step, shiftedFreeCells);
+            for (int i = 0; i < anchors.length; i++) {
+                anchors[i] &= shiftedFreeCells[i];
+            }
+        }
+        return countSetBits(anchors);
+    }
+
+    private void reserveNeighbourhood(int ship, int frontCell, int rearCell, int step) {
+        if (placementTables != null) {
+            PlacementTable table = placementTables[ship];
+            table.clearHalo(table.getPlacement(frontCell, step == 1 ? HORIZONTAL : VERTICAL), freeCells);
+            return;
+        }
+        int fromLine = Math.max(frontCell / gridSize - 1, 0);
+        int toLine = Math.min(rearCell / gridSize + 1, gridSize - 1);
+        int fromColumn = Math.max(frontCell % gridSize - 1, 0);
+        int toColumn = Math.min(rearCell % gridSize + 1, gridSize - 1);
+        for (int line = fromLine; line <= toLine; line++) {
+            clearRange(freeCells, line * gridSize + fromColumn, line * gridSize + toColumn + 1);
+        }
+    }
+}
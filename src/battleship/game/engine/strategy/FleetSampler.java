@@ -0,0 +1,322 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.grid.PlacementTable;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static battleship.game.engine.strategy.Bitsets.*;
+
+class FleetSampler {
+    private static final int HORIZONTAL = 0;
+    private static final int VERTICAL = 1;
+    private static final int MIN_REJECTIONS_BEFORE_FALLBACK = 256;
+    private static final int MIN_ACCEPTANCE_RATIO = 16;
+
+    private final BoardKnowledge knowledge;
+    private final SplittableRandom random;
+    private final int gridSize;
+    private final long[][][] anchorsOnTheGridByLength;
+    private final PlacementTable[] placementTablesByLength;
+    private final long[] freeCells;
+    private final long[] shiftedFreeCells;
+    private final long[][] legalAnchors;
+    private final long[] uncoveredHits;
+    private final boolean[] isPlaced;
+    private final int[] shipAnchors;
+    private final int[] shipSteps;
+    private final int[] candidateShips;
+    private final int[] candidateAnchors;
+    private final int[] candidateSteps;
+    private final int[] occupancy;
+    private final int[][] sinkOccupancyByLength;
+    private long numberOfSamples;
+
+    FleetSampler(BoardKnowledge knowledge, SplittableRandom random) {
+        this(knowledge, random, false);
+    }
+
+    FleetSampler(BoardKnowledge knowledge, SplittableRandom random, boolean isCountingSinks) {
+        this.knowledge = knowledge;
+        this.random = random;
+        gridSize = knowledge.getGridSize();
+        int numberOfCells = knowledge.getNumberOfCells();
+        int numberOfWords = getNumberOfWords(numberOfCells);
+        int numberOfShips = knowledge.getFleetLengths().length;
+        freeCells = new long[numberOfWords];
+        shiftedFreeCells = new long[numberOfWords];
+        legalAnchors = new long[2][numberOfWords];
+        uncoveredHits = new long[numberOfWords];
+        isPlaced = new boolean[numberOfShips];
+        shipAnchors = new int[numberOfShips];
+        shipSteps = new int[numberOfShips];
+        int maximumCandidates = 2 * numberOfShips * knowledge.getMaximumShipLength();
+        candidateShips = new int[maximumCandidates];
+        candidateAnchors = new int[maximumCandidates];
+        candidateSteps = new int[maximumCandidates];
+        occupancy = new int[numberOfCells];
+        sinkOccupancyByLength = isCountingSinks
+                ? new int[knowledge.getMaximumShipLength() + 1][numberOfCells] : null;
+        anchorsOnTheGridByLength = new long[knowledge.getMaximumShipLength() + 1][][];
+        placementTablesByLength = PlacementTable.isSupported(gridSize)
+                ? new PlacementTable[knowledge.getMaximumShipLength() + 1] : null;
+        for (int length : knowledge.getFleetLengths()) {
+            if (anchorsOnTheGridByLength[length] != null) {
+                continue;
+            }
+            if (placementTablesByLength != null) {
+                placementTablesByLength[length] = PlacementTable.get(gridSize, length);
+            }
+            anchorsOnTheGridByLength[length] = new long[2][numberOfWords];
+            for (int anchor = 0; anchor < numberOfCells; anchor++) {
+                if (anchor % gridSize + length <= gridSize) {
+                    set(anchorsOnTheGridByLength[length][HORIZONTAL], anchor);
+                }
+                if (length > 1 && anchor / gridSize + length <= gridSize) {
+                    set(anchorsOnTheGridByLength[length][VERTICAL], anchor);
+                }
+            }
+        }
+    }
+
+    int getGridSize() {
+        return gridSize;
+    }
+
+    int[] getOccupancy() {
+        return occupancy;
+    }
+
+    int[][] getSinkOccupancyByLength() {
+        return sinkOccupancyByLength;
+    }
+
+    long getNumberOfSamples() {
+        return numberOfSamples;
+    }
+
+    void sampleUntil(long deadlineNanos) {
+        Arrays.fill(occupancy, 0);
+        if (sinkOccupancyByLength != null) {
+            for (int[] sinkOccupancy : sinkOccupancyByLength) {
+                Arrays.fill(sinkOccupancy, 0);
+            }
+        }
+        numberOfSamples = 0;
+        long numberOfRejections = 0;
+        boolean isRejectionSampling = true;
+        do {
+            boolean isAccepted = isRejectionSampling ? tryRejectionSample() : tryConstructiveSample();
+            if (!isAccepted && isRejectionSampling && ++numberOfRejections >= MIN_REJECTIONS_BEFORE_FALLBACK
+                    && numberOfSamples * MIN_ACCEPTANCE_RATIO < numberOfRejections) {
+                isRejectionSampling = false;
+            }
+            if (isAccepted) {
+                numberOfSamples++;
+                for (int ship = 0; ship < knowledge.getNumberOfRemainingShips(); ship++) {
+                    int length = knowledge.getRemainingShipLength(ship);
+                    for (int i = 0, cell = shipAnchors[ship]; i < length; i++, cell += shipSteps[ship]) {
+                        occupancy[cell]++;
+                    }
+                    if (sinkOccupancyByLength != null) {
+                        countSinkingShot(ship, length);
+                    }
+                }
+            }
+        } while (System.nanoTime() < deadlineNanos);
+    }
+
+    private void countSinkingShot(int ship, int length) {
+        long[] openHits = knowledge.getOpenHits();
+        int sinkingCell = -1;
+        for (int i = 0, cell = shipAnchors[ship]; i < length; i++, cell += shipSteps[ship]) {
+            if (!isSet(openHits, cell)) {
+                if (sinkingCell >= 0) {
+                    return;
+                }
+                sinkingCell = cell;
+            }
+        }
+        if (sinkingCell >= 0) {
+            sinkOccupancyByLength[length][sinkingCell]++;
+        }
+    }
+
+    private boolean tryRejectionSample() {
+        int numberOfShips = prepareSample();
+        long[] openHits = knowledge.getOpenHits();
+        for (int ship = 0; ship < numberOfShips; ship++) {
+            if (!placeAnywhere(ship)) {
+                return false;
+            }
+            int length = knowledge.getRemainingShipLength(ship);
+            int numberOfHits = 0;
+            for (int i = 0, cell = shipAnchors[ship]; i < length; i++, cell += shipSteps[ship]) {
+                if (isSet(openHits, cell)) {
+                    numberOfHits++;
+                }
+            }
+            if (numberOfHits == length) {
+                return false;
+            }
+        }
+        for (long word : uncoveredHits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean tryConstructiveSample() {
+        int numberOfShips = prepareSample();
+        for (int word = 0; word < uncoveredHits.length; word++) {
+            while (uncoveredHits[word] != 0) {
+                if (!coverHit(word * Long.SIZE + Long.numberOfTrailingZeros(uncoveredHits[word]))) {
+                    return false;
+                }
+            }
+        }
+        for (int ship = 0; ship < numberOfShips; ship++) {
+            if (!isPlaced[ship] && !placeAnywhere(ship)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int prepareSample() {
+        System.arraycopy(knowledge.getAllowedCells(), 0, freeCells, 0, freeCells.length);
+        System.arraycopy(knowledge.getOpenHits(), 0, uncoveredHits, 0, uncoveredHits.length);
+        int numberOfShips = knowledge.getNumberOfRemainingShips();
+        Arrays.fill(isPlaced, 0, numberOfShips, false);
+        return numberOfShips;
+    }
+
+    private boolean coverHit(int hitCell) {
+        int numberOfCandidates = 0;
+        int hitLine = hitCell / gridSize;
+        int hitColumn = hitCell % gridSize;
+        for (int ship = 0; ship < knowledge.getNumberOfRemainingShips(); ship++) {
+            if (isPlaced[ship]) {
+                continue;
+            }
+            int length = knowledge.getRemainingShipLength(ship);
+            for (int offset = 0; offset < length; offset++) {
+                if (hitColumn - offset >= 0 && hitColumn - offset + length <= gridSize
+                        && isConsistentPlacement(hitCell - offset, 1, length)) {
+                    candidateShips[numberOfCandidates] = ship;
+                    candidateAnchors[numberOfCandidates] = hitCell - offset;
+                    candidateSteps[numberOfCandidates++] = 1;
+                }
+                if (length > 1 && hitLine - offset >= 0 && hitLine - offset + length <= gridSize
+                        && isConsistentPlacement(hitCell - offset * gridSize, gridSize, length)) {
+                    candidateShips[numberOfCandidates] = ship;
+                    candidateAnchors[numberOfCandidates] = hitCell - offset * gridSize;
+                    candidateSteps[numberOfCandidates++] = gridSize;
+                }
+            }
+        }
+        if (numberOfCandidates == 0) {
+            return false;
+        }
+        int pick = random.nextInt(numberOfCandidates);
+        place(candidateShips[pick], candidateAnchors[pick], candidateSteps[pick]);
+        return true;
+    }
+
+    private boolean isConsistentPlacement(int anchor, int step, int length) {
+        if (placementTablesByLength != null) {
+            PlacementTable table = placementTablesByLength[length];
+            int placement = table.getPlacement(anchor, step == 1 ? HORIZONTAL : VERTICAL);
+            if (!table.isOccupancyWithin(placement, freeCells)) {
+                return false;
+            }
+            int numberOfHits = table.countOccupancyBits(placement, uncoveredHits);
+            return numberOfHits < length && table.countHaloBits(placement, uncoveredHits) == numberOfHits;
+        }
+        int numberOfHits = 0;
+        for (int i = 0, cell = anchor; i < length; i++, cell += step) {
+            if (!isSet(freeCells, cell)) {
+                return false;
+            } else if (isSet(uncoveredHits, cell)) {
+                numberOfHits++;
+            }
+        }
+        if (numberOfHits == length) {
+            return false;
+        }
+        int rearCell = anchor + (length - 1) * step;
+        int fromLine = Math.max(anchor / gridSize - 1, 0);
+        int toLine = Math.min(rearCell / gridSize + 1, gridSize - 1);
+        int fromColumn = Math.max(anchor % gridSize - 1, 0);
+        int toColumn = Math.min(rearCell % gridSize + 1, gridSize - 1);
+        for (int line = fromLine; line <= toLine; line++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cell = line * gridSize + column;
+                if (isSet(uncoveredHits, cell) && !isOnShip(cell, anchor, rearCell, step)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isOnShip(int cell, int anchor, int rearCell, int step) {
+        return cell >= anchor && cell <= rearCell && (step == 1 || (cell - anchor) % step == 0);
+    }
+
+    private boolean placeAnywhere(int ship) {
+        int length = knowledge.getRemainingShipLength(ship);
+        int horizontalAnchors = collectLegalAnchors(length, HORIZONTAL, 1);
+        int verticalAnchors = length > 1 ? collectLegalAnchors(length, VERTICAL, gridSize) : 0;
+        if (horizontalAnchors + verticalAnchors == 0) {
+            return false;
+        }
+        int rank = random.nextInt(horizontalAnchors + verticalAnchors);
+        if (rank < horizontalAnchors) {
+            place(ship, selectSetBit(legalAnchors[HORIZONTAL], rank), 1);
+        } else {
+            place(ship, selectSetBit(legalAnchors[VERTICAL], rank - horizontalAnchors), gridSize);
+        }
+        return true;
+    }
+
+    private int collectLegalAnchors(int length, int orientation, int step) {
+        long[] anchors = legalAnchors[orientation];
+        long[] anchorsOnTheGrid = anchorsOnTheGridByLength[length][orientation];
+        for (int i = 0; i < anchors.length; i++) {
+            anchors[i] = anchorsOnTheGrid[i] & freeCells[i];
+        }
+        for (int segment = 1; segment < length; segment++) {
+            shiftRight(freeCells, segment * step, shiftedFreeCells);
+            for (int i = 0; i < anchors.length; i++) {
+                anchors[i] &= shiftedFreeCells[i];
+            }
+        }
+        return countSetBits(anchors);
+    }
+
+    private void place(int ship, int anchor, int step) {
+        int length = knowledge.getRemainingShipLength(ship);
+        int rearCell = anchor + (length - 1) * step;
+        isPlaced[ship] = true;
+        shipAnchors[ship] = anchor;
+        shipSteps[ship] = step;
+        for (int i = 0, cell = anchor; i < length; i++, cell += step) {
+            clear(uncoveredHits, cell);
+        }
+        if (placementTablesByLength != null) {
+            PlacementTable table = placementTablesByLength[length];
+            table.clearHalo(table.getPlacement(anchor, step == 1 ? HORIZONTAL : VERTICAL), freeCells);
+            return;
+        }
+        int fromLine = Math.max(anchor / gridSize - 1, 0);
+        int toLine = Math.min(rearCell / gridSize + 1, gridSize - 1);
+        int fromColumn = Math.max(anchor % gridSize - 1, 0);
+        int toColumn = Math.min(rearCell % gridSize + 1, gridSize - 1);
+        for (int line = fromLine; line <= toLine; line++) {
+            clearRange(freeCells, line * gridSize + fromColumn, line * gridSize + toColumn + 1);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class MonteCarloShootingStrategy implements ShootingStrategy {
+    public enum Objective {
+        HIT_PROBABILITY,
+        INFORMATION_GAIN
+    }
+
+    private final SplittableRandom random;
+    private final long timeBudgetNanos;
+    private final ForkJoinPool pool;
+    private final Objective objective;
+    private final BoardKnowledge knowledge;
+    private final ProbabilityDensityShootingStrategy fallback;
+    private FleetSampler[] samplers = new FleetSampler[0];
+    private long[] occupancy = new long[0];
+    private long[][] sinkOccupancyByLength = new long[0][];
+    private long numberOfSamples;
+    private long totalNumberOfSamples;
+    private long numberOfDecisions;
+
+    public MonteCarloShootingStrategy(GameRules rules, SplittableRandom random, long timeBudgetNanos) {
+        this(rules, random, timeBudgetNanos, ForkJoinPool.commonPool(), Objective.HIT_PROBABILITY);
+    }
+
+    public MonteCarloShootingStrategy(GameRules rules, SplittableRandom random, long timeBudgetNanos,
+                                      ForkJoinPool pool, Objective objective) {
+        this.random = random;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.pool = pool;
+        this.objective = objective;
+        knowledge = new BoardKnowledge(rules.getFleet());
+        fallback = new ProbabilityDensityShootingStrategy(rules);
+    }
+
+    public long getNumberOfSamples() {
+        return numberOfSamples;
+    }
+
+    public double getMeanSamplesPerDecision() {
+        return numberOfDecisions == 0 ? 0 : (double) totalNumberOfSamples / numberOfDecisions;
+    }
+
+    @Override
+    public void onGameStarted(GameGrid enemyGrid) {
+        knowledge.reset(enemyGrid.getGridSize());
+        if (samplers.length == 0 || samplers[0].getGridSize() != enemyGrid.getGridSize()) {
+            samplers = new FleetSampler[pool.getParallelism()];
+            for (int i = 0; i < samplers.length; i++) {
+                samplers[i] = new FleetSampler(knowledge, random.split(), objective == Objective.INFORMATION_GAIN);
+            }
+            occupancy = new long[knowledge.getNumberOfCells()];
+            sinkOccupancyByLength = objective == Objective.INFORMATION_GAIN
+                    ? new long[knowledge.getMaximumShipLength() + 1][knowledge.getNumberOfCells()] : new long[0][];
+        }
+        fallback.onGameStarted(enemyGrid);
+    }
+
+    @Override
+    public int nextShot() {
+        pool.invoke(new SamplingTask(0, samplers.length, System.nanoTime() + timeBudgetNanos));
+        Arrays.fill(occupancy, 0);
+        for (long[] sinkOccupancy : sinkOccupancyByLength) {
+            Arrays.fill(sinkOccupancy, 0);
+        }
+        numberOfSamples = 0;
+        for (FleetSampler sampler : samplers) {
+            numberOfSamples += sampler.getNumberOfSamples();
+            int[] samplerOccupancy = sampler.getOccupancy();
+            for (int cell = 0; cell < occupancy.length; cell++) {
+                occupancy[cell] += samplerOccupancy[cell];
+            }
+            for (int length = 0; length < sinkOccupancyByLength.length; length++) {
+                int[] samplerSinkOccupancy = sampler.getSinkOccupancyByLength()[length];
+                for (int cell = 0; cell < occupancy.length; cell++) {
+                    sinkOccupancyByLength[length][cell] += samplerSinkOccupancy[cell];
+                }
+            }
+        }
+        totalNumberOfSamples += numberOfSamples;
+        numberOfDecisions++;
+        int bestCell = chooseBestCell();
+        return bestCell >= 0 ? bestCell : fallback.nextShot();
+    }
+
+    private int chooseBestCell() {
+        if (numberOfSamples == 0 || !knowledge.hasOpenHits() && numberOfSamples < occupancy.length) {
+            return -1;
+        }
+        int bestCell = -1;
+        double bestScore = -1;
+        for (int cell = 0; cell < occupancy.length; cell++) {
+            if (occupancy[cell] == 0 || knowledge.isShot(cell)) {
+                continue;
+            }
+            double hitProbability = (double) occupancy[cell] / numberOfSamples;
+            double score = objective == Objective.HIT_PROBABILITY ? hitProbability
+                    : occupancy[cell] == numberOfSamples ? Double.MAX_VALUE : getExpectedInformationGain(cell);
+            if (score > bestScore) {
+                bestScore = score;
+                bestCell = cell;
+            }
+        }
+        return bestCell;
+    }
+
+    private double getExpectedInformationGain(int cell) {
+        long hitsWithoutSink = occupancy[cell];
+        double entropy = getEntropyTerm(numberOfSamples - occupancy[cell]);
+        for (long[] sinkOccupancy : sinkOccupancyByLength) {
+            hitsWithoutSink -= sinkOccupancy[cell];
+            entropy += getEntropyTerm(sinkOccupancy[cell]);
+        }
+        return entropy + getEntropyTerm(hitsWithoutSink);
+    }
+
+    private double getEntropyTerm(long outcomeCount) {
+        if (outcomeCount == 0) {
+            return 0;
+        }
+        double probability = (double) outcomeCount / numberOfSamples;
+        return -probability * Math.log(probability);
+    }
+
+    @Override
+    public void onShotResult(int cellIndex, GridModificationResult result) {
+        switch (result) {
+            case MISS_REGISTERED -> knowledge.registerMiss(cellIndex);
+            case HIT_REGISTERED -> knowledge.registerHit(cellIndex);
+            case SHIP_SANK, WINNER -> knowledge.registerSunkShip(cellIndex);
+            default -> {
+            }
+        }
+        fallback.onShotResult(cellIndex, result);
+    }
+
+    private class SamplingTask extends RecursiveAction {
+        private final int fromSampler;
+        private final int toSampler;
+        private final long deadlineNanos;
+
+        private SamplingTask(int fromSampler, int toSampler, long deadlineNanos) {
+            this.fromSampler = fromSampler;
+            this.toSampler = toSampler;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        protected void compute() {
+            if (toSampler - fromSampler == 1) {
+                samplers[fromSampler].sampleUntil(deadlineNanos);
+                return;
+            }
+            int middle = (fromSampler + toSampler) >>> 1;
+            SamplingTask left = new SamplingTask(fromSampler, middle, deadlineNanos);
+            SamplingTask right = new SamplingTask(middle, toSampler, deadlineNanos);
+            left.fork();
+            right.compute();
+            left.join();
+        }
+    }
+}
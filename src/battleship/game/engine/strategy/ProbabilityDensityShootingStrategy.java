@@ -0,0 +1,280 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+
+import java.util.Arrays;
+
+public class ProbabilityDensityShootingStrategy implements ShootingStrategy {
+    private static final byte UNKNOWN = 0;
+    private static final byte OPEN_HIT = 1;
+    private static final byte EXCLUDED = 2;
+    private static final int HORIZONTAL = 0;
+    private static final int VERTICAL = 1;
+
+    private final int[] shipLengths;
+    private final int[] initialShipsByLength;
+    private int gridSize;
+    private int numberOfCells;
+    private byte[] cellStates;
+    private int[] heat;
+    private boolean[][] legalPlacements;
+    private int[] shipsByLength;
+    private int[] initialHeat;
+    private boolean[][] initialLegalPlacements;
+    private int[] targetScores;
+    private int[] floodFillStack;
+
+    public ProbabilityDensityShootingStrategy() {
+        this(ShipType.values());
+    }
+
+    public ProbabilityDensityShootingStrategy(GameRules rules) {
+        this(rules.getFleet());
+    }
+
+    public ProbabilityDensityShootingStrategy(ShipType[] fleet) {
+        shipLengths = Arrays.stream(fleet).mapToInt(ShipType::getSize).distinct().sorted().toArray();
+        initialShipsByLength = new int[shipLengths.length];
+        for (ShipType shipType : fleet) {
+            initialShipsByLength[Arrays.binarySearch(shipLengths, shipType.getSize())]++;
+        }
+    }
+
+    @Override
+    public void onGameStarted(GameGrid enemyGrid) {
+        if (enemyGrid.getGridSize() != gridSize || initialHeat == null) {
+            prepareInitialState(enemyGrid.getGridSize());
+        }
+        Arrays.fill(cellStates, UNKNOWN);
+        System.arraycopy(initialHeat, 0, heat, 0, numberOfCells);
+        for (int k = 0; k < shipLengths.length; k++) {
+            System.arraycopy(initialLegalPlacements[k], 0, legalPlacements[k], 0, 2 * numberOfCells);
+        }
+        System.arraycopy(initialShipsByLength, 0, shipsByLength, 0, shipLengths.length);
+    }
+
+    private void prepareInitialState(int gridSize) {
+        this.gridSize = gridSize;
+        numberOfCells = gridSize * gridSize;
+        cellStates = new byte[numberOfCells];
+        heat = new int[numberOfCells];
+        targetScores = new int[numberOfCells];
+        floodFillStack = new int[numberOfCells];
+        shipsByLength = new int[shipLengths.length];
+        legalPlacements = new boolean[shipLengths.length][2 * numberOfCells];
+        initialLegalPlacements = new boolean[shipLengths.length][2 * numberOfCells];
+        initialHeat = new int[numberOfCells];
+        for (int k = 0; k < shipLengths.length; k++) {
+            int length = shipLengths[k];
+            for (int anchor = 0; anchor < numberOfCells; anchor++) {
+                for (int orientation = HORIZONTAL; orientation <= VERTICAL; orientation++) {
+                    if (isPlacementOnTheGrid(anchor, orientation, length)) {
+                        initialLegalPlacements[k][orientation * numberOfCells + anchor] = true;
+                        addPlacementHeat(initialHeat, anchor, orientation, length, initialShipsByLength[k]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public int nextShot() {
+        int target = chooseTargetCell();
+        return target >= 0 ? target : chooseHuntCell();
+    }
+
+    private int chooseHuntCell() {
+        int bestCell = -1;
+        int bestHeat = -1;
+        for (int cell = 0; cell < numberOfCells; cell++) {
+            if (cellStates[cell] == UNKNOWN && heat[cell] > bestHeat) {
+                bestHeat = heat[cell];
+                bestCell = cell;
+            }
+        }
+        return bestCell;
+    }
+
+    private int chooseTargetCell() {
+        boolean hasOpenHits = false;
+        for (int cell = 0; cell < numberOfCells; cell++) {
+            if (cellStates[cell] == OPEN_HIT) {
+                if (!hasOpenHits) {
+                    Arrays.fill(targetScores, 0);
+                    hasOpenHits = true;
+                }
+                scorePlacementsThrough(cell);
+            }
+        }
+        if (!hasOpenHits) {
+            return -1;
+        }
+        int bestCell = -1;
+        int bestScore = 0;
+        for (int cell = 0; cell < numberOfCells; cell++) {
+            if (cellStates[cell] == UNKNOWN && targetScores[cell] > bestScore) {
+                bestScore = targetScores[cell];
+                bestCell = cell;
+            }
+        }
+        return bestCell;
+    }
+
+    private void scorePlacementsThrough(int cell) {
+        int line = cell / gridSize;
+        int column = cell % gridSize;
+        for (int k = 0; k < shipLengths.length; k++) {
+            if (shipsByLength[k] == 0) {
+                continue;
+            }
+            int length = shipLengths[k];
+            for (int start = Math.max(0, column - length + 1); start <= Math.min(column, gridSize - length); start++) {
+                scorePlacement(line * gridSize + start, HORIZONTAL, length, shipsByLength[k]);
+            }
+            for (int start = Math.max(0, line - length + 1); start <= Math.min(line, gridSize - length); start++) {
+                scorePlacement(start * gridSize + column, VERTICAL, length, shipsByLength[k]);
+            }
+        }
+    }
+
+    private void scorePlacement(int anchor, int orientation, int length, int weight) {
+        int step = orientation == HORIZONTAL ? 1 : gridSize;
+        for (int i = 0, cell = anchor; i < length; i++, cell += step) {
+            if (cellStates[cell] == EXCLUDED) {
+                return;
+            }
+        }
+        for (int i = 0, cell = anchor; i < length; i++, cell += step) {
+            targetScores[cell] += weight;
+        }
+    }
+
+    @Override
+    public void onShotResult(int cellIndex, GridModificationResult result) {
+        switch (result) {
+            case MISS_REGISTERED -> exclude(cellIndex);
+            case HIT_REGISTERED -> registerHit(cellIndex);
+            case SHIP_SANK, WINNER -> {
+                registerHit(cellIndex);
+                registerSunkShip(cellIndex);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void registerHit(int cell) {
+        if (cellStates[cell] != UNKNOWN) {
+            return;
+        }
+        cellStates[cell] = OPEN_HIT;
+        int line = cell / gridSize;
+        int column = cell % gridSize;
+        for (int lineOffset = -1; lineOffset <= 1; lineOffset += 2) {
+            for (int columnOffset = -1; columnOffset <= 1; columnOffset += 2) {
+                excludeIfOnTheGrid(line + lineOffset, column + columnOffset);
+            }
+        }
+    }
+
+    private void registerSunkShip(int cell) {
+        int shipLength = 0;
+        int stackSize = 0;
+        floodFillStack[stackSize++] = cell;
+        cellStates[cell] = EXCLUDED;
+        while (stackSize > 0) {
+            int current = floodFillStack[--stackSize];
+            shipLength++;
+            excludePlacementsThrough(current);
+            int line = current / gridSize;
+            int column = current % gridSize;
+            for (int lineOffset = -1; lineOffset <= 1; lineOffset++) {
+                for (int columnOffset = -1; columnOffset <= 1; columnOffset++) {
+                    int neighbourLine = line + lineOffset;
+                    int neighbourColumn = column + columnOffset;
+                    if (isOnTheGrid(neighbourLine, neighbourColumn)) {
+                        int neighbour = neighbourLine * gridSize + neighbourColumn;
+                        if (cellStates[neighbour] == OPEN_HIT) {
+                            cellStates[neighbour] = EXCLUDED;
+                            floodFillStack[stackSize++] = neighbour;
+                        } else {
+                            exclude(neighbour);
+                        }
+                    }
+                }
+            }
+        }
+        removeShip(shipLength);
+    }
+
+    private void removeShip(int shipLength) {
+        int k = Arrays.binarySearch(shipLengths, shipLength);
+        if (k < 0 || shipsByLength[k] == 0) {
+            return;
+        }
+        shipsByLength[k]--;
+        boolean[] legal = legalPlacements[k];
+        for (int placement = 0; placement < legal.length; placement++) {
+            if (legal[placement]) {
+                addPlacementHeat(heat, placement % numberOfCells, placement / numberOfCells, shipLength, -1);
+            }
+        }
+    }
+
+    private void excludeIfOnTheGrid(int line, int column) {
+        if (isOnTheGrid(line, column)) {
+            exclude(line * gridSize + column);
+        }
+    }
+
+    private void exclude(int cell) {
+        if (cellStates[cell] == UNKNOWN) {
+            cellStates[cell] = EXCLUDED;
+            excludePlacementsThrough(cell);
+        }
+    }
+
+    private void excludePlacementsThrough(int cell) {
+        int line = cell / gridSize;
+        int column = cell % gridSize;
+        for (int k = 0; k < shipLengths.length; k++) {
+            int length = shipLengths[k];
+            boolean[] legal = legalPlacements[k];
+            for (int start = Math.max(0, column - length + 1); start <= Math.min(column, gridSize - length); start++) {
+                int anchor = line * gridSize + start;
+                if (legal[anchor]) {
+                    legal[anchor] = false;
+                    addPlacementHeat(heat, anchor, HORIZONTAL, length, -shipsByLength[k]);
+                }
+            }
+            for (int start = Math.max(0, line - length + 1); start <= Math.min(line, gridSize - length); start++) {
+                int anchor = start * gridSize + column;
+                if (legal[numberOfCells + anchor]) {
+                    legal[numberOfCells + anchor] = false;
+                    addPlacementHeat(heat, anchor, VERTICAL, length, -shipsByLength[k]);
+                }
+            }
+        }
+    }
+
+    private void addPlacementHeat(int[] heatMap, int anchor, int orientation, int length, int weight) {
+        int step = orientation == HORIZONTAL ? 1 : gridSize;
+        for (int i = 0, cell = anchor; i < length; i++, cell += step) {
+            heatMap[cell] += weight;
+        }
+    }
+
+    private boolean isPlacementOnTheGrid(int anchor, int orientation, int length) {
+        int line = anchor / gridSize;
+        int column = anchor % gridSize;
+        return orientation == HORIZONTAL ? column + length <= gridSize : line + length <= gridSize;
+    }
+
+    private boolean isOnTheGrid(int line, int column) {
+        return line >= 0 && line < gridSize && column >= 0 && column < gridSize;
+    }
+}
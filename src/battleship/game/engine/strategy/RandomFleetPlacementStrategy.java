@@ -0,0 +1,49 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.engine.PlacementStrategy;
+import battleship.game.engine.ShipPlacement;
+import battleship.game.grid.GameGrid;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+
+import java.util.SplittableRandom;
+
+public class RandomFleetPlacementStrategy implements PlacementStrategy {
+    private final SplittableRandom random;
+    private final ShipType[] fleet;
+    private final int[] frontCells;
+    private final int[] rearCells;
+    private FleetGenerator generator;
+    private int nextShip;
+
+    public RandomFleetPlacementStrategy(SplittableRandom random) {
+        this(random, GameRules.STANDARD);
+    }
+
+    public RandomFleetPlacementStrategy(SplittableRandom random, GameRules rules) {
+        this.random = random;
+        this.fleet = rules.getFleet();
+        this.frontCells = new int[fleet.length];
+        this.rearCells = new int[fleet.length];
+    }
+
+    @Override
+    public void onPlacementStarted(GameGrid ownGrid) {
+        if (generator == null || generator.getGridSize() != ownGrid.getGridSize()) {
+            generator = new FleetGenerator(ownGrid.getGridSize(), fleet);
+        }
+        generator.generate(random, frontCells, rearCells);
+        nextShip = 0;
+    }
+
+    @Override
+    public ShipPlacement nextPlacement(ShipType shipType) {
+        if (fleet[nextShip] != shipType) {
+            throw new IllegalStateException("Expected " + fleet[nextShip].getName() + " but was asked to place " +
+                    shipType.getName());
+        }
+        ShipPlacement placement = new ShipPlacement(frontCells[nextShip], rearCells[nextShip]);
+        nextShip++;
+        return placement;
+    }
+}
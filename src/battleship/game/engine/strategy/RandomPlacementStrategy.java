@@ -0,0 +1,36 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.engine.PlacementStrategy;
+import battleship.game.engine.ShipPlacement;
+import battleship.game.grid.GameGrid;
+import battleship.game.ship.ShipType;
+
+import java.util.SplittableRandom;
+
+public class RandomPlacementStrategy implements PlacementStrategy {
+    private final SplittableRandom random;
+    private int gridSize;
+
+    public RandomPlacementStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public void onPlacementStarted(GameGrid ownGrid) {
+        gridSize = ownGrid.getGridSize();
+    }
+
+    @Override
+    public ShipPlacement nextPlacement(ShipType shipType) {
+        int length = shipType.getSize() - 1;
+        if (random.nextBoolean()) {
+            int line = random.nextInt(gridSize);
+            int column = random.nextInt(gridSize - length);
+            return new ShipPlacement(line * gridSize + column, line * gridSize + column + length);
+        } else {
+            int line = random.nextInt(gridSize - length);
+            int column = random.nextInt(gridSize);
+            return new ShipPlacement(line * gridSize + column, (line + length) * gridSize + column);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package battleship.game.engine.strategy;
+
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.grid.GameGrid;
+
+import java.util.SplittableRandom;
+
+public class RandomShootingStrategy implements ShootingStrategy {
+    private final SplittableRandom random;
+    private int[] remainingCells = new int[0];
+    private int numberOfRemainingCells;
+
+    public RandomShootingStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public void onGameStarted(GameGrid enemyGrid) {
+        int numberOfCells = enemyGrid.getGridSize() * enemyGrid.getGridSize();
+        if (remainingCells.length != numberOfCells) {
+            remainingCells = new int[numberOfCells];
+        }
+        for (int i = 0; i < numberOfCells; i++) {
+            remainingCells[i] = i;
+        }
+        numberOfRemainingCells = numberOfCells;
+    }
+
+    @Override
+    public int nextShot() {
+        int pick = random.nextInt(numberOfRemainingCells);
+        int cellIndex = remainingCells[pick];
+        remainingCells[pick] = remainingCells[--numberOfRemainingCells];
+        return cellIndex;
+    }
+}
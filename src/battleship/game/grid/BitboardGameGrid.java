@@ -0,0 +1,375 @@
+package battleship.game.grid;
+
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+import battleship.game.square.Square;
+import battleship.util.Constants;
+
+import static battleship.util.Constants.GameGridConstants.*;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class BitboardGameGrid implements GameGrid {
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+    private static final byte OUT_OF_GRID_CODE = (byte) GridModificationResult.OUT_OF_GAME_GRID.ordinal();
+    private static final byte MISS_CODE = (byte) GridModificationResult.MISS_REGISTERED.ordinal();
+    private static final byte HIT_CODE = (byte) GridModificationResult.HIT_REGISTERED.ordinal();
+    private static final byte SANK_CODE = (byte) GridModificationResult.SHIP_SANK.ordinal();
+    private static final byte WINNER_CODE = (byte) GridModificationResult.WINNER.ordinal();
+    private final int gridSize;
+    private final long[] shipLayer;
+    private final long[] hitLayer;
+    private final long[] missLayer;
+    private final long[] reservedLayer;
+    private final int[] shipSegmentByCell;
+    private int[] shipCells;
+    private long[] aliveSegmentsByShip;
+    private int[] hitsToSinkByShip;
+    private int numberOfShips = 0;
+    private int currentShip = -1;
+    private int numberOfSquaresOccupiedByShips = 0;
+
+    public BitboardGameGrid() {
+        this(GRID_SIZE);
+    }
+
+    public BitboardGameGrid(int gridSize) {
+        this(gridSize, ShipType.values().length);
+    }
+
+    public BitboardGameGrid(GameRules rules) {
+        this(rules.getGridSize(), rules.getNumberOfShips());
+    }
+
+    public BitboardGameGrid(GameGridSnapshot snapshot) {
+        this(snapshot.getGridSize(), snapshot.getNumberOfShips());
+        restore(snapshot);
+    }
+
+    private BitboardGameGrid(int gridSize, int expectedNumberOfShips) {
+        this.gridSize = gridSize;
+        aliveSegmentsByShip = new long[Math.max(expectedNumberOfShips, 1)];
+        hitsToSinkByShip = new int[aliveSegmentsByShip.length];
+        shipCells = new int[2 * aliveSegmentsByShip.length];
+        int numberOfWords = GameGridSnapshot.getNumberOfWords(gridSize);
+        shipLayer = new long[numberOfWords];
+        hitLayer = new long[numberOfWords];
+        missLayer = new long[numberOfWords];
+        reservedLayer = new long[numberOfWords];
+        shipSegmentByCell = new int[gridSize * gridSize];
+    }
+
+    @Override
+    public String getSquareData(Square square) {
+        if (square.getLine() < 'A' || square.getLine() >= 'A' + gridSize) {
+            throw new IllegalArgumentException(
+                    "Wrong line identifier. Can be any character between 'A' and " + (char) ('A' + gridSize));
+        } else if (square.getColumn() < 1 || square.getColumn() > gridSize) {
+            throw new IllegalArgumentException(
+                    "Wrong column identifier [" + square.getColumn() + "]. Can be any integer between 1 and " +
+                            gridSize + " (inclusive)");
+        }
+        return getCellData(getCellIndex(square));
+    }
+
+    @Override
+    public String getCellData(int cellIndex) {
+        if (isSet(hitLayer, cellIndex)) {
+            return HIT;
+        } else if (isSet(missLayer, cellIndex)) {
+            return MISS_SHOT;
+        } else if (isSet(shipLayer, cellIndex)) {
+            return SHIP;
+        } else if (isSet(reservedLayer, cellIndex)) {
+            return RESERVED;
+        } else {
+            return FOG;
+        }
+    }
+
+    @Override
+    public GridModificationResult addShip(Square frontSquare, Square rearSquare, ShipType shipType) {
+        return addShip(getCellIndex(frontSquare), getCellIndex(rearSquare), shipType);
+    }
+
+    @Override
+    public GridModificationResult addShip(int frontCell, int rearCell, ShipType shipType) {
+        if (isCellNotOnTheGrid(frontCell) || isCellNotOnTheGrid(rearCell)) {
+            return GridModificationResult.OUT_OF_GAME_GRID;
+        }
+        int startLine = Math.min(frontCell, rearCell) / gridSize;
+        int endLine = Math.max(frontCell, rearCell) / gridSize;
+        int startColumn = Math.min(frontCell % gridSize, rearCell % gridSize);
+        int endColumn = Math.max(frontCell % gridSize, rearCell % gridSize);
+        boolean isStraightLine = frontCell != rearCell && (startLine == endLine || startColumn == endColumn);
+        if (isStraightLine && isShipToCloseToOther(startLine, endLine, startColumn, endColumn)) {
+            return GridModificationResult.SHIPS_TO_CLOSE;
+        }
+        registerShipOnGrid(shipType);
+        if (isStraightLine) {
+            shipCells[2 * currentShip] = startLine * gridSize + startColumn;
+            shipCells[2 * currentShip + 1] = endLine * gridSize + endColumn;
+            setShipSegments(startLine, endLine, startColumn, endColumn);
+            setReservedCells(startLine, endLine, startColumn, endColumn);
+        }
+        return GridModificationResult.SHIP_PLACED;
+    }
+
+    private void registerShipOnGrid(ShipType shipType) {
+        ensureShipCapacity(numberOfShips + 1);
+        currentShip = numberOfShips++;
+        shipCells[2 * currentShip] = -1;
+        shipCells[2 * currentShip + 1] = -1;
+        aliveSegmentsByShip[currentShip] = 0;
+        hitsToSinkByShip[currentShip] = shipType.getSize();
+        numberOfSquaresOccupiedByShips += shipType.getSize();
+    }
+
+    private void ensureShipCapacity(int capacity) {
+        if (capacity > aliveSegmentsByShip.length) {
+            int newCapacity = Math.max(capacity, aliveSegmentsByShip.length * 2);
+            aliveSegmentsByShip = Arrays.copyOf(aliveSegmentsByShip, newCapacity);
+            hitsToSinkByShip = Arrays.copyOf(hitsToSinkByShip, newCapacity);
+            shipCells = Arrays.copyOf(shipCells, 2 * newCapacity);
+        }
+    }
+
+    private boolean isShipToCloseToOther(int startLine, int endLine, int startColumn, int endColumn) {
+        for (int line = startLine; line <= endLine; line++) {
+            int fromIndex = line * gridSize + startColumn;
+            int toIndex = line * gridSize + endColumn + 1;
+            if (intersectsRange(shipLayer, fromIndex, toIndex) || intersectsRange(reservedLayer, fromIndex, toIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void setShipSegments(int startLine, int endLine, int startColumn, int endColumn) {
+        int segment = 0;
+        for (int line = startLine; line <= endLine; line++) {
+            setRange(shipLayer, line * gridSize + startColumn, line * gridSize + endColumn + 1);
+            for (int column = startColumn; column <= endColumn; column++) {
+                shipSegmentByCell[line * gridSize + column] = (currentShip + 1) << SEGMENT_BITS | segment;
+                aliveSegmentsByShip[currentShip] |= 1L << segment;
+                segment++;
+            }
+        }
+    }
+
+    private void setReservedCells(int startLine, int endLine, int startColumn, int endColumn) {
+        int fromLine = Math.max(startLine - 1, 0);
+        int toLine = Math.min(endLine + 1, gridSize - 1);
+        int fromColumn = Math.max(startColumn - 1, 0);
+        int toColumn = Math.min(endColumn + 1, gridSize - 1);
+        for (int line = fromLine; line <= toLine; line++) {
+            setRange(reservedLayer, line * gridSize + fromColumn, line * gridSize + toColumn + 1);
+        }
+    }
+
+    @Override
+    public GridModificationResult registerShoot(Square shotCoordinates) {
+        return registerShoot(getCellIndex(shotCoordinates));
+    }
+
+    @Override
+    public GridModificationResult registerShoot(int cellIndex) {
+        if (isCellNotOnTheGrid(cellIndex)) {
+            return GridModificationResult.OUT_OF_GAME_GRID;
+        }
+        if (!isSet(shipLayer, cellIndex)) {
+            set(missLayer, cellIndex);
+            clear(reservedLayer, cellIndex);
+            return GridModificationResult.MISS_REGISTERED;
+        }
+        int shipSegment = shipSegmentByCell[cellIndex];
+        currentShip = (shipSegment >>> SEGMENT_BITS) - 1;
+        if (!isSet(hitLayer, cellIndex)) {
+            set(hitLayer, cellIndex);
+            aliveSegmentsByShip[currentShip] &= ~(1L << (shipSegment & SEGMENT_MASK));
+            hitsToSinkByShip[currentShip]--;
+            numberOfSquaresOccupiedByShips--;
+        }
+        if (hitsToSinkByShip[currentShip] > 0) {
+            return GridModificationResult.HIT_REGISTERED;
+        } else if (numberOfSquaresOccupiedByShips == 0) {
+            return GridModificationResult.WINNER;
+        } else {
+            return GridModificationResult.SHIP_SANK;
+        }
+    }
+
+    @Override
+    public int registerShoots(int[] cellIndices, int fromIndex, int toIndex, byte[] results) {
+        Objects.checkFromToIndex(fromIndex, toIndex, cellIndices.length);
+        Objects.checkFromToIndex(fromIndex, toIndex, results.length);
+        long[] ships = shipLayer;
+        long[] hits = hitLayer;
+        long[] misses = missLayer;
+        long[] reserved = reservedLayer;
+        long[] aliveSegments = aliveSegmentsByShip;
+        int[] hitsToSink = hitsToSinkByShip;
+        int[] segments = shipSegmentByCell;
+        int numberOfCells = gridSize * gridSize;
+        int remainingSquares = numberOfSquaresOccupiedByShips;
+        int ship = currentShip;
+        int i = fromIndex;
+        while (i < toIndex) {
+            int cellIndex = cellIndices[i];
+            byte result;
+            if (cellIndex < 0 || cellIndex >= numberOfCells) {
+                result = OUT_OF_GRID_CODE;
+            } else {
+                int word = cellIndex >>> 6;
+                long bit = 1L << cellIndex;
+                if ((ships[word] & bit) == 0) {
+                    misses[word] |= bit;
+                    reserved[word] &= ~bit;
+                    result = MISS_CODE;
+                } else {
+                    int shipSegment = segments[cellIndex];
+                    ship = (shipSegment >>> SEGMENT_BITS) - 1;
+                    if ((hits[word] & bit) == 0) {
+                        hits[word] |= bit;
+                        aliveSegments[ship] &= ~(1L << (shipSegment & SEGMENT_MASK));
+                        hitsToSink[ship]--;
+                        remainingSquares--;
+                    }
+                    result = hitsToSink[ship] > 0 ? HIT_CODE
+                            : remainingSquares == 0 ? WINNER_CODE : SANK_CODE;
+                }
+            }
+            results[i++] = result;
+            if (result == WINNER_CODE) {
+                break;
+            }
+        }
+        currentShip = ship;
+        numberOfSquaresOccupiedByShips = remainingSquares;
+        return i;
+    }
+
+    @Override
+    public GameGridSnapshot snapshot() {
+        return new GameGridSnapshot(gridSize, shipLayer.clone(), hitLayer.clone(), missLayer.clone(),
+                reservedLayer.clone(), Arrays.copyOf(shipCells, 2 * numberOfShips),
+                Arrays.copyOf(aliveSegmentsByShip, numberOfShips), Arrays.copyOf(hitsToSinkByShip, numberOfShips),
+                currentShip, numberOfSquaresOccupiedByShips);
+    }
+
+    @Override
+    public void restore(GameGridSnapshot snapshot) {
+        if (snapshot.getGridSize() != gridSize) {
+            throw new IllegalArgumentException("Snapshot of a " + snapshot.getGridSize() + "x" +
+                    snapshot.getGridSize() + " grid cannot be restored into a " + gridSize + "x" + gridSize + " grid");
+        }
+        System.arraycopy(snapshot.getShipLayer(), 0, shipLayer, 0, shipLayer.length);
+        System.arraycopy(snapshot.getHitLayer(), 0, hitLayer, 0, hitLayer.length);
+        System.arraycopy(snapshot.getMissLayer(), 0, missLayer, 0, missLayer.length);
+        System.arraycopy(snapshot.getReservedLayer(), 0, reservedLayer, 0, reservedLayer.length);
+        numberOfShips = snapshot.getNumberOfShips();
+        ensureShipCapacity(numberOfShips);
+        System.arraycopy(snapshot.getShipCells(), 0, shipCells, 0, 2 * numberOfShips);
+        System.arraycopy(snapshot.getAliveSegmentsByShip(), 0, aliveSegmentsByShip, 0, numberOfShips);
+        System.arraycopy(snapshot.getHitsToSinkByShip(), 0, hitsToSinkByShip, 0, numberOfShips);
+        for (int ship = 0; ship < numberOfShips; ship++) {
+            int firstCell = shipCells[2 * ship];
+            int lastCell = shipCells[2 * ship + 1];
+            if (firstCell < 0) {
+                continue;
+            }
+            int step = firstCell / gridSize == lastCell / gridSize ? 1 : gridSize;
+            for (int cell = firstCell, segment = 0; cell <= lastCell; cell += step, segment++) {
+                shipSegmentByCell[cell] = (ship + 1) << SEGMENT_BITS | segment;
+            }
+        }
+        currentShip = snapshot.getCurrentShip();
+        numberOfSquaresOccupiedByShips = snapshot.getNumberOfSquaresOccupiedByShips();
+    }
+
+    private boolean isSquareNotOnTheGrid(Square square) {
+        return square.getLineAsIndex() < 0
+                || square.getLineAsIndex() >= gridSize
+                || square.getColumnAsIndex() < 0
+                || square.getColumnAsIndex() >= gridSize;
+    }
+
+    private boolean isCellNotOnTheGrid(int cellIndex) {
+        return cellIndex < 0 || cellIndex >= gridSize * gridSize;
+    }
+
+    @Override
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    @Override
+    public int getCellIndex(Square square) {
+        if (isSquareNotOnTheGrid(square)) {
+            return -1;
+        }
+        return square.getLineAsIndex() * gridSize + square.getColumnAsIndex();
+    }
+
+    private static boolean isSet(long[] layer, int cellIndex) {
+        return (layer[cellIndex >>> 6] & (1L << cellIndex)) != 0;
+    }
+
+    private static void set(long[] layer, int cellIndex) {
+        layer[cellIndex >>> 6] |= 1L << cellIndex;
+    }
+
+    private static void clear(long[] layer, int cellIndex) {
+        layer[cellIndex >>> 6] &= ~(1L << cellIndex);
+    }
+
+    private static void setRange(long[] layer, int fromIndex, int toIndex) {
+        int firstWord = fromIndex >>> 6;
+        int lastWord = (toIndex - 1) >>> 6;
+        long firstWordMask = -1L << fromIndex;
+        long lastWordMask = -1L >>> -toIndex;
+        if (firstWord == lastWord) {
+            layer[firstWord] |= firstWordMask & lastWordMask;
+        } else {
+            layer[firstWord] |= firstWordMask;
+            for (int i = firstWord + 1; i < lastWord; i++) {
+                layer[i] = -1L;
+            }
+            layer[lastWord] |= lastWordMask;
+        }
+    }
+
+    private static boolean intersectsRange(long[] layer, int fromIndex, int toIndex) {
+        int firstWord = fromIndex >>> 6;
+        int lastWord = (toIndex - 1) >>> 6;
+        long firstWordMask = -1L << fromIndex;
+        long lastWordMask = -1L >>> -toIndex;
+        if (firstWord == lastWord) {
+            return (layer[firstWord] & firstWordMask & lastWordMask) != 0;
+        }
+        if ((layer[firstWord] & firstWordMask) != 0 || (layer[lastWord] & lastWordMask) != 0) {
+            return true;
+        }
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            if (layer[i] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < gridSize; i++) {
+            stringBuilder.append('[');
+            for (int j = 0; j < gridSize; j++) {
+                stringBuilder.append(j == 0 ? "" : ", ").append(getCellData(i * gridSize + j));
+            }
+            stringBuilder.append(']').append(Constants.GameGridPrinterConstants.NEW_LINE);
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package battleship.game.grid;
+
+import java.util.Arrays;
+
+class CellStateMap {
+    private static final int FREE = -1;
+    private static final int MIN_CAPACITY = 16;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private int[] cells;
+    private int[] states;
+    private int mask;
+    private int size = 0;
+
+    CellStateMap(int expectedSize) {
+        int capacity = Math.max(Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1, MIN_CAPACITY);
+        allocate(capacity);
+    }
+
+    int get(int cell) {
+        for (int slot = slotOf(cell); ; slot = (slot + 1) & mask) {
+            if (cells[slot] == cell) {
+                return states[slot];
+            } else if (cells[slot] == FREE) {
+                return 0;
+            }
+        }
+    }
+
+    void set(int cell, int bits) {
+        int slot = findSlot(cell);
+        states[slot] |= bits;
+    }
+
+    void clear(int cell, int bits) {
+        for (int slot = slotOf(cell); ; slot = (slot + 1) & mask) {
+            if (cells[slot] == cell) {
+                states[slot] &= ~bits;
+                return;
+            } else if (cells[slot] == FREE) {
+                return;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return cells.length;
+    }
+
+    int getCellAt(int slot) {
+        return cells[slot];
+    }
+
+    int getStateAt(int slot) {
+        return states[slot];
+    }
+
+    private int findSlot(int cell) {
+        int slot = slotOf(cell);
+        while (cells[slot] != FREE) {
+            if (cells[slot] == cell) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (2 * (size + 1) > cells.length) {
+            grow();
+            return findSlot(cell);
+        }
+        cells[slot] = cell;
+        size++;
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldCells = cells;
+        int[] oldStates = states;
+        allocate(oldCells.length * 2);
+        for (int i = 0; i < oldCells.length; i++) {
+            if (oldCells[i] != FREE) {
+                int slot = slotOf(oldCells[i]);
+                while (cells[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                cells[slot] = oldCells[i];
+                states[slot] = oldStates[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        cells = new int[capacity];
+        states = new int[capacity];
+        Arrays.fill(cells, FREE);
+        mask = capacity - 1;
+    }
+
+    private int slotOf(int cell) {
+        int hash = cell * HASH_MULTIPLIER;
+        return (hash ^ hash >>> 16) & mask;
+    }
+}
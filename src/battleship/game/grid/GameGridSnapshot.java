@@ -0,0 +1,159 @@
+package battleship.game.grid;
+
+import battleship.game.rules.GameRules;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+public final class GameGridSnapshot {
+    private static final int MAGIC = 0x42534E50;
+    private static final byte VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + 4 * Integer.BYTES;
+    private static final int NUMBER_OF_LAYERS = 4;
+    private static final int SHIP_RECORD_SIZE = 3 * Integer.BYTES + Long.BYTES;
+
+    private final int gridSize;
+    private final long[] shipLayer;
+    private final long[] hitLayer;
+    private final long[] missLayer;
+    private final long[] reservedLayer;
+    private final int[] shipCells;
+    private final long[] aliveSegmentsByShip;
+    private final int[] hitsToSinkByShip;
+    private final int currentShip;
+    private final int numberOfSquaresOccupiedByShips;
+
+    GameGridSnapshot(int gridSize, long[] shipLayer, long[] hitLayer, long[] missLayer, long[] reservedLayer,
+                     int[] shipCells, long[] aliveSegmentsByShip, int[] hitsToSinkByShip, int currentShip,
+                     int numberOfSquaresOccupiedByShips) {
+        this.gridSize = gridSize;
+        this.shipLayer = shipLayer;
+        this.hitLayer = hitLayer;
+        this.missLayer = missLayer;
+        this.reservedLayer = reservedLayer;
+        this.shipCells = shipCells;
+        this.aliveSegmentsByShip = aliveSegmentsByShip;
+        this.hitsToSinkByShip = hitsToSinkByShip;
+        this.currentShip = currentShip;
+        this.numberOfSquaresOccupiedByShips = numberOfSquaresOccupiedByShips;
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public int getNumberOfShips() {
+        return aliveSegmentsByShip.length;
+    }
+
+    public int getNumberOfSquaresOccupiedByShips() {
+        return numberOfSquaresOccupiedByShips;
+    }
+
+    long[] getShipLayer() {
+        return shipLayer;
+    }
+
+    long[] getHitLayer() {
+        return hitLayer;
+    }
+
+    long[] getMissLayer() {
+        return missLayer;
+    }
+
+    long[] getReservedLayer() {
+        return reservedLayer;
+    }
+
+    int[] getShipCells() {
+        return shipCells;
+    }
+
+    long[] getAliveSegmentsByShip() {
+        return aliveSegmentsByShip;
+    }
+
+    int[] getHitsToSinkByShip() {
+        return hitsToSinkByShip;
+    }
+
+    int getCurrentShip() {
+        return currentShip;
+    }
+
+    public byte[] toByteArray() {
+        int numberOfShips = getNumberOfShips();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE
+                + NUMBER_OF_LAYERS * shipLayer.length * Long.BYTES
+                + numberOfShips * SHIP_RECORD_SIZE);
+        buffer.putInt(MAGIC).put(VERSION)
+                .putInt(gridSize)
+                .putInt(numberOfShips)
+                .putInt(currentShip)
+                .putInt(numberOfSquaresOccupiedByShips);
+        for (long[] layer : new long[][]{shipLayer, hitLayer, missLayer, reservedLayer}) {
+            buffer.asLongBuffer().put(layer);
+            buffer.position(buffer.position() + layer.length * Long.BYTES);
+        }
+        buffer.asIntBuffer().put(shipCells);
+        buffer.position(buffer.position() + shipCells.length * Integer.BYTES);
+        buffer.asLongBuffer().put(aliveSegmentsByShip);
+        buffer.position(buffer.position() + aliveSegmentsByShip.length * Long.BYTES);
+        buffer.asIntBuffer().put(hitsToSinkByShip);
+        return buffer.array();
+    }
+
+    public static GameGridSnapshot fromByteArray(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                throw new IllegalArgumentException("Not a game grid snapshot");
+            }
+            int gridSize = buffer.getInt();
+            int numberOfShips = buffer.getInt();
+            int currentShip = buffer.getInt();
+            int numberOfSquaresOccupiedByShips = buffer.getInt();
+            if (gridSize < GameRules.MIN_GRID_SIZE || gridSize > GameRules.MAX_GRID_SIZE
+                    || numberOfShips < 0 || numberOfShips > buffer.remaining() / SHIP_RECORD_SIZE
+                    || currentShip < -1 || currentShip >= numberOfShips) {
+                throw new IllegalArgumentException("Corrupted game grid snapshot header");
+            }
+            int numberOfWords = getNumberOfWords(gridSize);
+            long[][] layers = new long[NUMBER_OF_LAYERS][];
+            for (int i = 0; i < NUMBER_OF_LAYERS; i++) {
+                layers[i] = getLongs(buffer, numberOfWords);
+            }
+            int[] shipCells = new int[2 * numberOfShips];
+            buffer.asIntBuffer().get(shipCells);
+            buffer.position(buffer.position() + shipCells.length * Integer.BYTES);
+            long[] aliveSegmentsByShip = getLongs(buffer, numberOfShips);
+            int[] hitsToSinkByShip = new int[numberOfShips];
+            buffer.asIntBuffer().get(hitsToSinkByShip);
+            buffer.position(buffer.position() + hitsToSinkByShip.length * Integer.BYTES);
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Unexpected trailing bytes in game grid snapshot");
+            }
+            for (int cell : shipCells) {
+                if (cell < -1 || cell >= gridSize * gridSize) {
+                    throw new IllegalArgumentException("Ship cell " + cell + " is outside of the grid");
+                }
+            }
+            return new GameGridSnapshot(gridSize, layers[0], layers[1], layers[2], layers[3], shipCells,
+                    aliveSegmentsByShip, hitsToSinkByShip, currentShip, numberOfSquaresOccupiedByShips);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated game grid snapshot", e);
+        }
+    }
+
+    static int getNumberOfWords(int gridSize) {
+        return (gridSize * gridSize + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static long[] getLongs(ByteBuffer buffer, int length) {
+        long[] values = new long[length];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + length * Long.BYTES);
+        return values;
+    }
+}
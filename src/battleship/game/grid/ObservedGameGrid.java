@@ -0,0 +1,80 @@
+package battleship.game.grid;
+
+import battleship.game.ship.ShipType;
+import battleship.game.square.Square;
+
+public class ObservedGameGrid implements GameGrid {
+    private final GameGrid delegate;
+    private final ShotListener listener;
+
+    public ObservedGameGrid(GameGrid delegate, ShotListener listener) {
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    public GameGrid getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getSquareData(Square square) {
+        return delegate.getSquareData(square);
+    }
+
+    @Override
+    public String getCellData(int cellIndex) {
+        return delegate.getCellData(cellIndex);
+    }
+
+    @Override
+    public GridModificationResult addShip(Square frontSquare, Square rearSquare, ShipType shipType) {
+        return delegate.addShip(frontSquare, rearSquare, shipType);
+    }
+
+    @Override
+    public GridModificationResult addShip(int frontCell, int rearCell, ShipType shipType) {
+        return delegate.addShip(frontCell, rearCell, shipType);
+    }
+
+    @Override
+    public GridModificationResult registerShoot(Square shotCoordinates) {
+        return emit(delegate.getCellIndex(shotCoordinates), delegate.registerShoot(shotCoordinates));
+    }
+
+    @Override
+    public GridModificationResult registerShoot(int cellIndex) {
+        return emit(cellIndex, delegate.registerShoot(cellIndex));
+    }
+
+    @Override
+    public int getGridSize() {
+        return delegate.getGridSize();
+    }
+
+    @Override
+    public int getCellIndex(Square square) {
+        return delegate.getCellIndex(square);
+    }
+
+    @Override
+    public GameGridSnapshot snapshot() {
+        return delegate.snapshot();
+    }
+
+    @Override
+    public void restore(GameGridSnapshot snapshot) {
+        delegate.restore(snapshot);
+    }
+
+    private GridModificationResult emit(int cellIndex, GridModificationResult result) {
+        if (result != GridModificationResult.OUT_OF_GAME_GRID) {
+            listener.onShot(cellIndex, result);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,179 @@
+package battleship.game.grid;
+
+import java.util.Arrays;
+
+public final class PlacementTable {
+    public static final int HORIZONTAL = 0;
+    public static final int VERTICAL = 1;
+    public static final int MAX_GRID_SIZE = 128;
+    private static final PlacementTable[][] TABLES = new PlacementTable[MAX_GRID_SIZE + 1][];
+
+    private final int gridSize;
+    private final int length;
+    private final int numberOfCells;
+    private final int[] offsets;
+    private final long[] entries;
+
+    private PlacementTable(int gridSize, int length) {
+        this.gridSize = gridSize;
+        this.length = length;
+        numberOfCells = gridSize * gridSize;
+        offsets = new int[4 * numberOfCells + 1];
+        MaskList list = new MaskList(numberOfCells);
+        for (int orientation = HORIZONTAL; orientation <= VERTICAL; orientation++) {
+            for (int anchor = 0; anchor < numberOfCells; anchor++) {
+                int placement = getPlacement(anchor, orientation);
+                offsets[2 * placement] = list.size;
+                if (fits(anchor, orientation)) {
+                    appendOccupancy(anchor, orientation, list);
+                }
+                offsets[2 * placement + 1] = list.size;
+                if (fits(anchor, orientation)) {
+                    appendHalo(anchor, orientation, list);
+                }
+            }
+        }
+        offsets[4 * numberOfCells] = list.size;
+        entries = Arrays.copyOf(list.entries, list.size);
+    }
+
+    public static boolean isSupported(int gridSize) {
+        return gridSize > 0 && gridSize <= MAX_GRID_SIZE;
+    }
+
+    public static PlacementTable get(int gridSize, int length) {
+        if (!isSupported(gridSize) || length < 1 || length > gridSize) {
+            throw new IllegalArgumentException("No placement table for a ship of length " + length + " on a " +
+                    gridSize + "x" + gridSize + " grid");
+        }
+        PlacementTable[] tables = TABLES[gridSize];
+        PlacementTable table = tables == null ? null : tables[length];
+        return table != null ? table : create(gridSize, length);
+    }
+
+    private static synchronized PlacementTable create(int gridSize, int length) {
+        if (TABLES[gridSize] == null) {
+            TABLES[gridSize] = new PlacementTable[gridSize + 1];
+        }
+        if (TABLES[gridSize][length] == null) {
+            TABLES[gridSize][length] = new PlacementTable(gridSize, length);
+        }
+        return TABLES[gridSize][length];
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getPlacement(int anchor, int orientation) {
+        return orientation * numberOfCells + anchor;
+    }
+
+    public boolean fits(int anchor, int orientation) {
+        int line = anchor / gridSize;
+        int column = anchor % gridSize;
+        return orientation == HORIZONTAL ? column + length <= gridSize : line + length <= gridSize;
+    }
+
+    public boolean intersectsOccupancy(int placement, long[] bits) {
+        for (int i = offsets[2 * placement], end = offsets[2 * placement + 1]; i < end; i += 2) {
+            if ((bits[(int) entries[i]] & entries[i + 1]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isOccupancyWithin(int placement, long[] bits) {
+        for (int i = offsets[2 * placement], end = offsets[2 * placement + 1]; i < end; i += 2) {
+            if ((bits[(int) entries[i]] & entries[i + 1]) != entries[i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int countOccupancyBits(int placement, long[] bits) {
+        int count = 0;
+        for (int i = offsets[2 * placement], end = offsets[2 * placement + 1]; i < end; i += 2) {
+            count += Long.bitCount(bits[(int) entries[i]] & entries[i + 1]);
+        }
+        return count;
+    }
+
+    public int countHaloBits(int placement, long[] bits) {
+        int count = 0;
+        for (int i = offsets[2 * placement + 1], end = offsets[2 * placement + 2]; i < end; i += 2) {
+            count += Long.bitCount(bits[(int) entries[i]] & entries[i + 1]);
+        }
+        return count;
+    }
+
+    public void setOccupancy(int placement, long[] bits) {
+        for (int i = offsets[2 * placement], end = offsets[2 * placement + 1]; i < end; i += 2) {
+            bits[(int) entries[i]] |= entries[i + 1];
+        }
+    }
+
+    public void setHalo(int placement, long[] bits) {
+        for (int i = offsets[2 * placement + 1], end = offsets[2 * placement + 2]; i < end; i += 2) {
+            bits[(int) entries[i]] |= entries[i + 1];
+        }
+    }
+
+    public void clearHalo(int placement, long[] bits) {
+        for (int i = offsets[2 * placement + 1], end = offsets[2 * placement + 2]; i < end; i += 2) {
+            bits[(int) entries[i]] &= ~entries[i + 1];
+        }
+    }
+
+    private void appendOccupancy(int anchor, int orientation, MaskList list) {
+        int step = orientation == HORIZONTAL ? 1 : gridSize;
+        for (int i = 0, cell = anchor; i < length; i++, cell += step) {
+            list.scratch[cell >>> 6] |= 1L << cell;
+        }
+        list.drain(anchor >>> 6, (anchor + (length - 1) * step) >>> 6);
+    }
+
+    private void appendHalo(int anchor, int orientation, MaskList list) {
+        int rearCell = anchor + (length - 1) * (orientation == HORIZONTAL ? 1 : gridSize);
+        int fromLine = Math.max(anchor / gridSize - 1, 0);
+        int toLine = Math.min(rearCell / gridSize + 1, gridSize - 1);
+        int fromColumn = Math.max(anchor % gridSize - 1, 0);
+        int toColumn = Math.min(rearCell % gridSize + 1, gridSize - 1);
+        for (int line = fromLine; line <= toLine; line++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cell = line * gridSize + column;
+                list.scratch[cell >>> 6] |= 1L << cell;
+            }
+        }
+        list.drain((fromLine * gridSize + fromColumn) >>> 6, (toLine * gridSize + toColumn) >>> 6);
+    }
+
+    private static class MaskList {
+        private final long[] scratch;
+        private long[] entries = new long[32];
+        private int size;
+
+        MaskList(int numberOfCells) {
+            scratch = new long[(numberOfCells + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        void drain(int fromWord, int toWord) {
+            for (int word = fromWord; word <= toWord; word++) {
+                if (scratch[word] != 0) {
+                    if (size == entries.length) {
+                        entries = Arrays.copyOf(entries, size * 2);
+                    }
+                    entries[size++] = word;
+                    entries[size++] = scratch[word];
+                    scratch[word] = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package battleship.game.grid;
+
+@FunctionalInterface
+public interface ShotListener {
+    void onShot(int cellIndex, GridModificationResult result);
+}
@@ -0,0 +1,308 @@
+package battleship.game.grid;
+
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+import battleship.game.square.Square;
+import battleship.util.Constants;
+
+import static battleship.util.Constants.GameGridConstants.*;
+
+import java.util.Arrays;
+
+public class SparseGameGrid implements GameGrid {
+    private static final int SHIP_FLAG = 1;
+    private static final int HIT_FLAG = 1 << 1;
+    private static final int MISS_FLAG = 1 << 2;
+    private static final int RESERVED_FLAG = 1 << 3;
+    private static final int STATE_BITS = 4;
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+    private final int gridSize;
+    private CellStateMap cellStates;
+    private long[] aliveSegmentsByShip;
+    private int[] hitsToSinkByShip;
+    private int numberOfShips = 0;
+    private int currentShip = -1;
+    private int numberOfSquaresOccupiedByShips = 0;
+
+    public SparseGameGrid(int gridSize) {
+        this(gridSize, ShipType.values().length, 0);
+    }
+
+    public SparseGameGrid(GameRules rules) {
+        this(rules.getGridSize(), rules.getNumberOfShips(), rules.getMaximumNumberOfOccupiedCells());
+    }
+
+    private SparseGameGrid(int gridSize, int expectedNumberOfShips, int expectedNumberOfCells) {
+        this.gridSize = gridSize;
+        aliveSegmentsByShip = new long[Math.max(expectedNumberOfShips, 1)];
+        hitsToSinkByShip = new int[aliveSegmentsByShip.length];
+        cellStates = new CellStateMap(expectedNumberOfCells);
+    }
+
+    @Override
+    public String getSquareData(Square square) {
+        if (square.getLine() < 'A' || square.getLine() >= 'A' + gridSize) {
+            throw new IllegalArgumentException(
+                    "Wrong line identifier. Can be any character between 'A' and " + (char) ('A' + gridSize));
+        } else if (square.getColumn() < 1 || square.getColumn() > gridSize) {
+            throw new IllegalArgumentException(
+                    "Wrong column identifier [" + square.getColumn() + "]. Can be any integer between 1 and " +
+                            gridSize + " (inclusive)");
+        }
+        return getCellData(getCellIndex(square));
+    }
+
+    @Override
+    public String getCellData(int cellIndex) {
+        int state = cellStates.get(cellIndex);
+        if ((state & HIT_FLAG) != 0) {
+            return HIT;
+        } else if ((state & MISS_FLAG) != 0) {
+            return MISS_SHOT;
+        } else if ((state & SHIP_FLAG) != 0) {
+            return SHIP;
+        } else if ((state & RESERVED_FLAG) != 0) {
+            return RESERVED;
+        } else {
+            return FOG;
+        }
+    }
+
+    @Override
+    public GridModificationResult addShip(Square frontSquare, Square rearSquare, ShipType shipType) {
+        return addShip(getCellIndex(frontSquare), getCellIndex(rearSquare), shipType);
+    }
+
+    @Override
+    public GridModificationResult addShip(int frontCell, int rearCell, ShipType shipType) {
+        if (isCellNotOnTheGrid(frontCell) || isCellNotOnTheGrid(rearCell)) {
+            return GridModificationResult.OUT_OF_GAME_GRID;
+        }
+        int startLine = Math.min(frontCell, rearCell) / gridSize;
+        int endLine = Math.max(frontCell, rearCell) / gridSize;
+        int startColumn = Math.min(frontCell % gridSize, rearCell % gridSize);
+        int endColumn = Math.max(frontCell % gridSize, rearCell % gridSize);
+        boolean isStraightLine = frontCell != rearCell && (startLine == endLine || startColumn == endColumn);
+        if (isStraightLine && isShipToCloseToOther(startLine, endLine, startColumn, endColumn)) {
+            return GridModificationResult.SHIPS_TO_CLOSE;
+        }
+        registerShipOnGrid(shipType);
+        if (isStraightLine) {
+            setShipSegments(startLine, endLine, startColumn, endColumn);
+            setReservedCells(startLine, endLine, startColumn, endColumn);
+        }
+        return GridModificationResult.SHIP_PLACED;
+    }
+
+    private void registerShipOnGrid(ShipType shipType) {
+        if (numberOfShips == aliveSegmentsByShip.length) {
+            aliveSegmentsByShip = Arrays.copyOf(aliveSegmentsByShip, numberOfShips * 2);
+            hitsToSinkByShip = Arrays.copyOf(hitsToSinkByShip, numberOfShips * 2);
+        }
+        currentShip = numberOfShips++;
+        hitsToSinkByShip[currentShip] = shipType.getSize();
+        numberOfSquaresOccupiedByShips += shipType.getSize();
+    }
+
+    private boolean isShipToCloseToOther(int startLine, int endLine, int startColumn, int endColumn) {
+        for (int line = startLine; line <= endLine; line++) {
+            for (int column = startColumn; column <= endColumn; column++) {
+                if ((cellStates.get(line * gridSize + column) & (SHIP_FLAG | RESERVED_FLAG)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void setShipSegments(int startLine, int endLine, int startColumn, int endColumn) {
+        int segment = 0;
+        for (int line = startLine; line <= endLine; line++) {
+            for (int column = startColumn; column <= endColumn; column++) {
+                int shipSegment = (currentShip + 1) << SEGMENT_BITS | segment;
+                cellStates.set(line * gridSize + column, shipSegment << STATE_BITS | SHIP_FLAG);
+                aliveSegmentsByShip[currentShip] |= 1L << segment;
+                segment++;
+            }
+        }
+    }
+
+    private void setReservedCells(int startLine, int endLine, int startColumn, int endColumn) {
+        int fromLine = Math.max(startLine - 1, 0);
+        int toLine = Math.min(endLine + 1, gridSize - 1);
+        int fromColumn = Math.max(startColumn - 1, 0);
+        int toColumn = Math.min(endColumn + 1, gridSize - 1);
+        for (int line = fromLine; line <= toLine; line++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                cellStates.set(line * gridSize + column, RESERVED_FLAG);
+            }
+        }
+    }
+
+    @Override
+    public GridModificationResult registerShoot(Square shotCoordinates) {
+        return registerShoot(getCellIndex(shotCoordinates));
+    }
+
+    @Override
+    public GridModificationResult registerShoot(int cellIndex) {
+        if (isCellNotOnTheGrid(cellIndex)) {
+            return GridModificationResult.OUT_OF_GAME_GRID;
+        }
+        int state = cellStates.get(cellIndex);
+        if ((state & SHIP_FLAG) == 0) {
+            cellStates.set(cellIndex, MISS_FLAG);
+            cellStates.clear(cellIndex, RESERVED_FLAG);
+            return GridModificationResult.MISS_REGISTERED;
+        }
+        int shipSegment = state >>> STATE_BITS;
+        currentShip = (shipSegment >>> SEGMENT_BITS) - 1;
+        if ((state & HIT_FLAG) == 0) {
+            cellStates.set(cellIndex, HIT_FLAG);
+            aliveSegmentsByShip[currentShip] &= ~(1L << (shipSegment & SEGMENT_MASK));
+            hitsToSinkByShip[currentShip]--;
+            numberOfSquaresOccupiedByShips--;
+        }
+        if (hitsToSinkByShip[currentShip] > 0) {
+            return GridModificationResult.HIT_REGISTERED;
+        } else if (numberOfSquaresOccupiedByShips == 0) {
+            return GridModificationResult.WINNER;
+        } else {
+            return GridModificationResult.SHIP_SANK;
+        }
+    }
+
+    @Override
+    public GameGridSnapshot snapshot() {
+        int numberOfWords = GameGridSnapshot.getNumberOfWords(gridSize);
+        long[] shipLayer = new long[numberOfWords];
+        long[] hitLayer = new long[numberOfWords];
+        long[] missLayer = new long[numberOfWords];
+        long[] reservedLayer = new long[numberOfWords];
+        int[] shipCells = new int[2 * numberOfShips];
+        Arrays.fill(shipCells, -1);
+        for (int slot = 0; slot < cellStates.capacity(); slot++) {
+            int cellIndex = cellStates.getCellAt(slot);
+            if (cellIndex < 0) {
+                continue;
+            }
+            int state = cellStates.getStateAt(slot);
+            long bit = 1L << cellIndex;
+            if ((state & SHIP_FLAG) != 0) {
+                shipLayer[cellIndex >>> 6] |= bit;
+                int shipSegment = state >>> STATE_BITS;
+                int ship = (shipSegment >>> SEGMENT_BITS) - 1;
+                if ((shipSegment & SEGMENT_MASK) == 0) {
+                    shipCells[2 * ship] = cellIndex;
+                }
+                shipCells[2 * ship + 1] = Math.max(shipCells[2 * ship + 1], cellIndex);
+            }
+            if ((state & HIT_FLAG) != 0) {
+                hitLayer[cellIndex >>> 6] |= bit;
+            }
+            if ((state & MISS_FLAG) != 0) {
+                missLayer[cellIndex >>> 6] |= bit;
+            }
+            if ((state & RESERVED_FLAG) != 0) {
+                reservedLayer[cellIndex >>> 6] |= bit;
+            }
+        }
+        return new GameGridSnapshot(gridSize, shipLayer, hitLayer, missLayer, reservedLayer, shipCells,
+                Arrays.copyOf(aliveSegmentsByShip, numberOfShips), Arrays.copyOf(hitsToSinkByShip, numberOfShips),
+                currentShip, numberOfSquaresOccupiedByShips);
+    }
+
+    @Override
+    public void restore(GameGridSnapshot snapshot) {
+        if (snapshot.getGridSize() != gridSize) {
+            throw new IllegalArgumentException("Snapshot of a " + snapshot.getGridSize() + "x" +
+                    snapshot.getGridSize() + " grid cannot be restored into a " + gridSize + "x" + gridSize + " grid");
+        }
+        long[] shipLayer = snapshot.getShipLayer();
+        long[] hitLayer = snapshot.getHitLayer();
+        long[] missLayer = snapshot.getMissLayer();
+        long[] reservedLayer = snapshot.getReservedLayer();
+        long[] storedCells = new long[shipLayer.length];
+        int numberOfStoredCells = 0;
+        for (int word = 0; word < shipLayer.length; word++) {
+            storedCells[word] = shipLayer[word] | hitLayer[word] | missLayer[word] | reservedLayer[word];
+            numberOfStoredCells += Long.bitCount(storedCells[word]);
+        }
+        cellStates = new CellStateMap(numberOfStoredCells);
+        for (int word = 0; word < shipLayer.length; word++) {
+            long bits = storedCells[word];
+            while (bits != 0) {
+                long bit = bits & -bits;
+                int state = ((shipLayer[word] & bit) != 0 ? SHIP_FLAG : 0)
+                        | ((hitLayer[word] & bit) != 0 ? HIT_FLAG : 0)
+                        | ((missLayer[word] & bit) != 0 ? MISS_FLAG : 0)
+                        | ((reservedLayer[word] & bit) != 0 ? RESERVED_FLAG : 0);
+                cellStates.set(word * Long.SIZE + Long.numberOfTrailingZeros(bit), state);
+                bits ^= bit;
+            }
+        }
+        numberOfShips = snapshot.getNumberOfShips();
+        if (numberOfShips > aliveSegmentsByShip.length) {
+            aliveSegmentsByShip = new long[numberOfShips];
+            hitsToSinkByShip = new int[numberOfShips];
+        }
+        System.arraycopy(snapshot.getAliveSegmentsByShip(), 0, aliveSegmentsByShip, 0, numberOfShips);
+        System.arraycopy(snapshot.getHitsToSinkByShip(), 0, hitsToSinkByShip, 0, numberOfShips);
+        int[] shipCells = snapshot.getShipCells();
+        for (int ship = 0; ship < numberOfShips; ship++) {
+            int firstCell = shipCells[2 * ship];
+            int lastCell = shipCells[2 * ship + 1];
+            if (firstCell < 0) {
+                continue;
+            }
+            int step = firstCell / gridSize == lastCell / gridSize ? 1 : gridSize;
+            for (int cell = firstCell, segment = 0; cell <= lastCell; cell += step, segment++) {
+                cellStates.set(cell, ((ship + 1) << SEGMENT_BITS | segment) << STATE_BITS);
+            }
+        }
+        currentShip = snapshot.getCurrentShip();
+        numberOfSquaresOccupiedByShips = snapshot.getNumberOfSquaresOccupiedByShips();
+    }
+
+    public int getNumberOfStoredCells() {
+        return cellStates.size();
+    }
+
+    private boolean isSquareNotOnTheGrid(Square square) {
+        return square.getLineAsIndex() < 0
+                || square.getLineAsIndex() >= gridSize
+                || square.getColumnAsIndex() < 0
+                || square.getColumnAsIndex() >= gridSize;
+    }
+
+    private boolean isCellNotOnTheGrid(int cellIndex) {
+        return cellIndex < 0 || cellIndex >= gridSize * gridSize;
+    }
+
+    @Override
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    @Override
+    public int getCellIndex(Square square) {
+        if (isSquareNotOnTheGrid(square)) {
+            return -1;
+        }
+        return square.getLineAsIndex() * gridSize + square.getColumnAsIndex();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < gridSize; i++) {
+            stringBuilder.append('[');
+            for (int j = 0; j < gridSize; j++) {
+                stringBuilder.append(j == 0 ? "" : ", ").append(getCellData(i * gridSize + j));
+            }
+            stringBuilder.append(']').append(Constants.GameGridPrinterConstants.NEW_LINE);
+        }
+        return stringBuilder.toString();
+    }
+}
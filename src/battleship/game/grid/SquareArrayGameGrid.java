@@ -0,0 +1,382 @@
+package battleship.game.grid;
+
+import battleship.game.square.Square;
+import battleship.game.ship.Ship;
+import battleship.game.ship.ShipType;
+import battleship.util.Constants;
+import battleship.game.square.SquareType;
+
+import static battleship.util.Constants.GameGridConstants.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SquareArrayGameGrid implements GameGrid {
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+    private final Square[][] grid = new Square[GRID_SIZE][GRID_SIZE];
+    private final List<Ship> listOfShips = new ArrayList<>();
+    private final int[] shipSegmentByCell = new int[GRID_SIZE * GRID_SIZE];
+    private Ship currentShip;
+    private int numberOfSquaresOccupiedByShips = 0;
+
+    public SquareArrayGameGrid() {
+        populateInitialField();
+    }
+
+    private void populateInitialField() {
+        for (int i = 0; i < GRID_SIZE; i++) {
+            for (int j = 0; j < GRID_SIZE; j++) {
+                grid[i][j] = new Square(i, j, FOG);
+            }
+        }
+    }
+
+    @Override
+    public String getSquareData(Square square) {
+        if (square.getLine() < 'A' || square.getLine() > 'A' + GRID_SIZE) {
+            throw new IllegalArgumentException(
+                    "Wrong line identifier. Can be any character between 'A' and " + (char) ('A' + GRID_SIZE));
+        } else if (square.getColumn() < 1 || square.getColumn() > GRID_SIZE) {
+            throw new IllegalArgumentException(
+                    "Wrong column identifier [" + square.getColumn() + "]. Can be any integer between 1 and " +
+                            GRID_SIZE + " (inclusive)");
+        }
+        return getValueFromGrid(square.getLineAsIndex(), square.getColumnAsIndex());
+    }
+
+    @Override
+    public String getCellData(int cellIndex) {
+        return getValueFromGrid(cellIndex / GRID_SIZE, cellIndex % GRID_SIZE);
+    }
+
+    private String getValueFromGrid(int i, int j) {
+        return grid[i][j].getData();
+    }
+
+    private String getValueFromGrid(Square square) {
+        return this.getValueFromGrid(square.getLineAsIndex(), square.getColumnAsIndex());
+    }
+
+    private void setValueInGrid(int i, int j, String value) {
+        grid[i][j].setData(value);
+    }
+
+    private void setValueInGrid(Square square, String value) {
+        this.setValueInGrid(square.getLineAsIndex(), square.getColumnAsIndex(), value);
+    }
+
+    private Square getSquareFromGrid(int i, int j) {
+        return grid[i][j];
+    }
+
+    @Override
+    public GridModificationResult addShip(Square frontSquare, Square rearSquare, ShipType shipType) {
+        if (isSquareNotOnTheGrid(frontSquare) || isSquareNotOnTheGrid(rearSquare)) {
+            return GridModificationResult.OUT_OF_GAME_GRID;
+        } else if (isShipToCloseToOther(frontSquare, rearSquare)) {
+            return GridModificationResult.SHIPS_TO_CLOSE;
+        } else {
+            registerShipOnGrid(shipType);
+            placeShip(frontSquare, rearSquare);
+            return GridModificationResult.SHIP_PLACED;
+        }
+    }
+
+    @Override
+    public GridModificationResult addShip(int frontCell, int rearCell, ShipType shipType) {
+        if (isCellNotOnTheGrid(frontCell) || isCellNotOnTheGrid(rearCell)) {
+            return GridModificationResult.OUT_OF_GAME_GRID;
+        }
+        return addShip(getSquareFromGrid(frontCell / GRID_SIZE, frontCell % GRID_SIZE),
+                getSquareFromGrid(rearCell / GRID_SIZE, rearCell % GRID_SIZE), shipType);
+    }
+
+    private void registerShipOnGrid(ShipType shipType) {
+        listOfShips.add(new Ship(shipType));
+        currentShip = listOfShips.get(listOfShips.size() - 1);
+        numberOfSquaresOccupiedByShips += shipType.getSize();
+    }
+
+    private void placeShip(Square front, Square rear) {
+        List<Square> squaresToAlter = new ArrayList<>();
+        getShipSquares(squaresToAlter, front, rear);
+        setShipSquares(squaresToAlter);
+    }
+
+    private void getShipSquares(List<Square> listOfSquares, Square front, Square rear) {
+        switch (front.getDirectionTo(rear)) {
+            case LEFT -> getShipSquaresSameLine(listOfSquares, rear.getColumnAsIndex(), front.getColumnAsIndex(),
+                    front.getLineAsIndex());
+            case RIGHT -> getShipSquaresSameLine(listOfSquares, front.getColumnAsIndex(), rear.getColumnAsIndex(),
+                    front.getLineAsIndex());
+            case UP -> getShipSquaresSameColumn(listOfSquares, rear.getLineAsIndex(), front.getLineAsIndex(),
+                    front.getColumnAsIndex());
+            case DOWN -> getShipSquaresSameColumn(listOfSquares, front.getLineAsIndex(), rear.getLineAsIndex(),
+                    front.getColumnAsIndex());
+        }
+    }
+
+    private void getShipSquaresSameLine(List<Square> listOfSquares, int startColumn, int endColumn, int line) {
+        for (int i = startColumn; i <= endColumn; i++) {
+            listOfSquares.add(getSquareFromGrid(line, i));
+        }
+    }
+
+    private void getShipSquaresSameColumn(List<Square> listOfSquares, int startLine, int endLine, int column) {
+        for (int i = startLine; i <= endLine; i++) {
+            listOfSquares.add(getSquareFromGrid(i, column));
+        }
+    }
+
+    private void setShipSquares(List<Square> listOfSquares) {
+        for (Square square : listOfSquares) {
+            setSquare(square, SquareType.SHIP);
+            setReservedCells(square);
+        }
+    }
+
+    private void setReservedCells(Square square) {
+        int i = square.getLineAsIndex();
+        int j = square.getColumnAsIndex();
+        if (i - 1 >= 0 && j - 1 >= 0) {
+            setSquare(getSquareFromGrid(i - 1, j - 1), SquareType.RESERVED);
+            setSquare(getSquareFromGrid(i, j - 1), SquareType.RESERVED);
+            setSquare(getSquareFromGrid(i - 1, j), SquareType.RESERVED);
+        } else if (j - 1 >= 0) {
+            setSquare(getSquareFromGrid(i, j -1), SquareType.RESERVED);
+        } else if (i - 1 >= 0) {
+            setSquare(getSquareFromGrid(i - 1, j), SquareType.RESERVED);
+        }
+
+        if (i + 1 < GRID_SIZE && j + 1 < GRID_SIZE) {
+            setSquare(getSquareFromGrid(i + 1, j + 1), SquareType.RESERVED);
+            setSquare(getSquareFromGrid(i + 1, j), SquareType.RESERVED);
+            setSquare(getSquareFromGrid(i, j + 1), SquareType.RESERVED);
+        } else if (i + 1 < GRID_SIZE) {
+            setSquare(getSquareFromGrid(i + 1, j), SquareType.RESERVED);
+        } else if (j + 1 < GRID_SIZE) {
+            setSquare(getSquareFromGrid(i, j + 1), SquareType.RESERVED);
+        }
+
+        if (i + 1  < GRID_SIZE && j - 1 >= 0) {
+            setSquare(getSquareFromGrid(i + 1, j - 1), SquareType.RESERVED);
+        }
+        if (i - 1 >= 0 && j + 1 < GRID_SIZE) {
+            setSquare(getSquareFromGrid(i - 1, j + 1), SquareType.RESERVED);
+        }
+    }
+
+    private void setSquare(Square square, SquareType squareType) {
+        switch (squareType) {
+            case SHIP -> {
+                shipSegmentByCell[getCellIndex(square)] =
+                        listOfShips.size() << SEGMENT_BITS | currentShip.addSquare(square);
+                setValueInGrid(square, SHIP);
+            }
+            case RESERVED -> {
+                if (!getValueFromGrid(square).equals(SHIP)) {
+                    setValueInGrid(square, RESERVED);
+                }
+            }
+            case SHOT -> {
+                String squareValue = getValueFromGrid(square);
+                switch (squareValue) {
+                    case SHIP -> {
+                        setValueInGrid(square, HIT);
+                        currentShip = getHittedShip(square);
+                        currentShip.destroySegment(shipSegmentByCell[getCellIndex(square)] & SEGMENT_MASK);
+                        numberOfSquaresOccupiedByShips--;
+                    }
+                    case HIT -> currentShip = getHittedShip(square);
+                    case FOG, RESERVED -> setValueInGrid(square, MISS_SHOT);
+                }
+            }
+        }
+    }
+
+    @Override
+    public GridModificationResult registerShoot(Square shotCoordinates) {
+        if (isSquareNotOnTheGrid(shotCoordinates)) {
+            return GridModificationResult.OUT_OF_GAME_GRID;
+        } else {
+            setSquare(shotCoordinates, SquareType.SHOT);
+            if (getSquareData(shotCoordinates).equals(HIT)) {
+                if (currentShip.isAlive()) {
+                    return GridModificationResult.HIT_REGISTERED;
+                } else {
+                    if (numberOfSquaresOccupiedByShips == 0) {
+                        return GridModificationResult.WINNER;
+                    } else {
+                        return GridModificationResult.SHIP_SANK;
+                    }
+                }
+            }
+            return GridModificationResult.MISS_REGISTERED;
+        }
+    }
+
+    @Override
+    public GridModificationResult registerShoot(int cellIndex) {
+        if (isCellNotOnTheGrid(cellIndex)) {
+            return GridModificationResult.OUT_OF_GAME_GRID;
+        }
+        return registerShoot(getSquareFromGrid(cellIndex / GRID_SIZE, cellIndex % GRID_SIZE));
+    }
+
+    @Override
+    public GameGridSnapshot snapshot() {
+        int numberOfWords = (GRID_SIZE * GRID_SIZE + Long.SIZE - 1) / Long.SIZE;
+        long[] shipLayer = new long[numberOfWords];
+        long[] hitLayer = new long[numberOfWords];
+        long[] missLayer = new long[numberOfWords];
+        long[] reservedLayer = new long[numberOfWords];
+        int[] shipCells = new int[2 * listOfShips.size()];
+        long[] aliveSegmentsByShip = new long[listOfShips.size()];
+        int[] hitsToSinkByShip = new int[listOfShips.size()];
+        Arrays.fill(shipCells, -1);
+        for (int cellIndex = 0; cellIndex < GRID_SIZE * GRID_SIZE; cellIndex++) {
+            long bit = 1L << cellIndex;
+            String value = getCellData(cellIndex);
+            if (value.equals(HIT)) {
+                hitLayer[cellIndex >>> 6] |= bit;
+            } else if (value.equals(MISS_SHOT)) {
+                missLayer[cellIndex >>> 6] |= bit;
+            } else if (value.equals(RESERVED) || value.equals(SHIP)) {
+                reservedLayer[cellIndex >>> 6] |= bit;
+            }
+            int shipSegment = shipSegmentByCell[cellIndex];
+            if (shipSegment != 0) {
+                shipLayer[cellIndex >>> 6] |= bit;
+                int ship = (shipSegment >>> SEGMENT_BITS) - 1;
+                if ((shipSegment & SEGMENT_MASK) == 0) {
+                    shipCells[2 * ship] = cellIndex;
+                }
+                shipCells[2 * ship + 1] = Math.max(shipCells[2 * ship + 1], cellIndex);
+                if (!value.equals(HIT)) {
+                    aliveSegmentsByShip[ship] |= 1L << (shipSegment & SEGMENT_MASK);
+                }
+            }
+        }
+        for (int ship = 0; ship < listOfShips.size(); ship++) {
+            hitsToSinkByShip[ship] = listOfShips.get(ship).getNumberOfAliveSegments();
+        }
+        return new GameGridSnapshot(GRID_SIZE, shipLayer, hitLayer, missLayer, reservedLayer, shipCells,
+                aliveSegmentsByShip, hitsToSinkByShip, getShipIndex(currentShip), numberOfSquaresOccupiedByShips);
+    }
+
+    @Override
+    public void restore(GameGridSnapshot snapshot) {
+        if (snapshot.getGridSize() != GRID_SIZE) {
+            throw new IllegalArgumentException("Snapshot of a " + snapshot.getGridSize() + "x" +
+                    snapshot.getGridSize() + " grid cannot be restored into a " + GRID_SIZE + "x" + GRID_SIZE +
+                    " grid");
+        }
+        for (int cellIndex = 0; cellIndex < GRID_SIZE * GRID_SIZE; cellIndex++) {
+            setValueInGrid(cellIndex / GRID_SIZE, cellIndex % GRID_SIZE, getSnapshotValue(snapshot, cellIndex));
+        }
+        listOfShips.clear();
+        Arrays.fill(shipSegmentByCell, 0);
+        int[] shipCells = snapshot.getShipCells();
+        for (int ship = 0; ship < snapshot.getNumberOfShips(); ship++) {
+            int firstCell = shipCells[2 * ship];
+            int lastCell = shipCells[2 * ship + 1];
+            int step = firstCell / GRID_SIZE == lastCell / GRID_SIZE ? 1 : GRID_SIZE;
+            int length = firstCell < 0 ? 0 : (lastCell - firstCell) / step + 1;
+            long aliveSegments = snapshot.getAliveSegmentsByShip()[ship];
+            int hitsToSink = snapshot.getHitsToSinkByShip()[ship] + length - Long.bitCount(aliveSegments);
+            Ship restoredShip = new Ship(getShipType(length), hitsToSink);
+            listOfShips.add(restoredShip);
+            for (int cell = firstCell, segment = 0; segment < length; cell += step, segment++) {
+                shipSegmentByCell[cell] = (ship + 1) << SEGMENT_BITS
+                        | restoredShip.addSquare(getSquareFromGrid(cell / GRID_SIZE, cell % GRID_SIZE));
+                if ((aliveSegments & 1L << segment) == 0) {
+                    restoredShip.destroySegment(segment);
+                }
+            }
+        }
+        currentShip = snapshot.getCurrentShip() < 0 ? null : listOfShips.get(snapshot.getCurrentShip());
+        numberOfSquaresOccupiedByShips = snapshot.getNumberOfSquaresOccupiedByShips();
+    }
+
+    private static String getSnapshotValue(GameGridSnapshot snapshot, int cellIndex) {
+        if (isSet(snapshot.getHitLayer(), cellIndex)) {
+            return HIT;
+        } else if (isSet(snapshot.getMissLayer(), cellIndex)) {
+            return MISS_SHOT;
+        } else if (isSet(snapshot.getShipLayer(), cellIndex)) {
+            return SHIP;
+        } else if (isSet(snapshot.getReservedLayer(), cellIndex)) {
+            return RESERVED;
+        } else {
+            return FOG;
+        }
+    }
+
+    private static boolean isSet(long[] layer, int cellIndex) {
+        return (layer[cellIndex >>> 6] & 1L << cellIndex) != 0;
+    }
+
+    private static ShipType getShipType(int length) {
+        for (ShipType shipType : ShipType.values()) {
+            if (shipType.getSize() == length) {
+                return shipType;
+            }
+        }
+        return ShipType.values()[0];
+    }
+
+    private int getShipIndex(Ship ship) {
+        for (int i = 0; i < listOfShips.size(); i++) {
+            if (listOfShips.get(i) == ship) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Ship getHittedShip(Square square) {
+        return listOfShips.get((shipSegmentByCell[getCellIndex(square)] >>> SEGMENT_BITS) - 1);
+    }
+
+    @Override
+    public int getGridSize() {
+        return GRID_SIZE;
+    }
+
+    private boolean isSquareNotOnTheGrid(Square square) {
+        return square.getLineAsIndex() < 0
+                || square.getLineAsIndex() >= GRID_SIZE
+                || square.getColumnAsIndex() < 0
+                || square.getColumnAsIndex() >= GRID_SIZE;
+    }
+
+    private boolean isCellNotOnTheGrid(int cellIndex) {
+        return cellIndex < 0 || cellIndex >= GRID_SIZE * GRID_SIZE;
+    }
+
+    private boolean isShipToCloseToOther(Square frontSquare, Square rearSquare) {
+        List<Square> listOfShipsSquares = new ArrayList<>();
+        getShipSquares(listOfShipsSquares, frontSquare, rearSquare);
+        for (Square square : listOfShipsSquares) {
+            if (isSquareReserved(square)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSquareReserved(Square square) {
+        return getValueFromGrid(square).equals(RESERVED) || getValueFromGrid(square).equals(SHIP);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < GRID_SIZE; i++) {
+            stringBuilder.append(Arrays.toString(grid[i])).append(Constants.GameGridPrinterConstants.NEW_LINE);
+        }
+        return stringBuilder.toString();
+    }
+}
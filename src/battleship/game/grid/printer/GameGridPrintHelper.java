@@ -1,49 +1,49 @@
 package battleship.game.grid.printer;
 
 import battleship.game.grid.GameGrid;
-import battleship.game.square.Square;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
 
 import static battleship.util.Constants.GameGridPrinterConstants.*;
-import static battleship.util.Constants.GameGridConstants.*;
 
 public class GameGridPrintHelper {
+    private static final ThreadLocal<GameGridRenderer> RENDERER = ThreadLocal.withInitial(GameGridRenderer::new);
 
     public static void printGameGridView(GameGrid gameGrid, GameGridViewPerspective viewType) {
-        String view = "";
-        switch (viewType) {
-            case ALLY_PERSPECTIVE -> view = generateGlobalFieldView((gameGrid)).replaceAll(ALLY_FILTER_REGEX, FOG);
-            case ENEMY_PERSPECTIVE -> view = generateGlobalFieldView((gameGrid)).replaceAll(ENEMY_FILTER_REGEX, FOG);
-            case GOD_PERSPECTIVE -> view = generateGlobalFieldView((gameGrid));
-        }
-        System.out.println(view);
+        printGameGridView(System.out, gameGrid, viewType);
+    }
+
+    public static void printGameGridView(PrintStream out, GameGrid gameGrid, GameGridViewPerspective viewType) {
+        print(out, RENDERER.get().reset()
+                .appendView(gameGrid, viewType)
+                .appendNewLine());
+    }
+
+    public static String generateGameGridView(GameGrid gameGrid, GameGridViewPerspective viewType) {
+        return RENDERER.get().reset().appendView(gameGrid, viewType).toString();
     }
 
     public static void printPVPGameGridView(GameGrid enemyGameGrid, GameGrid playerGameGrid) {
-        printGameGridView(enemyGameGrid, GameGridViewPerspective.ENEMY_PERSPECTIVE);
-        System.out.println(GAME_GRIDS_SEPARATOR);
-        printGameGridView(playerGameGrid, GameGridViewPerspective.ALLY_PERSPECTIVE);
+        printPVPGameGridView(System.out, enemyGameGrid, playerGameGrid);
     }
 
-    private static String generateGlobalFieldView(GameGrid field) {
-        StringBuilder stringBuilder = new StringBuilder(generateColumnNumbersString());
-        char lineIdentifier = LINE_IDENTIFIERS_STARTER;
-        for (int i = 0; i < GRID_SIZE; i++) {
-            stringBuilder.append(FIRST_SQUARE.formatted(lineIdentifier));
-            for (int j = 0; j < GRID_SIZE; j++) {
-                stringBuilder.append(SQUARE.formatted(field.getSquareData(
-                        new Square(lineIdentifier, j + 1))));
-            }
-            stringBuilder.append(NEW_LINE);
-            lineIdentifier ++;
-        }
-        return stringBuilder.substring(0, stringBuilder.length() - 2);
+    public static void printPVPGameGridView(PrintStream out, GameGrid enemyGameGrid, GameGrid playerGameGrid) {
+        print(out, RENDERER.get().reset()
+                .appendView(enemyGameGrid, GameGridViewPerspective.ENEMY_PERSPECTIVE)
+                .appendNewLine()
+                .appendLine(GAME_GRIDS_SEPARATOR)
+                .appendView(playerGameGrid, GameGridViewPerspective.ALLY_PERSPECTIVE)
+                .appendNewLine());
     }
 
-    private static String generateColumnNumbersString() {
-        StringBuilder stringBuilder = new StringBuilder(FIRST_SQUARE.formatted(SEPARATOR));
-        for (int i = 1; i <= GRID_SIZE; i++) {
-            stringBuilder.append(SQUARE.formatted(i));
+    private static void print(PrintStream out, GameGridRenderer renderer) {
+        try {
+            renderer.writeTo(out);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return stringBuilder.append(NEW_LINE).toString();
     }
 }
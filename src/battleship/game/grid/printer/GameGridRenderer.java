@@ -0,0 +1,143 @@
+package battleship.game.grid.printer;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.metrics.GameMetrics;
+import battleship.game.square.CoordinateCodec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static battleship.util.Constants.GameGridConstants.*;
+import static battleship.util.Constants.GameGridPrinterConstants.*;
+
+public class GameGridRenderer {
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final byte[] NEW_LINE_BYTES = NEW_LINE.getBytes(StandardCharsets.US_ASCII);
+    private static final byte SPACE = ' ';
+    private static final byte FOG_SYMBOL = (byte) FOG.charAt(0);
+    private static final byte SHIP_SYMBOL = (byte) SHIP.charAt(0);
+    private static final byte RESERVED_SYMBOL = (byte) RESERVED.charAt(0);
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int length = 0;
+
+    public GameGridRenderer reset() {
+        length = 0;
+        return this;
+    }
+
+    public GameGridRenderer appendView(GameGrid grid, GameGridViewPerspective perspective) {
+        long startTime = GameMetrics.startTimer();
+        int gridSize = grid.getGridSize();
+        int lineLabelWidth = CoordinateCodec.getLineLabelLength(gridSize - 1);
+        ensureCapacity((gridSize + 1) * (2 * gridSize + lineLabelWidth + 1 + NEW_LINE_BYTES.length) + 11 * gridSize);
+        appendColumnNumbers(gridSize, lineLabelWidth);
+        for (int i = 0; i < gridSize; i++) {
+            appendLineLabel(i, lineLabelWidth);
+            for (int j = 0; j < gridSize; j++) {
+                buffer[length++] = SPACE;
+                buffer[length++] = applyPerspective((byte) grid.getCellData(i * gridSize + j).charAt(0), perspective);
+            }
+            appendNewLineBytes();
+        }
+        length -= 2;
+        GameMetrics.stopTimer(GameMetrics.Timer.RENDERING, startTime);
+        return this;
+    }
+
+    public GameGridRenderer appendLine(String line) {
+        ensureCapacity(line.length() + NEW_LINE_BYTES.length);
+        for (int i = 0; i < line.length(); i++) {
+            buffer[length++] = (byte) line.charAt(i);
+        }
+        appendNewLineBytes();
+        return this;
+    }
+
+    public GameGridRenderer appendNewLine() {
+        ensureCapacity(NEW_LINE_BYTES.length);
+        appendNewLineBytes();
+        return this;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, length);
+    }
+
+    public void writeTo(ByteBuffer byteBuffer) {
+        byteBuffer.put(buffer, 0, length);
+    }
+
+    public int writeTo(ByteBuffer byteBuffer, int fromIndex) {
+        int numberOfBytes = Math.min(byteBuffer.remaining(), length - fromIndex);
+        byteBuffer.put(buffer, fromIndex, numberOfBytes);
+        return numberOfBytes;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private void appendColumnNumbers(int gridSize, int lineLabelWidth) {
+        for (int i = 0; i < lineLabelWidth; i++) {
+            buffer[length++] = SPACE;
+        }
+        for (int i = 1; i <= gridSize; i++) {
+            buffer[length++] = SPACE;
+            appendNumber(i);
+        }
+        appendNewLineBytes();
+    }
+
+    private void appendLineLabel(int line, int lineLabelWidth) {
+        int labelEnd = CoordinateCodec.writeLineLabel(line, buffer, length);
+        while (labelEnd < length + lineLabelWidth) {
+            buffer[labelEnd++] = SPACE;
+        }
+        length = labelEnd;
+    }
+
+    private void appendNumber(int number) {
+        int divisor = 1;
+        while (divisor <= number / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer[length++] = (byte) ('0' + number / divisor % 10);
+        }
+    }
+
+    private void appendNewLineBytes() {
+        for (byte newLineByte : NEW_LINE_BYTES) {
+            buffer[length++] = newLineByte;
+        }
+    }
+
+    public static byte applyPerspective(byte symbol, GameGridViewPerspective perspective) {
+        switch (perspective) {
+            case ALLY_PERSPECTIVE -> {
+                return symbol == RESERVED_SYMBOL ? FOG_SYMBOL : symbol;
+            }
+            case ENEMY_PERSPECTIVE -> {
+                return symbol == RESERVED_SYMBOL || symbol == SHIP_SYMBOL ? FOG_SYMBOL : symbol;
+            }
+            default -> {
+                return symbol;
+            }
+        }
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+        if (length + additionalBytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additionalBytes));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package battleship.game.input;
+
+import battleship.game.square.DirectionToSquare;
+
+import java.nio.charset.StandardCharsets;
+
+public final class CommandLexer {
+    private static final char SEPARATOR = ' ';
+    private static final char FIRST_LINE = 'A';
+    private static final char LAST_LINE = 'Z';
+    private static final int RADIX = 10;
+
+    private final int gridSize;
+    private final ByteSequence bytes = new ByteSequence();
+    private int frontLine;
+    private int frontColumn;
+    private int rearLine;
+    private int rearColumn;
+    private int parsedLine;
+    private int parsedColumn;
+
+    public CommandLexer(int gridSize) {
+        this.gridSize = gridSize;
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public InputValidationState lexPlacement(CharSequence input) {
+        int end = input.length();
+        while (end > 0 && input.charAt(end - 1) == SEPARATOR) {
+            end--;
+        }
+        int separator = -1;
+        for (int i = 0; i < end; i++) {
+            if (input.charAt(i) == SEPARATOR) {
+                if (separator >= 0) {
+                    return InputValidationState.WRONG_SIZE;
+                }
+                separator = i;
+            }
+        }
+        if (separator < 0) {
+            return InputValidationState.WRONG_SIZE;
+        }
+        if (!lexCoordinate(input, 0, separator)) {
+            return InputValidationState.WRONG_FORMAT;
+        }
+        frontLine = parsedLine;
+        frontColumn = parsedColumn;
+        if (!lexCoordinate(input, separator + 1, end)) {
+            return InputValidationState.WRONG_FORMAT;
+        }
+        rearLine = parsedLine;
+        rearColumn = parsedColumn;
+        return switch (DirectionToSquare.between(frontLine, frontColumn, rearLine, rearColumn)) {
+            case LEFT_DOWN, LEFT_UP, RIGHT_DOWN, RIGHT_UP -> InputValidationState.NOT_SAME_LANE_OR_COLUMN;
+            default -> InputValidationState.VALID;
+        };
+    }
+
+    public InputValidationState lexPlacement(byte[] input, int fromIndex, int toIndex) {
+        return lexPlacement(bytes.wrap(input, fromIndex, toIndex));
+    }
+
+    public InputValidationState lexShot(CharSequence input) {
+        if (!lexCoordinate(input, 0, input.length())) {
+            return InputValidationState.WRONG_FORMAT;
+        }
+        frontLine = rearLine = parsedLine;
+        frontColumn = rearColumn = parsedColumn;
+        return InputValidationState.VALID;
+    }
+
+    public InputValidationState lexShot(byte[] input, int fromIndex, int toIndex) {
+        return lexShot(bytes.wrap(input, fromIndex, toIndex));
+    }
+
+    public int getFrontCell() {
+        return getCell(frontLine, frontColumn);
+    }
+
+    public int getRearCell() {
+        return getCell(rearLine, rearColumn);
+    }
+
+    public int getShipSize() {
+        return Math.max(Math.abs(frontLine - rearLine), Math.abs(frontColumn - rearColumn)) + 1;
+    }
+
+    private int getCell(int line, int column) {
+        if (line >= gridSize || column < 1 || column > gridSize) {
+            return -1;
+        }
+        return line * gridSize + column - 1;
+    }
+
+    private boolean lexCoordinate(CharSequence input, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex < 2) {
+            return false;
+        }
+        char line = input.charAt(fromIndex);
+        if (line < FIRST_LINE || line > LAST_LINE) {
+            return false;
+        }
+        int position = fromIndex + 1;
+        boolean isNegative = false;
+        long limit = Integer.MAX_VALUE;
+        char first = input.charAt(position);
+        if (first < '0') {
+            if (first == '-') {
+                isNegative = true;
+                limit = -(long) Integer.MIN_VALUE;
+            } else if (first != '+') {
+                return false;
+            }
+            if (++position == toIndex) {
+                return false;
+            }
+        }
+        long column = 0;
+        for (; position < toIndex; position++) {
+            int digit = Character.digit(input.charAt(position), RADIX);
+            if (digit < 0) {
+                return false;
+            }
+            column = column * RADIX + digit;
+            if (column > limit) {
+                return false;
+            }
+        }
+        parsedLine = line - FIRST_LINE;
+        parsedColumn = (int) (isNegative ? -column : column);
+        return true;
+    }
+
+    private static final class ByteSequence implements CharSequence {
+        private byte[] bytes;
+        private int offset;
+        private int length;
+
+        ByteSequence wrap(byte[] bytes, int fromIndex, int toIndex) {
+            this.bytes = bytes;
+            this.offset = fromIndex;
+            this.length = toIndex - fromIndex;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new ByteSequence().wrap(bytes, offset + start, offset + end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package battleship.game.input;
+
+public enum InputValidationState {
+    WRONG_SIZE,
+    NOT_SAME_LANE_OR_COLUMN,
+    WRONG_FORMAT,
+    VALID
+}
@@ -0,0 +1,189 @@
+package battleship.game.metrics;
+
+import battleship.game.grid.GridModificationResult;
+import battleship.util.LatencyHistogram;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+public final class GameMetrics implements GameMetricsMXBean {
+    public static final String ENABLED_PROPERTY = "battleship.metrics";
+    public static final String DUMP_PERIOD_PROPERTY = "battleship.metrics.dumpPeriod";
+    public static final String OBJECT_NAME = "battleship:type=GameMetrics";
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final GridModificationResult[] RESULTS = GridModificationResult.values();
+    private static final Timer[] TIMERS = Timer.values();
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    public enum Timer {
+        SHOT_RESOLUTION,
+        PLACEMENT_VALIDATION,
+        RENDERING,
+        INPUT_PARSING
+    }
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[TIMERS.length];
+    private final LongAdder[] outcomes = new LongAdder[RESULTS.length];
+    private final LongAdder finishedGames = new LongAdder();
+    private boolean isInstalled = false;
+
+    private GameMetrics() {
+        for (int timer = 0; timer < histograms.length; timer++) {
+            histograms[timer] = new LatencyHistogram();
+        }
+        for (int result = 0; result < outcomes.length; result++) {
+            outcomes[result] = new LongAdder();
+        }
+    }
+
+    public static GameMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public static long startTimer() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    public static void stopTimer(Timer timer, long startTime) {
+        if (ENABLED) {
+            INSTANCE.histograms[timer.ordinal()].record(System.nanoTime() - startTime);
+        }
+    }
+
+    public static void recordOutcome(GridModificationResult result) {
+        if (ENABLED) {
+            INSTANCE.outcomes[result.ordinal()].increment();
+        }
+    }
+
+    public static void recordFinishedGame() {
+        if (ENABLED) {
+            INSTANCE.finishedGames.increment();
+        }
+    }
+
+    public static synchronized void install() {
+        if (!ENABLED || INSTANCE.isInstalled) {
+            return;
+        }
+        INSTANCE.isInstalled = true;
+        INSTANCE.registerMBean(ManagementFactory.getPlatformMBeanServer());
+        long dumpPeriod = Long.getLong(DUMP_PERIOD_PROPERTY, 0);
+        if (dumpPeriod > 0) {
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-metrics-dump");
+                thread.setDaemon(true);
+                return thread;
+            });
+            INSTANCE.dumpPeriodically(scheduler, dumpPeriod, TimeUnit.SECONDS, System.err);
+        }
+    }
+
+    public void registerMBean(MBeanServer server) {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+        }
+    }
+
+    public ScheduledFuture<?> dumpPeriodically(ScheduledExecutorService scheduler, long period, TimeUnit unit,
+                                               PrintStream output) {
+        return scheduler.scheduleAtFixedRate(() -> output.print(getDump()), period, period, unit);
+    }
+
+    public LatencyHistogram getHistogram(Timer timer) {
+        return histograms[timer.ordinal()];
+    }
+
+    public long getOutcomeCount(GridModificationResult result) {
+        return outcomes[result.ordinal()].sum();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public long getFinishedGames() {
+        return finishedGames.sum();
+    }
+
+    @Override
+    public Map<String, Long> getOutcomeCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (GridModificationResult result : RESULTS) {
+            counts.put(result.name(), getOutcomeCount(result));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getTimerCounts() {
+        return collectTimers(LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getTimerMeanNanos() {
+        Map<String, Double> means = new LinkedHashMap<>();
+        for (Timer timer : TIMERS) {
+            means.put(timer.name(), getHistogram(timer).getMean());
+        }
+        return means;
+    }
+
+    @Override
+    public Map<String, Long> getTimerMedianNanos() {
+        return collectTimers(histogram -> histogram.getValueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getTimer99thPercentileNanos() {
+        return collectTimers(histogram -> histogram.getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getTimerMaxNanos() {
+        return collectTimers(LatencyHistogram::getMax);
+    }
+
+    @Override
+    public String getDump() {
+        StringBuilder dump = new StringBuilder();
+        dump.append("games.finished ").append(getFinishedGames()).append(System.lineSeparator());
+        for (GridModificationResult result : RESULTS) {
+            dump.append("outcome.").append(result.name()).append(' ').append(getOutcomeCount(result))
+                    .append(System.lineSeparator());
+        }
+        for (Timer timer : TIMERS) {
+            LatencyHistogram histogram = getHistogram(timer);
+            dump.append(String.format("timer.%s count=%d mean=%.0fns p50=%dns p99=%dns max=%dns%n", timer.name(),
+                    histogram.getCount(), histogram.getMean(), histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(99), histogram.getMax()));
+        }
+        return dump.toString();
+    }
+
+    private Map<String, Long> collectTimers(ToLongFunction<LatencyHistogram> value) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Timer timer : TIMERS) {
+            values.put(timer.name(), value.applyAsLong(getHistogram(timer)));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,23 @@
+package battleship.game.metrics;
+
+import java.util.Map;
+
+public interface GameMetricsMXBean {
+    boolean isEnabled();
+
+    long getFinishedGames();
+
+    Map<String, Long> getOutcomeCounts();
+
+    Map<String, Long> getTimerCounts();
+
+    Map<String, Double> getTimerMeanNanos();
+
+    Map<String, Long> getTimerMedianNanos();
+
+    Map<String, Long> getTimer99thPercentileNanos();
+
+    Map<String, Long> getTimerMaxNanos();
+
+    String getDump();
+}
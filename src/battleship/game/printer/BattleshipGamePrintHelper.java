@@ -5,22 +5,34 @@ import battleship.game.grid.printer.GameGridPrintHelper;
 import battleship.game.grid.printer.GameGridViewPerspective;
 import battleship.game.ship.ShipType;
 
+import java.io.PrintStream;
+
 import static battleship.util.Constants.BattleshipGamePrinterConstants.*;
 import static battleship.util.CustomMessages.GamePlayMessage.*;
 import static battleship.util.CustomMessages.GamePlayErrorMessage.*;
 
 public class BattleshipGamePrintHelper {
-    public static void printGameGridView(GameGrid grid, GameGridViewPerspective gameGridViewPerspective) {
+    private final PrintStream out;
+
+    public BattleshipGamePrintHelper() {
+        this(System.out);
+    }
+
+    public BattleshipGamePrintHelper(PrintStream out) {
+        this.out = out;
+    }
+
+    public void printGameGridView(GameGrid grid, GameGridViewPerspective gameGridViewPerspective) {
         emptyLine();
-        GameGridPrintHelper.printGameGridView(grid, gameGridViewPerspective);
+        GameGridPrintHelper.printGameGridView(out, grid, gameGridViewPerspective);
     }
 
-    public static void printPVPGameGridView(GameGrid playerGameGrid, GameGrid enemyGameGrid) {
+    public void printPVPGameGridView(GameGrid playerGameGrid, GameGrid enemyGameGrid) {
         emptyLine();
-        GameGridPrintHelper.printPVPGameGridView(playerGameGrid, enemyGameGrid);
+        GameGridPrintHelper.printPVPGameGridView(out, playerGameGrid, enemyGameGrid);
     }
 
-    public static void printPlaceShipMessage(ShipType shipType) {
+    public void printPlaceShipMessage(ShipType shipType) {
         switch (shipType) {
             case AIRCRAFT_CARRIER -> printBlock(PLACE_AIRCRAFT_CARRIER);
             case BATTLESHIP -> printBlock(PLACE_BATTLESHIP);
@@ -30,24 +42,40 @@ public class BattleshipGamePrintHelper {
         }
     }
 
-    public static void notifyWrongShipPosition() {
+    public void notifyWrongShipPosition() {
         printBlock(WRONG_SHIP_POSITION);
     }
 
-    public static void notifyWrongShipSize(String shipName) {
+    public void notifyWrongShipSize(String shipName) {
         printBlock(((WRONG_SHIP_SIZE) + "%n").formatted(shipName));
     }
 
-    public static void notifyTooCloseToAnotherShip() {
+    public void notifyTooCloseToAnotherShip() {
         printBlock(TOO_CLOSE_TO_ANOTHER_SHIP);
     }
 
-    public static void notifyNextPlayerMove() {
+    public void notifyWrongCoordinates() {
+        printBlock(WRONG_COORDINATES);
+    }
+
+    public void notifyShipHit() {
+        printBlock(YOU_HIT_A_SHIP);
+    }
+
+    public void notifyShipMissed() {
+        printBlock(YOU_MISSED);
+    }
+
+    public void notifyShipSinking() {
+        printBlock(YOU_SANK_A_SHIP);
+    }
+
+    public void notifyNextPlayerMove() {
         printBlock(NEXT_PLAYER_MOVE);
         printSingleLine(NEXT_PLAYER_SEPARATOR);
     }
 
-    public static void notifyNPlayerPlanningStage(int playerNumber) {
+    public void notifyNPlayerPlanningStage(int playerNumber) {
         if (playerNumber == 1) {
             printSingleLine(PLAYER_1_PLANNING_STAGE);
         } else {
@@ -55,20 +83,24 @@ public class BattleshipGamePrintHelper {
         }
     }
 
-    public static void notifyLastShipSinking() {
+    public void notifyLastShipSinking() {
         printBlock(YOU_SANK_LAST_SHIP);
     }
 
-    public static void emptyLine() {
-        System.out.println();
+    public void notifyGameResumed() {
+        printSingleLine(GAME_RESUMED);
+    }
+
+    public void emptyLine() {
+        out.println();
     }
 
-    private static void printSingleLine(String data) {
-        System.out.println(data);
+    private void printSingleLine(String data) {
+        out.println(data);
     }
 
-    private static void printBlock(String data) {
+    private void printBlock(String data) {
         emptyLine();
-        System.out.println(data);
+        out.println(data);
     }
 }
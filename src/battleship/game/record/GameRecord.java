@@ -0,0 +1,141 @@
+package battleship.game.record;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+
+import java.nio.ByteBuffer;
+
+import static battleship.game.engine.GameResult.PLAYER_SHIFT;
+import static battleship.game.engine.GameResult.RESULT_MASK;
+import static battleship.game.record.GameRecordFormat.*;
+
+public class GameRecord {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final GridModificationResult[] RESULTS = GridModificationResult.values();
+
+    private ByteBuffer buffer;
+    private int gridSize;
+    private int numberOfShips;
+    private int fleetOffset;
+    private int placementsOffset;
+    private int winner;
+    private int numberOfShots;
+    private int shotsOffset;
+    private int shotWidth;
+    private GameRules rules;
+
+    void wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        gridSize = buffer.getShort(offset) & 0xFFFF;
+        numberOfShips = buffer.getShort(offset + Short.BYTES) & 0xFFFF;
+        fleetOffset = offset + 2 * Short.BYTES;
+        placementsOffset = fleetOffset + numberOfShips;
+        int winnerOffset = placementsOffset + 2 * numberOfShips * 2 * Integer.BYTES;
+        winner = buffer.get(winnerOffset);
+        numberOfShots = buffer.getInt(winnerOffset + Byte.BYTES);
+        shotsOffset = winnerOffset + Byte.BYTES + Integer.BYTES;
+        shotWidth = getCellWidth(gridSize) + Byte.BYTES;
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public int getNumberOfShips() {
+        return numberOfShips;
+    }
+
+    public ShipType getShipType(int ship) {
+        return SHIP_TYPES[buffer.get(fleetOffset + ship)];
+    }
+
+    public int getFrontCell(int player, int ship) {
+        return buffer.getInt(getPlacementOffset(player, ship));
+    }
+
+    public int getRearCell(int player, int ship) {
+        return buffer.getInt(getPlacementOffset(player, ship) + Integer.BYTES);
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public int getNumberOfShots() {
+        return numberOfShots;
+    }
+
+    public int getShotCell(int shot) {
+        int offset = shotsOffset + shot * shotWidth;
+        return switch (shotWidth - Byte.BYTES) {
+            case Byte.BYTES -> buffer.get(offset) & 0xFF;
+            case Short.BYTES -> buffer.getShort(offset) & 0xFFFF;
+            default -> buffer.getInt(offset);
+        };
+    }
+
+    public int getShotPlayer(int shot) {
+        return ((getShotCode(shot) >>> PLAYER_SHIFT) & 1) + 1;
+    }
+
+    public GridModificationResult getShotResult(int shot) {
+        return RESULTS[getShotCode(shot) & RESULT_MASK];
+    }
+
+    public GameRules getRules() {
+        if (rules == null || !hasRules(rules)) {
+            ShipType[] fleet = new ShipType[numberOfShips];
+            for (int ship = 0; ship < numberOfShips; ship++) {
+                fleet[ship] = getShipType(ship);
+            }
+            rules = new GameRules(gridSize, fleet);
+        }
+        return rules;
+    }
+
+    public GameGrid[] replay() {
+        GameRules gameRules = getRules();
+        GameGrid[] grids = {gameRules.createGameGrid(), gameRules.createGameGrid()};
+        for (int player = 1; player <= 2; player++) {
+            for (int ship = 0; ship < numberOfShips; ship++) {
+                GridModificationResult result = grids[player - 1].addShip(getFrontCell(player, ship),
+                        getRearCell(player, ship), getShipType(ship));
+                if (result != GridModificationResult.SHIP_PLACED) {
+                    throw new IllegalStateException("Recorded ship " + ship + " of player " + player +
+                            " could not be placed: " + result);
+                }
+            }
+        }
+        for (int shot = 0; shot < numberOfShots; shot++) {
+            int player = getShotPlayer(shot);
+            GridModificationResult result = grids[2 - player].registerShoot(getShotCell(shot));
+            if (result != getShotResult(shot)) {
+                throw new IllegalStateException("Replay diverged at shot " + shot + ": recorded " +
+                        getShotResult(shot) + " but got " + result);
+            }
+        }
+        return grids;
+    }
+
+    private boolean hasRules(GameRules candidate) {
+        if (candidate.getGridSize() != gridSize || candidate.getNumberOfShips() != numberOfShips) {
+            return false;
+        }
+        for (int ship = 0; ship < numberOfShips; ship++) {
+            if (candidate.getShipType(ship) != getShipType(ship)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getPlacementOffset(int player, int ship) {
+        return placementsOffset + ((player - 1) * numberOfShips + ship) * 2 * Integer.BYTES;
+    }
+
+    private int getShotCode(int shot) {
+        return buffer.get(shotsOffset + shot * shotWidth + shotWidth - Byte.BYTES) & SHOT_CODE_MASK;
+    }
+}
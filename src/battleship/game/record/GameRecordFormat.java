@@ -0,0 +1,31 @@
+package battleship.game.record;
+
+final class GameRecordFormat {
+    private GameRecordFormat() {
+
+    }
+
+    static final int MAGIC = 0x4253484C;
+    static final short VERSION = 1;
+    static final int FILE_HEADER_SIZE = Integer.BYTES + Short.BYTES;
+    static final int RECORD_LENGTH_SIZE = Integer.BYTES;
+    static final int SHOT_CODE_MASK = 0x0F;
+
+    static int getCellWidth(int gridSize) {
+        int numberOfCells = gridSize * gridSize;
+        if (numberOfCells <= 1 << Byte.SIZE) {
+            return Byte.BYTES;
+        } else if (numberOfCells <= 1 << Short.SIZE) {
+            return Short.BYTES;
+        } else {
+            return Integer.BYTES;
+        }
+    }
+
+    static int getRecordLength(int gridSize, int numberOfShips, int numberOfShots) {
+        return Short.BYTES + Short.BYTES + numberOfShips
+                + 2 * numberOfShips * 2 * Integer.BYTES
+                + Byte.BYTES + Integer.BYTES
+                + numberOfShots * (getCellWidth(gridSize) + Byte.BYTES);
+    }
+}
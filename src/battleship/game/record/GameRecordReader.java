@@ -0,0 +1,137 @@
+package battleship.game.record;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static battleship.game.record.GameRecordFormat.*;
+
+public class GameRecordReader implements Closeable {
+    private static final long MAPPING_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long endOffset;
+    private final GameRecord record = new GameRecord();
+    private MappedByteBuffer mapping;
+    private long mappingStart;
+    private long nextRecordOffset;
+
+    public GameRecordReader(Path path) throws IOException {
+        this(path, FILE_HEADER_SIZE, Long.MAX_VALUE);
+    }
+
+    public GameRecordReader(Path path, long fromOffset, long toOffset) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            checkFileHeader(channel, path);
+            endOffset = Math.min(channel.size(), toOffset);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        nextRecordOffset = Math.max(fromOffset, FILE_HEADER_SIZE);
+    }
+
+    public boolean next() throws IOException {
+        long recordEnd = getRecordEnd(nextRecordOffset);
+        if (recordEnd < 0) {
+            return false;
+        }
+        record.wrap(mapping, (int) (nextRecordOffset - mappingStart) + RECORD_LENGTH_SIZE);
+        nextRecordOffset = recordEnd;
+        return true;
+    }
+
+    public GameRecord getRecord() {
+        return record;
+    }
+
+    public long getPosition() {
+        return nextRecordOffset;
+    }
+
+    public long[] split(int numberOfSegments) throws IOException {
+        long[] boundaries = new long[numberOfSegments + 1];
+        long start = nextRecordOffset;
+        long offset = start;
+        long recordEnd;
+        int segment = 1;
+        boundaries[0] = start;
+        while ((recordEnd = getRecordEnd(offset)) >= 0) {
+            offset = recordEnd;
+            while (segment < numberOfSegments && offset >= start + (endOffset - start) * segment / numberOfSegments) {
+                boundaries[segment++] = offset;
+            }
+        }
+        while (segment <= numberOfSegments) {
+            boundaries[segment++] = offset;
+        }
+        return boundaries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mapping = null;
+        channel.close();
+    }
+
+    private long getRecordEnd(long offset) throws IOException {
+        if (offset + RECORD_LENGTH_SIZE > endOffset) {
+            return -1;
+        }
+        mapRegion(offset, RECORD_LENGTH_SIZE);
+        long recordEnd = offset + RECORD_LENGTH_SIZE + mapping.getInt((int) (offset - mappingStart));
+        if (recordEnd > endOffset) {
+            return -1;
+        }
+        mapRegion(offset, (int) (recordEnd - offset));
+        return recordEnd;
+    }
+
+    private void mapRegion(long offset, int length) throws IOException {
+        if (mapping != null && offset >= mappingStart && offset + length <= mappingStart + mapping.capacity()) {
+            return;
+        }
+        long size = Math.min(Math.max(MAPPING_SIZE, length), endOffset - offset);
+        mapping = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        mappingStart = offset;
+    }
+
+    static long getEndOfLastRecord(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer recordLength = ByteBuffer.allocate(RECORD_LENGTH_SIZE);
+        long offset = FILE_HEADER_SIZE;
+        while (offset + RECORD_LENGTH_SIZE <= size) {
+            recordLength.clear();
+            while (recordLength.hasRemaining()) {
+                if (channel.read(recordLength, offset + recordLength.position()) < 0) {
+                    return offset;
+                }
+            }
+            long recordEnd = offset + RECORD_LENGTH_SIZE + recordLength.getInt(0);
+            if (recordEnd < offset + RECORD_LENGTH_SIZE || recordEnd > size) {
+                break;
+            }
+            offset = recordEnd;
+        }
+        return offset;
+    }
+
+    static void checkFileHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+            throw new IOException(path + " is not a game record file");
+        } else if (header.getShort(Integer.BYTES) != VERSION) {
+            throw new IOException(path + " has unsupported game record version " + header.getShort(Integer.BYTES));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package battleship.game.record;
+
+import battleship.game.engine.GameResult;
+import battleship.game.rules.GameRules;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static battleship.game.record.GameRecordFormat.*;
+
+public class GameRecordWriter implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    public GameRecordWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            buffer.putInt(MAGIC).putShort(VERSION);
+        } else {
+            GameRecordReader.checkFileHeader(channel, path);
+            long endOfLastRecord = GameRecordReader.getEndOfLastRecord(channel);
+            channel.truncate(endOfLastRecord);
+            channel.position(endOfLastRecord);
+        }
+    }
+
+    public void append(GameRules rules, GameResult result) throws IOException {
+        if (!result.hasMoveLog() || !result.hasPlacementLog()) {
+            throw new IllegalArgumentException("Game result has no move log. Enable it on the GameEngine");
+        }
+        int gridSize = rules.getGridSize();
+        int numberOfShips = rules.getNumberOfShips();
+        int[] moves = result.getMoveLog();
+        int recordLength = getRecordLength(gridSize, numberOfShips, moves.length);
+        reserve(RECORD_LENGTH_SIZE + recordLength);
+
+        buffer.putInt(recordLength);
+        buffer.putShort((short) gridSize);
+        buffer.putShort((short) numberOfShips);
+        for (int ship = 0; ship < numberOfShips; ship++) {
+            buffer.put((byte) rules.getShipType(ship).ordinal());
+        }
+        for (int player = 1; player <= 2; player++) {
+            for (int ship = 0; ship < numberOfShips; ship++) {
+                buffer.putInt(result.getPlacementFrontCell(player, ship));
+                buffer.putInt(result.getPlacementRearCell(player, ship));
+            }
+        }
+        buffer.put((byte) result.getWinner());
+        buffer.putInt(moves.length);
+        int cellWidth = getCellWidth(gridSize);
+        for (int move : moves) {
+            putCell(GameResult.getMoveCell(move), cellWidth);
+            buffer.put((byte) (move & SHOT_CODE_MASK));
+        }
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void reserve(int numberOfBytes) throws IOException {
+        if (buffer.remaining() < numberOfBytes) {
+            flush();
+            if (buffer.capacity() < numberOfBytes) {
+                buffer = ByteBuffer.allocateDirect(numberOfBytes);
+            }
+        }
+    }
+
+    private void putCell(int cellIndex, int cellWidth) {
+        switch (cellWidth) {
+            case Byte.BYTES -> buffer.put((byte) cellIndex);
+            case Short.BYTES -> buffer.putShort((short) cellIndex);
+            default -> buffer.putInt(cellIndex);
+        }
+    }
+}
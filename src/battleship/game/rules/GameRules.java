@@ -0,0 +1,123 @@
+package battleship.game.rules;
+
+import battleship.game.grid.BitboardGameGrid;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.SparseGameGrid;
+import battleship.game.ship.ShipType;
+import battleship.game.square.CoordinateCodec;
+
+import java.util.Arrays;
+
+import static battleship.util.Constants.GameGridConstants.*;
+
+public final class GameRules {
+    public static final int MIN_GRID_SIZE = 1;
+    public static final int MAX_GRID_SIZE = 10_000;
+    public static final GameRules STANDARD = new GameRules(GRID_SIZE, ShipType.values());
+    private static final int SPARSE_GRID_MIN_CELLS = 1 << 16;
+    private static final int SPARSE_GRID_MAX_OCCUPANCY_PERCENT = 2;
+
+    private final int gridSize;
+    private final ShipType[] fleet;
+    private final int numberOfShipSquares;
+    private final int maximumNumberOfOccupiedCells;
+    private final CoordinateCodec coordinateCodec;
+
+    public GameRules(int gridSize, ShipType[] fleet) {
+        if (gridSize < MIN_GRID_SIZE || gridSize > MAX_GRID_SIZE) {
+            throw new IllegalArgumentException("Grid size [" + gridSize + "] should be between " + MIN_GRID_SIZE +
+                    " and " + MAX_GRID_SIZE + " (inclusive)");
+        } else if (fleet.length == 0) {
+            throw new IllegalArgumentException("Fleet should contain at least one ship");
+        }
+        int shipSquares = 0;
+        long occupiedCells = 0;
+        for (ShipType shipType : fleet) {
+            if (shipType.getSize() > gridSize) {
+                throw new IllegalArgumentException(shipType.getName() + " does not fit on a " + gridSize + "x" +
+                        gridSize + " grid");
+            }
+            shipSquares += shipType.getSize();
+            occupiedCells += 3L * (shipType.getSize() + 2);
+        }
+        if (shipSquares > gridSize * gridSize) {
+            throw new IllegalArgumentException("Fleet occupies more squares than a " + gridSize + "x" + gridSize +
+                    " grid has");
+        }
+        this.gridSize = gridSize;
+        this.fleet = fleet.clone();
+        this.numberOfShipSquares = shipSquares;
+        this.maximumNumberOfOccupiedCells = (int) Math.min(occupiedCells, (long) gridSize * gridSize);
+        this.coordinateCodec = new CoordinateCodec(gridSize);
+    }
+
+    public static GameRules withRepeatedFleet(int gridSize, int numberOfFleets) {
+        ShipType[] standardFleet = ShipType.values();
+        ShipType[] fleet = new ShipType[standardFleet.length * numberOfFleets];
+        for (int i = 0; i < fleet.length; i++) {
+            fleet[i] = standardFleet[i % standardFleet.length];
+        }
+        return new GameRules(gridSize, fleet);
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public int getNumberOfCells() {
+        return gridSize * gridSize;
+    }
+
+    public int getNumberOfShips() {
+        return fleet.length;
+    }
+
+    public ShipType getShipType(int shipIndex) {
+        return fleet[shipIndex];
+    }
+
+    public ShipType[] getFleet() {
+        return fleet.clone();
+    }
+
+    public int getNumberOfShipSquares() {
+        return numberOfShipSquares;
+    }
+
+    public int getMaximumNumberOfOccupiedCells() {
+        return maximumNumberOfOccupiedCells;
+    }
+
+    public boolean isSparseGridPreferred() {
+        long numberOfCells = getNumberOfCells();
+        return numberOfCells >= SPARSE_GRID_MIN_CELLS
+                && maximumNumberOfOccupiedCells * 100L <= numberOfCells * SPARSE_GRID_MAX_OCCUPANCY_PERCENT;
+    }
+
+    public CoordinateCodec getCoordinateCodec() {
+        return coordinateCodec;
+    }
+
+    public GameGrid createGameGrid() {
+        return isSparseGridPreferred() ? new SparseGameGrid(this) : new BitboardGameGrid(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GameRules other)) {
+            return false;
+        } else {
+            return this.gridSize == other.gridSize && Arrays.equals(this.fleet, other.fleet);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * gridSize + Arrays.hashCode(fleet);
+    }
+
+    @Override
+    public String toString() {
+        return gridSize + "x" + gridSize + " " + Arrays.toString(fleet);
+    }
+}
@@ -7,25 +7,32 @@ import java.util.ArrayList;
 
 public class Ship {
     private final List<Square> listOfOccupiedSquares = new ArrayList<>();
-    private final List<Square> listOfSegments = new ArrayList<>();
+
+    private long aliveSegments;
 
     private int numberOfAliveSegments;
 
     private final ShipType shipType;
 
     public Ship(ShipType shipType) {
+        this(shipType, shipType.getSize());
+    }
+
+    public Ship(ShipType shipType, int numberOfAliveSegments) {
         this.shipType = shipType;
-        numberOfAliveSegments = shipType.getSize();
+        this.numberOfAliveSegments = numberOfAliveSegments;
     }
 
-    public void addSquare(Square square) {
+    public int addSquare(Square square) {
+        int segment = listOfOccupiedSquares.size();
         listOfOccupiedSquares.add(square);
-        listOfSegments.add(square);
+        aliveSegments |= 1L << segment;
+        return segment;
     }
 
-    public void destroySquare(Square square) {
-        if (listOfSegments.contains(square)) {
-            listOfSegments.remove(square);
+    public void destroySegment(int segment) {
+        if ((aliveSegments & 1L << segment) != 0) {
+            aliveSegments &= ~(1L << segment);
             numberOfAliveSegments--;
         }
     }
@@ -34,6 +41,10 @@ public class Ship {
         return numberOfAliveSegments > 0;
     }
 
+    public int getNumberOfAliveSegments() {
+        return numberOfAliveSegments;
+    }
+
     public boolean isOnSquare(Square square) {
         return listOfOccupiedSquares.contains(square);
     }
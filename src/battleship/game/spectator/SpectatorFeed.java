@@ -0,0 +1,238 @@
+package battleship.game.spectator;
+
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.printer.GameGridRenderer;
+import battleship.game.grid.printer.GameGridViewPerspective;
+import battleship.game.square.CoordinateCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+public class SpectatorFeed {
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+    public static final String KEYFRAME = "KEYFRAME";
+    public static final String DELTA = "DELTA";
+    private static final int RING_CAPACITY_IN_KEYFRAMES = 4;
+    private static final int MAXIMUM_NUMBER_LENGTH = 20;
+    private static final byte SEPARATOR = ' ';
+    private static final byte END_OF_LINE = '\n';
+    private static final byte[] KEYFRAME_PREFIX = (KEYFRAME + ' ').getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DELTA_PREFIX = (DELTA + ' ').getBytes(StandardCharsets.US_ASCII);
+
+    private final GameGrid[] grids;
+    private final GameGridViewPerspective perspective;
+    private final CoordinateCodec codec;
+    private final int gridSize;
+    private final int keyframeInterval;
+    private final Frame[] frames;
+    private final byte[][] publishedCells;
+    private int[] changedCells;
+    private ByteBuffer encodingBuffer;
+    private volatile long sequence = -1;
+    private volatile Frame latestKeyframe;
+
+    public SpectatorFeed(GameGrid gridPlayer1, GameGrid gridPlayer2, GameGridViewPerspective perspective) {
+        this(gridPlayer1, gridPlayer2, perspective, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    public SpectatorFeed(GameGrid gridPlayer1, GameGrid gridPlayer2, GameGridViewPerspective perspective,
+                         int keyframeInterval) {
+        if (gridPlayer1.getGridSize() != gridPlayer2.getGridSize()) {
+            throw new IllegalArgumentException("Grid sizes do not match: " + gridPlayer1.getGridSize() + " and " +
+                    gridPlayer2.getGridSize());
+        }
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + keyframeInterval);
+        }
+        this.grids = new GameGrid[]{gridPlayer1, gridPlayer2};
+        this.perspective = perspective;
+        this.gridSize = gridPlayer1.getGridSize();
+        this.codec = new CoordinateCodec(gridSize);
+        this.keyframeInterval = keyframeInterval;
+        this.frames = new Frame[Integer.highestOneBit(RING_CAPACITY_IN_KEYFRAMES * keyframeInterval - 1) << 1];
+        this.publishedCells = new byte[2][gridSize * gridSize];
+        this.changedCells = new int[3 * (gridSize + 2)];
+        publishKeyframe();
+    }
+
+    public GameGridViewPerspective getPerspective() {
+        return perspective;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Subscription subscribe() {
+        return new Subscription(latestKeyframe.sequence);
+    }
+
+    public boolean publish(int player, int fromCell, int toCell) {
+        Objects.checkIndex(fromCell, publishedCells[player - 1].length);
+        Objects.checkIndex(toCell, publishedCells[player - 1].length);
+        byte[] cells = publishedCells[player - 1];
+        GameGrid grid = grids[player - 1];
+        int fromLine = Math.max(Math.min(fromCell, toCell) / gridSize - 1, 0);
+        int toLine = Math.min(Math.max(fromCell, toCell) / gridSize + 1, gridSize - 1);
+        int fromColumn = Math.max(Math.min(fromCell % gridSize, toCell % gridSize) - 1, 0);
+        int toColumn = Math.min(Math.max(fromCell % gridSize, toCell % gridSize) + 1, gridSize - 1);
+        int area = (toLine - fromLine + 1) * (toColumn - fromColumn + 1);
+        if (area > changedCells.length) {
+            changedCells = new int[area];
+        }
+        int numberOfChanges = 0;
+        for (int line = fromLine; line <= toLine; line++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cellIndex = line * gridSize + column;
+                byte symbol = getVisibleSymbol(grid, cellIndex);
+                if (cells[cellIndex] != symbol) {
+                    cells[cellIndex] = symbol;
+                    changedCells[numberOfChanges++] = cellIndex;
+                }
+            }
+        }
+        if (numberOfChanges == 0) {
+            return false;
+        }
+        if (sequence + 1 == latestKeyframe.sequence + keyframeInterval) {
+            publishKeyframe();
+            return true;
+        }
+        long frameSequence = sequence + 1;
+        ByteBuffer buffer = getEncodingBuffer(DELTA_PREFIX.length + 2 * MAXIMUM_NUMBER_LENGTH +
+                numberOfChanges * (2 * MAXIMUM_NUMBER_LENGTH + 2));
+        buffer.put(DELTA_PREFIX);
+        putNumber(buffer, frameSequence);
+        buffer.put(SEPARATOR);
+        putNumber(buffer, player);
+        for (int i = 0; i < numberOfChanges; i++) {
+            buffer.put(SEPARATOR);
+            codec.formatTo(changedCells[i], buffer);
+            buffer.put(cells[changedCells[i]]);
+        }
+        buffer.put(END_OF_LINE);
+        append(new Frame(frameSequence, Arrays.copyOf(buffer.array(), buffer.position())), false);
+        return true;
+    }
+
+    public void publishKeyframe() {
+        long frameSequence = sequence + 1;
+        int numberOfCells = gridSize * gridSize;
+        ByteBuffer buffer = getEncodingBuffer(KEYFRAME_PREFIX.length + 2 * MAXIMUM_NUMBER_LENGTH +
+                2 * (numberOfCells + 1) + 1);
+        buffer.put(KEYFRAME_PREFIX);
+        putNumber(buffer, frameSequence);
+        buffer.put(SEPARATOR);
+        putNumber(buffer, gridSize);
+        for (int player = 1; player <= 2; player++) {
+            byte[] cells = publishedCells[player - 1];
+            for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+                cells[cellIndex] = getVisibleSymbol(grids[player - 1], cellIndex);
+            }
+            buffer.put(SEPARATOR).put(cells);
+        }
+        buffer.put(END_OF_LINE);
+        append(new Frame(frameSequence, Arrays.copyOf(buffer.array(), buffer.position())), true);
+    }
+
+    private void append(Frame frame, boolean isKeyframe) {
+        frames[(int) frame.sequence & (frames.length - 1)] = frame;
+        if (isKeyframe) {
+            latestKeyframe = frame;
+        }
+        sequence = frame.sequence;
+    }
+
+    private ByteBuffer getEncodingBuffer(int capacity) {
+        if (encodingBuffer == null || encodingBuffer.capacity() < capacity) {
+            encodingBuffer = ByteBuffer.allocate(capacity);
+        }
+        return encodingBuffer.clear();
+    }
+
+    private byte getVisibleSymbol(GameGrid grid, int cellIndex) {
+        return GameGridRenderer.applyPerspective((byte) grid.getCellData(cellIndex).charAt(0), perspective);
+    }
+
+    private static void putNumber(ByteBuffer buffer, long number) {
+        long divisor = 1;
+        while (divisor <= number / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + number / divisor % 10));
+        }
+    }
+
+    private static final class Frame {
+        private final long sequence;
+        private final byte[] bytes;
+
+        private Frame(long sequence, byte[] bytes) {
+            this.sequence = sequence;
+            this.bytes = bytes;
+        }
+    }
+
+    public final class Subscription {
+        private long nextSequence;
+        private Frame currentFrame;
+        private int frameOffset;
+        private long coalescedFrames = 0;
+
+        private Subscription(long nextSequence) {
+            this.nextSequence = nextSequence;
+        }
+
+        public int drainTo(ByteBuffer target) {
+            int drainedBytes = 0;
+            while (target.hasRemaining()) {
+                if (currentFrame == null) {
+                    currentFrame = nextFrame();
+                    if (currentFrame == null) {
+                        break;
+                    }
+                    frameOffset = 0;
+                }
+                int numberOfBytes = Math.min(target.remaining(), currentFrame.bytes.length - frameOffset);
+                target.put(currentFrame.bytes, frameOffset, numberOfBytes);
+                frameOffset += numberOfBytes;
+                drainedBytes += numberOfBytes;
+                if (frameOffset == currentFrame.bytes.length) {
+                    currentFrame = null;
+                }
+            }
+            return drainedBytes;
+        }
+
+        public boolean isCaughtUp() {
+            return currentFrame == null && nextSequence > sequence;
+        }
+
+        public long getLag() {
+            return Math.max(sequence + 1 - nextSequence, 0);
+        }
+
+        public long getCoalescedFrames() {
+            return coalescedFrames;
+        }
+
+        private Frame nextFrame() {
+            long publishedSequence = sequence;
+            if (nextSequence > publishedSequence) {
+                return null;
+            }
+            Frame frame = publishedSequence - nextSequence < keyframeInterval
+                    ? frames[(int) nextSequence & (frames.length - 1)]
+                    : null;
+            if (frame == null || frame.sequence != nextSequence) {
+                frame = latestKeyframe;
+                coalescedFrames += frame.sequence - nextSequence;
+            }
+            nextSequence = frame.sequence + 1;
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package battleship.game.square;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class CoordinateCodec {
+    public static final int INVALID_FORMAT = -1;
+    public static final int OUT_OF_GAME_GRID = -2;
+    private static final int ALPHABET_SIZE = 26;
+
+    private final int gridSize;
+
+    public CoordinateCodec(int gridSize) {
+        this.gridSize = gridSize;
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public int parse(CharSequence input) {
+        return parse(input, 0, input.length());
+    }
+
+    public int parse(CharSequence input, int fromIndex, int toIndex) {
+        int position = fromIndex;
+        long line = 0;
+        while (position < toIndex && isLineLetter(input.charAt(position))) {
+            line = Math.min(line * ALPHABET_SIZE + input.charAt(position) - 'A' + 1, Integer.MAX_VALUE);
+            position++;
+        }
+        if (position == fromIndex || position == toIndex) {
+            return INVALID_FORMAT;
+        }
+        long column = 0;
+        while (position < toIndex && isDigit(input.charAt(position))) {
+            column = Math.min(column * 10 + input.charAt(position) - '0', Integer.MAX_VALUE);
+            position++;
+        }
+        if (position != toIndex) {
+            return INVALID_FORMAT;
+        }
+        if (line > gridSize || column < 1 || column > gridSize) {
+            return OUT_OF_GAME_GRID;
+        }
+        return (int) (line - 1) * gridSize + (int) column - 1;
+    }
+
+    public int parse(ByteBuffer input, int fromIndex, int toIndex) {
+        int position = fromIndex;
+        long line = 0;
+        while (position < toIndex && isLineLetter((char) input.get(position))) {
+            line = Math.min(line * ALPHABET_SIZE + input.get(position) - 'A' + 1, Integer.MAX_VALUE);
+            position++;
+        }
+        if (position == fromIndex || position == toIndex) {
+            return INVALID_FORMAT;
+        }
+        long column = 0;
+        while (position < toIndex && isDigit((char) input.get(position))) {
+            column = Math.min(column * 10 + input.get(position) - '0', Integer.MAX_VALUE);
+            position++;
+        }
+        if (position != toIndex) {
+            return INVALID_FORMAT;
+        }
+        if (line > gridSize || column < 1 || column > gridSize) {
+            return OUT_OF_GAME_GRID;
+        }
+        return (int) (line - 1) * gridSize + (int) column - 1;
+    }
+
+    public void formatTo(int cellIndex, ByteBuffer target) {
+        int line = cellIndex / gridSize;
+        int labelLength = getLineLabelLength(line);
+        int remaining = line + 1;
+        for (int position = target.position() + labelLength - 1; position >= target.position(); position--) {
+            remaining--;
+            target.put(position, (byte) ('A' + remaining % ALPHABET_SIZE));
+            remaining /= ALPHABET_SIZE;
+        }
+        target.position(target.position() + labelLength);
+        int column = cellIndex % gridSize + 1;
+        int divisor = 1;
+        while (divisor <= column / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            target.put((byte) ('0' + column / divisor % 10));
+        }
+    }
+
+    public String format(int cellIndex) {
+        return getLineLabel(cellIndex / gridSize) + (cellIndex % gridSize + 1);
+    }
+
+    public static String getLineLabel(int line) {
+        byte[] label = new byte[getLineLabelLength(line)];
+        writeLineLabel(line, label, 0);
+        return new String(label, StandardCharsets.US_ASCII);
+    }
+
+    public static int getLineLabelLength(int line) {
+        int labelLength = 1;
+        for (int remaining = line / ALPHABET_SIZE; remaining > 0; remaining = (remaining - 1) / ALPHABET_SIZE) {
+            labelLength++;
+        }
+        return labelLength;
+    }
+
+    public static int writeLineLabel(int line, byte[] target, int offset) {
+        int end = offset + getLineLabelLength(line);
+        int remaining = line + 1;
+        for (int position = end - 1; position >= offset; position--) {
+            remaining--;
+            target[position] = (byte) ('A' + remaining % ALPHABET_SIZE);
+            remaining /= ALPHABET_SIZE;
+        }
+        return end;
+    }
+
+    private static boolean isLineLetter(char character) {
+        return character >= 'A' && character <= 'Z';
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
@@ -9,5 +9,19 @@ public enum DirectionToSquare {
     LEFT_DOWN,
     RIGHT_UP,
     RIGHT_DOWN,
-    HERE
+    HERE;
+
+    public static DirectionToSquare between(int fromLine, int fromColumn, int toLine, int toColumn) {
+        if (fromLine == toLine && fromColumn == toColumn) {
+            return HERE;
+        } else if (fromLine == toLine) {
+            return fromColumn > toColumn ? LEFT : RIGHT;
+        } else if (fromColumn == toColumn) {
+            return fromLine > toLine ? UP : DOWN;
+        } else if (fromColumn > toColumn) {
+            return fromLine > toLine ? LEFT_UP : LEFT_DOWN;
+        } else {
+            return fromLine > toLine ? RIGHT_UP : RIGHT_DOWN;
+        }
+    }
 }
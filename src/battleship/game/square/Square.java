@@ -78,35 +78,7 @@ public class Square {
     }
 
     public DirectionToSquare getDirectionTo(Square other) {
-        if (this.line == other.line && this.column == other.column) {
-            return DirectionToSquare.HERE;
-        } else if (this.line == other.line) {
-            if (this.column > other.column) {
-                return DirectionToSquare.LEFT;
-            } else {
-                return DirectionToSquare.RIGHT;
-            }
-        } else if (this.column == other.column) {
-            if (this.line > other.line) {
-                return DirectionToSquare.UP;
-            } else {
-                return DirectionToSquare.DOWN;
-            }
-        } else {
-            if (this.column > other.column) {
-                if (this.line > other.line) {
-                    return DirectionToSquare.LEFT_UP;
-                } else {
-                    return DirectionToSquare.LEFT_DOWN;
-                }
-            } else {
-                if (this.line > other.line) {
-                    return DirectionToSquare.RIGHT_UP;
-                } else {
-                    return DirectionToSquare.RIGHT_DOWN;
-                }
-            }
-        }
+        return DirectionToSquare.between(this.line, this.column, other.line, other.column);
     }
 
     @Override
@@ -118,6 +90,11 @@ public class Square {
         }
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * this.line + this.column;
+    }
+
     @Override
     public String toString() {
         return this.line + " " + this.column;
@@ -0,0 +1,12 @@
+package battleship.game.tournament;
+
+import battleship.game.engine.PlacementStrategy;
+import battleship.game.engine.ShootingStrategy;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+public record Contestant(String name,
+                         Function<SplittableRandom, PlacementStrategy> placementStrategyFactory,
+                         Function<SplittableRandom, ShootingStrategy> shootingStrategyFactory) {
+}
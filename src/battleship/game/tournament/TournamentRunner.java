@@ -0,0 +1,131 @@
+package battleship.game.tournament;
+
+import battleship.game.engine.GameEngine;
+import battleship.game.engine.GameResult;
+import battleship.game.engine.PlacementStrategy;
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.engine.strategy.RandomPlacementStrategy;
+import battleship.game.engine.strategy.RandomShootingStrategy;
+import battleship.game.rules.GameRules;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class TournamentRunner {
+    private static final int GAMES_PER_BATCH = 4096;
+    private static final long MAXIMUM_NUMBER_OF_GAMES = (long) Integer.MAX_VALUE * GAMES_PER_BATCH;
+
+    private final GameRules rules;
+    private final Contestant first;
+    private final Contestant second;
+    private final ForkJoinPool pool;
+
+    public TournamentRunner(Contestant first, Contestant second) {
+        this(first, second, ForkJoinPool.commonPool());
+    }
+
+    public TournamentRunner(Contestant first, Contestant second, ForkJoinPool pool) {
+        this(GameRules.STANDARD, first, second, pool);
+    }
+
+    public TournamentRunner(GameRules rules, Contestant first, Contestant second, ForkJoinPool pool) {
+        this.rules = rules;
+        this.first = first;
+        this.second = second;
+        this.pool = pool;
+    }
+
+    public TournamentStatistics run(long numberOfGames, long masterSeed) {
+        if (numberOfGames < 1 || numberOfGames > MAXIMUM_NUMBER_OF_GAMES) {
+            throw new IllegalArgumentException("Number of games [" + numberOfGames + "] should be between 1 and " +
+                    MAXIMUM_NUMBER_OF_GAMES);
+        }
+        int numberOfBatches = Math.toIntExact((numberOfGames - 1) / GAMES_PER_BATCH + 1);
+        long[] batchSeeds = new long[numberOfBatches];
+        SplittableRandom masterRandom = new SplittableRandom(masterSeed);
+        for (int i = 0; i < numberOfBatches; i++) {
+            batchSeeds[i] = masterRandom.nextLong();
+        }
+        return pool.invoke(new BatchRangeTask(batchSeeds, 0, numberOfBatches, numberOfGames));
+    }
+
+    private TournamentStatistics playBatch(long seed, int numberOfGames) {
+        SplittableRandom random = new SplittableRandom(seed);
+        PlacementStrategy[] placementStrategies = {
+                first.placementStrategyFactory().apply(random.split()),
+                second.placementStrategyFactory().apply(random.split())
+        };
+        ShootingStrategy[] shootingStrategies = {
+                first.shootingStrategyFactory().apply(random.split()),
+                second.shootingStrategyFactory().apply(random.split())
+        };
+        GameEngine engine = new GameEngine(rules, false);
+        TournamentStatistics statistics = new TournamentStatistics();
+        for (int game = 0; game < numberOfGames; game++) {
+            int starter = game & 1;
+            int other = 1 - starter;
+            GameResult result = engine.play(placementStrategies[starter], placementStrategies[other],
+                    shootingStrategies[starter], shootingStrategies[other]);
+            int winner = result.getWinner() == 1 ? starter : other;
+            statistics.registerWin(winner, result.getWinnerShotCount());
+        }
+        return statistics;
+    }
+
+    private class BatchRangeTask extends RecursiveTask<TournamentStatistics> {
+        private final long[] batchSeeds;
+        private final int fromBatch;
+        private final int toBatch;
+        private final long numberOfGames;
+
+        private BatchRangeTask(long[] batchSeeds, int fromBatch, int toBatch, long numberOfGames) {
+            this.batchSeeds = batchSeeds;
+            this.fromBatch = fromBatch;
+            this.toBatch = toBatch;
+            this.numberOfGames = numberOfGames;
+        }
+
+        @Override
+        protected TournamentStatistics compute() {
+            if (toBatch - fromBatch <= 1) {
+                long remainingGames = numberOfGames - (long) fromBatch * GAMES_PER_BATCH;
+                return playBatch(batchSeeds[fromBatch], (int) Math.min(GAMES_PER_BATCH, remainingGames));
+            }
+            int middle = (fromBatch + toBatch) >>> 1;
+            BatchRangeTask left = new BatchRangeTask(batchSeeds, fromBatch, middle, numberOfGames);
+            BatchRangeTask right = new BatchRangeTask(batchSeeds, middle, toBatch, numberOfGames);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+
+    public static void main(String[] args) {
+        long numberOfGames = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        long masterSeed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        Contestant random = new Contestant("Random", RandomPlacementStrategy::new, RandomShootingStrategy::new);
+        TournamentRunner runner = new TournamentRunner(random, random);
+
+        long start = System.nanoTime();
+        TournamentStatistics statistics = runner.run(numberOfGames, masterSeed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d games in %.2f s (%.0f games/s) on %d threads%n", statistics.getNumberOfGames(),
+                seconds, statistics.getNumberOfGames() / seconds, runner.pool.getParallelism());
+        printContestant(statistics, 0, runner.first);
+        printContestant(statistics, 1, runner.second);
+    }
+
+    private static void printContestant(TournamentStatistics statistics, int contestant, Contestant details) {
+        double[] winRateInterval = statistics.getWinRateConfidenceInterval(contestant);
+        double[] meanInterval = statistics.getMeanShotsToWinConfidenceInterval(contestant);
+        System.out.printf("%s #%d: win rate %.4f [%.4f, %.4f], shots to win mean %.2f [%.2f, %.2f], "
+                        + "p50 %d, p90 %d, p99 %d%n",
+                details.name(), contestant + 1, statistics.getWinRate(contestant),
+                winRateInterval[0], winRateInterval[1],
+                statistics.getMeanShotsToWin(contestant), meanInterval[0], meanInterval[1],
+                statistics.getShotsToWinPercentile(contestant, 50),
+                statistics.getShotsToWinPercentile(contestant, 90),
+                statistics.getShotsToWinPercentile(contestant, 99));
+    }
+}
@@ -0,0 +1,91 @@
+package battleship.game.tournament;
+
+import java.util.Arrays;
+
+public class TournamentStatistics {
+    private static final double Z_95 = 1.959964;
+
+    private final long[] wins = new long[2];
+    private long[][] shotsToWinHistogram = new long[2][0];
+
+    void registerWin(int contestant, int shotsToWin) {
+        wins[contestant]++;
+        if (shotsToWin >= shotsToWinHistogram[contestant].length) {
+            shotsToWinHistogram[contestant] = Arrays.copyOf(shotsToWinHistogram[contestant], shotsToWin + 1);
+        }
+        shotsToWinHistogram[contestant][shotsToWin]++;
+    }
+
+    TournamentStatistics merge(TournamentStatistics other) {
+        for (int contestant = 0; contestant < 2; contestant++) {
+            wins[contestant] += other.wins[contestant];
+            long[] otherHistogram = other.shotsToWinHistogram[contestant];
+            if (otherHistogram.length > shotsToWinHistogram[contestant].length) {
+                shotsToWinHistogram[contestant] = Arrays.copyOf(shotsToWinHistogram[contestant],
+                        otherHistogram.length);
+            }
+            for (int i = 0; i < otherHistogram.length; i++) {
+                shotsToWinHistogram[contestant][i] += otherHistogram[i];
+            }
+        }
+        return this;
+    }
+
+    public long getNumberOfGames() {
+        return wins[0] + wins[1];
+    }
+
+    public long getWins(int contestant) {
+        return wins[contestant];
+    }
+
+    public double getWinRate(int contestant) {
+        return getNumberOfGames() == 0 ? 0 : (double) wins[contestant] / getNumberOfGames();
+    }
+
+    public double[] getWinRateConfidenceInterval(int contestant) {
+        double n = getNumberOfGames();
+        if (n == 0) {
+            return new double[] {0, 1};
+        }
+        double p = getWinRate(contestant);
+        double denominator = 1 + Z_95 * Z_95 / n;
+        double centre = (p + Z_95 * Z_95 / (2 * n)) / denominator;
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / n + Z_95 * Z_95 / (4 * n * n)) / denominator;
+        return new double[] {centre - margin, centre + margin};
+    }
+
+    public double getMeanShotsToWin(int contestant) {
+        double sum = 0;
+        long[] histogram = shotsToWinHistogram[contestant];
+        for (int shots = 0; shots < histogram.length; shots++) {
+            sum += (double) shots * histogram[shots];
+        }
+        return wins[contestant] == 0 ? 0 : sum / wins[contestant];
+    }
+
+    public double[] getMeanShotsToWinConfidenceInterval(int contestant) {
+        double mean = getMeanShotsToWin(contestant);
+        double squaredDeviations = 0;
+        long[] histogram = shotsToWinHistogram[contestant];
+        for (int shots = 0; shots < histogram.length; shots++) {
+            squaredDeviations += (shots - mean) * (shots - mean) * histogram[shots];
+        }
+        double margin = wins[contestant] < 2 ? 0
+                : Z_95 * Math.sqrt(squaredDeviations / (wins[contestant] - 1) / wins[contestant]);
+        return new double[] {mean - margin, mean + margin};
+    }
+
+    public int getShotsToWinPercentile(int contestant, double percentile) {
+        long rank = (long) Math.ceil(percentile / 100 * wins[contestant]);
+        long seen = 0;
+        long[] histogram = shotsToWinHistogram[contestant];
+        for (int shots = 0; shots < histogram.length; shots++) {
+            seen += histogram[shots];
+            if (seen >= rank && seen > 0) {
+                return shots;
+            }
+        }
+        return 0;
+    }
+}
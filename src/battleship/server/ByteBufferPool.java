@@ -0,0 +1,42 @@
+package battleship.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+class ByteBufferPool {
+    private final int bufferSize;
+    private final int maximumPooledBuffers;
+    private final ArrayDeque<ByteBuffer> pooledBuffers = new ArrayDeque<>();
+    private long allocatedBytes = 0;
+
+    ByteBufferPool(int bufferSize, int maximumPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.maximumPooledBuffers = maximumPooledBuffers;
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = pooledBuffers.pollFirst();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+            allocatedBytes += bufferSize;
+        }
+        return buffer;
+    }
+
+    void release(ByteBuffer buffer) {
+        if (pooledBuffers.size() < maximumPooledBuffers) {
+            buffer.clear();
+            pooledBuffers.addFirst(buffer);
+        } else {
+            allocatedBytes -= bufferSize;
+        }
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+}
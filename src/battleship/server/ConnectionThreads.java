@@ -0,0 +1,55 @@
+package battleship.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ConnectionThreads {
+    private static final long PLATFORM_THREAD_STACK_SIZE = 256 * 1024;
+
+    private ConnectionThreads() {
+
+    }
+
+    public static ThreadFactory newFactory(String namePrefix) {
+        ThreadFactory virtualThreadFactory = newVirtualThreadFactory(namePrefix);
+        return virtualThreadFactory != null ? virtualThreadFactory : newPlatformThreadFactory(namePrefix);
+    }
+
+    public static boolean isVirtual(ThreadFactory threadFactory) {
+        return !(threadFactory instanceof PlatformThreadFactory);
+    }
+
+    private static ThreadFactory newVirtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Method name = builderType.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, namePrefix + "-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory newPlatformThreadFactory(String namePrefix) {
+        return new PlatformThreadFactory(namePrefix);
+    }
+
+    private static final class PlatformThreadFactory implements ThreadFactory {
+        private final String namePrefix;
+        private final AtomicLong threadNumber = new AtomicLong();
+
+        private PlatformThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(null, task, namePrefix + "-" + threadNumber.getAndIncrement(),
+                    PLATFORM_THREAD_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package battleship.server;
+
+import battleship.game.engine.GameEngine;
+import battleship.game.engine.GameResult;
+import battleship.game.metrics.GameMetrics;
+import battleship.game.rules.GameRules;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static battleship.server.Protocol.*;
+
+public class GameServer implements Closeable {
+    public static final int DEFAULT_PORT = 7878;
+    private static final int ACCEPT_BACKLOG = 4096;
+    private static final int IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000;
+
+    private final GameRules rules;
+    private final ServerSocket serverSocket;
+    private final ThreadFactory connectionThreads = ConnectionThreads.newFactory("battleship-connection");
+    private final Matchmaker matchmaker = new Matchmaker();
+    private final AtomicInteger activeMatches = new AtomicInteger();
+    private final AtomicInteger peakActiveMatches = new AtomicInteger();
+    private final LongAdder finishedMatches = new LongAdder();
+    private final LongAdder abandonedMatches = new LongAdder();
+
+    public GameServer(GameRules rules, int port) throws IOException {
+        this.rules = rules;
+        this.serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(port), ACCEPT_BACKLOG);
+    }
+
+    public void start() {
+        Thread acceptor = new Thread(this::acceptConnections, "battleship-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public boolean isUsingVirtualThreads() {
+        return ConnectionThreads.isVirtual(connectionThreads);
+    }
+
+    public int getActiveMatches() {
+        return activeMatches.get();
+    }
+
+    public int getPeakActiveMatches() {
+        return peakActiveMatches.get();
+    }
+
+    public long getFinishedMatches() {
+        return finishedMatches.sum();
+    }
+
+    public long getAbandonedMatches() {
+        return abandonedMatches.sum();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connectionThreads.newThread(() -> handleConnection(socket)).start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Could not accept a connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handleConnection(Socket socket) {
+        RemotePlayer player;
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+            player = new RemotePlayer(socket);
+            player.send(WAITING);
+            player.flush();
+        } catch (IOException | UncheckedIOException e) {
+            closeQuietly(socket);
+            return;
+        }
+        try {
+            findMatch(player);
+            player.awaitMatchFinished();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            matchmaker.withdraw(player);
+            player.close();
+        }
+    }
+
+    private void findMatch(RemotePlayer player) throws InterruptedException {
+        RemotePlayer waiting = matchmaker.findOpponent(player);
+        if (waiting != null) {
+            waiting.offerOpponent(player);
+            return;
+        }
+        RemotePlayer opponent = player.awaitOpponent();
+        if (opponent != null) {
+            playMatch(player, opponent);
+            return;
+        }
+        if (matchmaker.withdraw(player)) {
+            player.close();
+            return;
+        }
+        opponent = player.takeOfferedOpponent();
+        player.close();
+        findMatch(opponent);
+    }
+
+    private void playMatch(RemotePlayer player1, RemotePlayer player2) {
+        peakActiveMatches.accumulateAndGet(activeMatches.incrementAndGet(), Math::max);
+        try {
+            player1.onMatchStarted(1, player2, rules);
+            player2.onMatchStarted(2, player1, rules);
+            GameResult result = new GameEngine(rules, false).play(player1, player2, player1, player2);
+            RemotePlayer winner = result.getWinner() == 1 ? player1 : player2;
+            RemotePlayer loser = result.getWinner() == 1 ? player2 : player1;
+            winner.send(WIN);
+            winner.flush();
+            loser.send(LOSE);
+            loser.flush();
+            finishedMatches.increment();
+        } catch (UncheckedIOException e) {
+            abandonedMatches.increment();
+            notifyOpponentLeft(player1);
+            notifyOpponentLeft(player2);
+        } finally {
+            activeMatches.decrementAndGet();
+            player1.close();
+            player2.close();
+        }
+    }
+
+    private static void notifyOpponentLeft(RemotePlayer player) {
+        try {
+            player.send(OPPONENT_LEFT);
+            player.flush();
+        } catch (UncheckedIOException ignored) {
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        GameMetrics.install();
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameServer server = new GameServer(GameRules.STANDARD, port);
+        server.start();
+        System.out.printf("Battleship server listening on port %d (%s threads)%n", server.getPort(),
+                server.isUsingVirtualThreads() ? "virtual" : "platform");
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,176 @@
+package battleship.server;
+
+import battleship.game.engine.strategy.FleetGenerator;
+import battleship.game.rules.GameRules;
+import battleship.game.square.CoordinateCodec;
+import battleship.util.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import static battleship.server.Protocol.*;
+
+public class LoadTestClient {
+    private final String host;
+    private final int port;
+    private final GameRules rules;
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+    private final LongAdder finishedConnections = new LongAdder();
+    private final LongAdder failedConnections = new LongAdder();
+
+    public LoadTestClient(String host, int port, GameRules rules) {
+        this.host = host;
+        this.port = port;
+        this.rules = rules;
+    }
+
+    public void run(int numberOfMatches, long seed) throws InterruptedException {
+        ThreadFactory botThreads = ConnectionThreads.newFactory("battleship-bot");
+        CountDownLatch connected = new CountDownLatch(2 * numberOfMatches);
+        CountDownLatch startPlaying = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2 * numberOfMatches);
+        SplittableRandom masterRandom = new SplittableRandom(seed);
+        for (int i = 0; i < 2 * numberOfMatches; i++) {
+            SplittableRandom random = masterRandom.split();
+            botThreads.newThread(() -> {
+                try {
+                    Socket socket = connect(connected);
+                    startPlaying.await();
+                    playMatch(socket, random);
+                    finishedConnections.increment();
+                } catch (IOException | RuntimeException e) {
+                    failedConnections.increment();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failedConnections.increment();
+                } catch (Error e) {
+                    failedConnections.increment();
+                    throw e;
+                } finally {
+                    finished.countDown();
+                }
+            }).start();
+        }
+        connected.await();
+        startPlaying.countDown();
+        finished.await();
+    }
+
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    public long getFinishedConnections() {
+        return finishedConnections.sum();
+    }
+
+    public long getFailedConnections() {
+        return failedConnections.sum();
+    }
+
+    private Socket connect(CountDownLatch connected) throws IOException {
+        try {
+            Socket socket = new Socket(host, port);
+            socket.setTcpNoDelay(true);
+            return socket;
+        } finally {
+            connected.countDown();
+        }
+    }
+
+    private void playMatch(Socket socket, SplittableRandom random) throws IOException {
+        try (socket) {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            BufferedWriter writer = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+            CoordinateCodec codec = rules.getCoordinateCodec();
+            int[] frontCells = new int[rules.getNumberOfShips()];
+            int[] rearCells = new int[rules.getNumberOfShips()];
+            new FleetGenerator(rules.getGridSize(), rules.getFleet()).generate(random, frontCells, rearCells);
+            int[] shotOrder = createShotOrder(rules.getNumberOfCells(), random);
+            int nextShip = 0;
+            int nextShot = 0;
+            long shotSentAt = -1;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(PLACE)) {
+                    send(writer, codec.format(frontCells[nextShip]) + SEPARATOR + codec.format(rearCells[nextShip]));
+                    nextShip++;
+                } else if (line.equals(TURN)) {
+                    shotSentAt = System.nanoTime();
+                    send(writer, codec.format(shotOrder[nextShot++]));
+                } else if (line.startsWith(RESULT) && shotSentAt >= 0) {
+                    moveLatency.record(System.nanoTime() - shotSentAt);
+                    shotSentAt = -1;
+                } else if (line.equals(WIN) || line.equals(LOSE)) {
+                    return;
+                } else if (line.equals(OPPONENT_LEFT) || line.startsWith(ERROR)) {
+                    throw new IOException("Match ended unexpectedly: " + line);
+                }
+            }
+            throw new IOException("Connection closed before the match ended");
+        }
+    }
+
+    private static void send(BufferedWriter writer, String message) throws IOException {
+        writer.write(message);
+        writer.write(END_OF_LINE);
+        writer.flush();
+    }
+
+    private static int[] createShotOrder(int numberOfCells, SplittableRandom random) {
+        int[] shotOrder = new int[numberOfCells];
+        for (int i = 0; i < numberOfCells; i++) {
+            int j = random.nextInt(i + 1);
+            shotOrder[i] = shotOrder[j];
+            shotOrder[j] = i;
+        }
+        return shotOrder;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int numberOfMatches = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        String host = args.length > 1 ? args[1] : null;
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : GameServer.DEFAULT_PORT;
+        GameServer embeddedServer = null;
+        if (host == null) {
+            embeddedServer = new GameServer(GameRules.STANDARD, 0);
+            embeddedServer.start();
+            host = "localhost";
+            port = embeddedServer.getPort();
+        }
+
+        LoadTestClient client = new LoadTestClient(host, port, GameRules.STANDARD);
+        long start = System.nanoTime();
+        client.run(numberOfMatches, 0);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        LatencyHistogram latency = client.getMoveLatency();
+        System.out.printf("%d matches, %d connections finished, %d failed in %.2f s (%s threads)%n",
+                numberOfMatches, client.getFinishedConnections(), client.getFailedConnections(), seconds,
+                ConnectionThreads.isVirtual(ConnectionThreads.newFactory("probe")) ? "virtual" : "platform");
+        System.out.printf("%d moves (%.0f moves/s), latency us: mean %.1f, p50 %.1f, p90 %.1f, p99 %.1f, "
+                        + "p99.9 %.1f, max %.1f%n",
+                latency.getCount(), latency.getCount() / seconds, latency.getMean() / 1e3,
+                latency.getValueAtPercentile(50) / 1e3, latency.getValueAtPercentile(90) / 1e3,
+                latency.getValueAtPercentile(99) / 1e3, latency.getValueAtPercentile(99.9) / 1e3,
+                latency.getMax() / 1e3);
+        if (embeddedServer != null) {
+            System.out.printf("Server: peak %d concurrent matches, %d finished, %d abandoned%n",
+                    embeddedServer.getPeakActiveMatches(), embeddedServer.getFinishedMatches(),
+                    embeddedServer.getAbandonedMatches());
+            embeddedServer.close();
+        }
+    }
+}
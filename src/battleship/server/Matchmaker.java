@@ -0,0 +1,24 @@
+package battleship.server;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+class Matchmaker {
+    private final AtomicReference<RemotePlayer> waitingPlayer = new AtomicReference<>();
+
+    RemotePlayer findOpponent(RemotePlayer player) {
+        while (true) {
+            RemotePlayer waiting = waitingPlayer.get();
+            if (waiting == null) {
+                if (waitingPlayer.compareAndSet(null, player)) {
+                    return null;
+                }
+            } else if (waitingPlayer.compareAndSet(waiting, null)) {
+                return waiting;
+            }
+        }
+    }
+
+    boolean withdraw(RemotePlayer player) {
+        return waitingPlayer.compareAndSet(player, null);
+    }
+}
@@ -0,0 +1,157 @@
+package battleship.server;
+
+import battleship.game.engine.GameSession;
+import battleship.game.spectator.SpectatorFeed;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+
+class NioConnection {
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteBufferPool bufferPool;
+    private final ByteBuffer input;
+    private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>(2);
+    private final boolean isSpectator;
+    private GameSession session;
+    private int matchNumber;
+    private int playerNumber;
+    private NioConnection opponent;
+    private SpectatorFeed.Subscription subscription;
+    private boolean isClosingAfterFlush = false;
+    private boolean isClosed = false;
+
+    NioConnection(SocketChannel channel, SelectionKey key, ByteBufferPool bufferPool, int inputBufferSize) {
+        this(channel, key, bufferPool, inputBufferSize, false);
+    }
+
+    NioConnection(SocketChannel channel, SelectionKey key, ByteBufferPool bufferPool, int inputBufferSize,
+                  boolean isSpectator) {
+        this.channel = channel;
+        this.key = key;
+        this.bufferPool = bufferPool;
+        this.input = ByteBuffer.allocate(inputBufferSize);
+        this.isSpectator = isSpectator;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    ByteBuffer getInput() {
+        return input;
+    }
+
+    GameSession getSession() {
+        return session;
+    }
+
+    int getMatchNumber() {
+        return matchNumber;
+    }
+
+    boolean isSpectator() {
+        return isSpectator;
+    }
+
+    int getPlayerNumber() {
+        return playerNumber;
+    }
+
+    NioConnection getOpponent() {
+        return opponent;
+    }
+
+    void joinSession(GameSession session, int matchNumber, int playerNumber, NioConnection opponent) {
+        this.session = session;
+        this.matchNumber = matchNumber;
+        this.playerNumber = playerNumber;
+        this.opponent = opponent;
+    }
+
+    void spectate(GameSession session, int matchNumber) {
+        this.session = session;
+        this.matchNumber = matchNumber;
+        this.subscription = session.getSpectatorFeed().subscribe();
+    }
+
+    boolean isWatching() {
+        return subscription != null;
+    }
+
+    boolean isClosed() {
+        return isClosed;
+    }
+
+    void closeAfterFlush() {
+        isClosingAfterFlush = true;
+    }
+
+    ByteBuffer reserve(int numberOfBytes) {
+        ByteBuffer tail = output.peekLast();
+        if (tail == null || tail.remaining() < numberOfBytes) {
+            tail = bufferPool.acquire();
+            output.addLast(tail);
+        }
+        return tail;
+    }
+
+    void write(byte[] message) {
+        int offset = 0;
+        while (offset < message.length) {
+            ByteBuffer tail = reserve(1);
+            int numberOfBytes = Math.min(tail.remaining(), message.length - offset);
+            tail.put(message, offset, numberOfBytes);
+            offset += numberOfBytes;
+        }
+    }
+
+    void flush() throws IOException {
+        while (!output.isEmpty() || drainFrames()) {
+            ByteBuffer head = output.peekFirst();
+            head.flip();
+            channel.write(head);
+            if (head.hasRemaining()) {
+                head.compact();
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                return;
+            }
+            bufferPool.release(output.pollFirst());
+        }
+        key.interestOps(SelectionKey.OP_READ);
+        if (isClosingAfterFlush) {
+            close();
+        }
+    }
+
+    private boolean drainFrames() {
+        if (subscription == null) {
+            return false;
+        }
+        ByteBuffer buffer = bufferPool.acquire();
+        if (subscription.drainTo(buffer) == 0) {
+            bufferPool.release(buffer);
+            return false;
+        }
+        output.addLast(buffer);
+        return true;
+    }
+
+    void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        while (!output.isEmpty()) {
+            bufferPool.release(output.pollFirst());
+        }
+    }
+}
@@ -0,0 +1,567 @@
+package battleship.server;
+
+import battleship.game.engine.GameSession;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.grid.printer.GameGridRenderer;
+import battleship.game.grid.printer.GameGridViewPerspective;
+import battleship.game.metrics.GameMetrics;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+import battleship.game.square.CoordinateCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import static battleship.server.Protocol.*;
+import static battleship.util.Constants.GameGridPrinterConstants.*;
+
+public class NioGameServer implements Closeable {
+    public static final int DEFAULT_PORT = 7879;
+    private static final int ACCEPT_BACKLOG = 4096;
+    private static final int INPUT_BUFFER_SIZE = 128;
+    private static final int OUTPUT_BUFFER_SIZE = 4096;
+    private static final int MAXIMUM_POOLED_BUFFERS = 1024;
+    private static final int MAXIMUM_NUMBER_LENGTH = 10;
+    private static final byte[] WAITING_MESSAGE = toMessage(WAITING);
+    private static final byte[] START_MESSAGE = toMessage(START);
+    private static final byte[] TURN_MESSAGE = toMessage(TURN);
+    private static final byte[] WIN_MESSAGE = toMessage(WIN);
+    private static final byte[] LOSE_MESSAGE = toMessage(LOSE);
+    private static final byte[] OPPONENT_LEFT_MESSAGE = toMessage(OPPONENT_LEFT);
+    private static final byte[] WRONG_SIZE_ERROR = toError(WRONG_SIZE);
+    private static final byte[] WRONG_FORMAT_ERROR = toError(WRONG_FORMAT);
+    private static final byte[] NOT_SAME_LANE_OR_COLUMN_ERROR = toError(NOT_SAME_LANE_OR_COLUMN);
+    private static final byte[] WRONG_SHIP_SIZE_ERROR = toError(WRONG_SHIP_SIZE);
+    private static final byte[] NOT_YOUR_TURN_ERROR = toError(NOT_YOUR_TURN);
+    private static final byte[] NO_MATCH_ERROR = toError(NO_MATCH);
+    private static final byte[] LINE_TOO_LONG_ERROR = toError(LINE_TOO_LONG);
+    private static final byte[] BOARD_COMMAND = BOARD.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SPECTATE_COMMAND = SPECTATE.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SPECTATING_PREFIX = (SPECTATING + SEPARATOR).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SHOT_PREFIX = (SHOT + SEPARATOR).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BOARD_PREFIX = (BOARD + SEPARATOR).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] RESULT_MESSAGES = new byte[GridModificationResult.values().length][];
+    private static final byte[][] RESULT_SUFFIXES = new byte[GridModificationResult.values().length][];
+    private static final byte[][] PLACE_MESSAGES = new byte[ShipType.values().length][];
+
+    static {
+        for (GridModificationResult result : GridModificationResult.values()) {
+            RESULT_MESSAGES[result.ordinal()] = toMessage(RESULT + SEPARATOR + result.name());
+            RESULT_SUFFIXES[result.ordinal()] = toMessage(SEPARATOR + result.name());
+        }
+        for (ShipType shipType : ShipType.values()) {
+            PLACE_MESSAGES[shipType.ordinal()] =
+                    toMessage(PLACE + SEPARATOR + shipType.name() + SEPARATOR + shipType.getSize());
+        }
+    }
+
+    private final GameRules rules;
+    private final CoordinateCodec codec;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ServerSocketChannel spectatorChannel;
+    private final ByteBufferPool bufferPool = new ByteBufferPool(OUTPUT_BUFFER_SIZE, MAXIMUM_POOLED_BUFFERS);
+    private final GameGridRenderer renderer = new GameGridRenderer();
+    private final byte[][] matchMessages = new byte[2][];
+    private final HashMap<Integer, GameSession> activeSessions = new HashMap<>();
+    private final HashMap<GameSession, ArrayList<NioConnection>> spectators = new HashMap<>();
+    private NioConnection waitingConnection;
+    private int startedMatches = 0;
+    private volatile boolean isRunning = true;
+    private volatile int openConnections = 0;
+    private volatile int activeMatches = 0;
+    private volatile long finishedMatches = 0;
+    private volatile long abandonedMatches = 0;
+
+    public NioGameServer(GameRules rules, int port) throws IOException {
+        this(rules, port, -1);
+    }
+
+    public NioGameServer(GameRules rules, int port, int spectatorPort) throws IOException {
+        this.rules = rules;
+        this.codec = rules.getCoordinateCodec();
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), ACCEPT_BACKLOG);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        if (spectatorPort >= 0) {
+            this.spectatorChannel = ServerSocketChannel.open();
+            spectatorChannel.bind(new InetSocketAddress(spectatorPort), ACCEPT_BACKLOG);
+            spectatorChannel.configureBlocking(false);
+            spectatorChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } else {
+            this.spectatorChannel = null;
+        }
+        for (int player = 1; player <= 2; player++) {
+            matchMessages[player - 1] = toMessage(MATCH + SEPARATOR + player + SEPARATOR + rules.getGridSize());
+        }
+    }
+
+    public void start() {
+        Thread eventLoop = new Thread(this::runEventLoop, "battleship-event-loop");
+        eventLoop.setDaemon(true);
+        eventLoop.start();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public int getSpectatorPort() {
+        return spectatorChannel == null ? -1 : spectatorChannel.socket().getLocalPort();
+    }
+
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    public int getActiveMatches() {
+        return activeMatches;
+    }
+
+    public long getFinishedMatches() {
+        return finishedMatches;
+    }
+
+    public long getAbandonedMatches() {
+        return abandonedMatches;
+    }
+
+    public long getPooledDirectMemory() {
+        return bufferPool.getAllocatedBytes();
+    }
+
+    private void runEventLoop() {
+        while (isRunning) {
+            try {
+                selector.select();
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handleKey(key);
+                }
+            } catch (IOException e) {
+                if (isRunning) {
+                    System.err.println("Event loop failure: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            acceptConnections((ServerSocketChannel) key.channel());
+            return;
+        }
+        NioConnection connection = (NioConnection) key.attachment();
+        try {
+            if (key.isWritable()) {
+                flushOrDisconnect(connection);
+            }
+            if (key.isValid() && key.isReadable()) {
+                readLines(connection);
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void acceptConnections(ServerSocketChannel acceptingChannel) {
+        boolean isSpectator = acceptingChannel == spectatorChannel;
+        try {
+            SocketChannel channel;
+            while ((channel = acceptingChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                NioConnection connection = new NioConnection(channel, key, bufferPool, INPUT_BUFFER_SIZE, isSpectator);
+                key.attach(connection);
+                openConnections++;
+                if (!isSpectator) {
+                    connection.write(WAITING_MESSAGE);
+                    matchOrWait(connection);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not accept a connection: " + e.getMessage());
+        }
+    }
+
+    private void matchOrWait(NioConnection connection) {
+        NioConnection opponent = waitingConnection;
+        if (opponent == null || opponent.isClosed()) {
+            waitingConnection = connection;
+            flushOrDisconnect(connection);
+            return;
+        }
+        waitingConnection = null;
+        GameSession session = new GameSession(rules);
+        int matchNumber = ++startedMatches;
+        opponent.joinSession(session, matchNumber, 1, connection);
+        connection.joinSession(session, matchNumber, 2, opponent);
+        activeSessions.put(matchNumber, session);
+        activeMatches++;
+        startPlacement(opponent, session);
+        startPlacement(connection, session);
+    }
+
+    private void startPlacement(NioConnection connection, GameSession session) {
+        connection.write(matchMessages[connection.getPlayerNumber() - 1]);
+        connection.write(PLACE_MESSAGES[session.getNextShipType(connection.getPlayerNumber()).ordinal()]);
+        flushOrDisconnect(connection);
+    }
+
+    private void readLines(NioConnection connection) throws IOException {
+        ByteBuffer input = connection.getInput();
+        int scanFrom = input.position();
+        if (connection.getChannel().read(input) < 0) {
+            disconnect(connection);
+            return;
+        }
+        int lineStart = 0;
+        for (int i = scanFrom; i < input.position() && !connection.isClosed(); i++) {
+            if (input.get(i) == END_OF_LINE) {
+                int lineEnd = i > lineStart && input.get(i - 1) == '\r' ? i - 1 : i;
+                handleLine(connection, input, lineStart, lineEnd);
+                lineStart = i + 1;
+            }
+        }
+        if (connection.isClosed()) {
+            return;
+        }
+        int unreadBytes = input.position() - lineStart;
+        if (unreadBytes == input.capacity()) {
+            connection.write(LINE_TOO_LONG_ERROR);
+            connection.closeAfterFlush();
+            flushOrDisconnect(connection);
+            return;
+        }
+        for (int i = 0; i < unreadBytes; i++) {
+            input.put(i, input.get(lineStart + i));
+        }
+        input.position(unreadBytes);
+    }
+
+    private void handleLine(NioConnection connection, ByteBuffer line, int from, int to) {
+        GameSession session = connection.getSession();
+        int player = connection.getPlayerNumber();
+        if (connection.isSpectator()) {
+            handleSpectate(connection, line, from, to);
+        } else if (session == null) {
+            connection.write(NO_MATCH_ERROR);
+        } else if (isBoardCommand(line, from, to)) {
+            sendBoard(connection, session, player);
+        } else if (session.getPhase() == GameSession.Phase.PLACEMENT && session.hasShipsToPlace(player)) {
+            handlePlacement(connection, session, player, line, from, to);
+        } else if (session.getPhase() == GameSession.Phase.SHOOTING && session.getCurrentPlayer() == player) {
+            handleShot(connection, session, player, line, from, to);
+        } else {
+            connection.write(NOT_YOUR_TURN_ERROR);
+        }
+        flushOrDisconnect(connection);
+    }
+
+    private void handlePlacement(NioConnection connection, GameSession session, int player,
+                                 ByteBuffer line, int from, int to) {
+        int separator = -1;
+        for (int i = from; i < to; i++) {
+            if (line.get(i) == SEPARATOR) {
+                if (separator >= 0) {
+                    separator = -1;
+                    break;
+                }
+                separator = i;
+            }
+        }
+        if (separator <= from || separator == to - 1) {
+            connection.write(WRONG_SIZE_ERROR);
+            return;
+        }
+        long startTime = GameMetrics.startTimer();
+        int frontCell = codec.parse(line, from, separator);
+        int rearCell = codec.parse(line, separator + 1, to);
+        GameMetrics.stopTimer(GameMetrics.Timer.INPUT_PARSING, startTime);
+        ShipType shipType = session.getNextShipType(player);
+        if (frontCell == CoordinateCodec.INVALID_FORMAT || rearCell == CoordinateCodec.INVALID_FORMAT) {
+            connection.write(WRONG_FORMAT_ERROR);
+            return;
+        } else if (frontCell >= 0 && rearCell >= 0) {
+            if (isDiagonal(frontCell, rearCell)) {
+                connection.write(NOT_SAME_LANE_OR_COLUMN_ERROR);
+                return;
+            } else if (getShipSize(frontCell, rearCell) != shipType.getSize()) {
+                connection.write(WRONG_SHIP_SIZE_ERROR);
+                return;
+            }
+        }
+        GridModificationResult result = session.placeShip(player, frontCell, rearCell);
+        connection.write(RESULT_MESSAGES[result.ordinal()]);
+        if (result == GridModificationResult.SHIP_PLACED) {
+            flushSpectators(session, false);
+        }
+        if (session.hasShipsToPlace(player)) {
+            connection.write(PLACE_MESSAGES[session.getNextShipType(player).ordinal()]);
+        } else if (session.getPhase() == GameSession.Phase.SHOOTING) {
+            NioConnection opponent = connection.getOpponent();
+            connection.write(START_MESSAGE);
+            opponent.write(START_MESSAGE);
+            (session.getCurrentPlayer() == player ? connection : opponent).write(TURN_MESSAGE);
+            flushOrDisconnect(opponent);
+        }
+    }
+
+    private void handleShot(NioConnection connection, GameSession session, int player,
+                            ByteBuffer line, int from, int to) {
+        long startTime = GameMetrics.startTimer();
+        int cellIndex = codec.parse(line, from, to);
+        GameMetrics.stopTimer(GameMetrics.Timer.INPUT_PARSING, startTime);
+        if (cellIndex == CoordinateCodec.INVALID_FORMAT) {
+            connection.write(WRONG_FORMAT_ERROR);
+            return;
+        }
+        GridModificationResult result = session.shoot(player, cellIndex);
+        connection.write(RESULT_MESSAGES[result.ordinal()]);
+        if (result == GridModificationResult.OUT_OF_GAME_GRID) {
+            return;
+        }
+        NioConnection opponent = connection.getOpponent();
+        writeShot(opponent, cellIndex, result);
+        if (result == GridModificationResult.WINNER) {
+            connection.write(WIN_MESSAGE);
+            opponent.write(LOSE_MESSAGE);
+            connection.closeAfterFlush();
+            opponent.closeAfterFlush();
+            activeSessions.remove(connection.getMatchNumber());
+            flushSpectators(session, true);
+            activeMatches--;
+            finishedMatches++;
+        } else {
+            flushSpectators(session, false);
+            opponent.write(TURN_MESSAGE);
+        }
+        flushOrDisconnect(opponent);
+    }
+
+    private void writeShot(NioConnection connection, int cellIndex, GridModificationResult result) {
+        byte[] suffix = RESULT_SUFFIXES[result.ordinal()];
+        ByteBuffer buffer = connection.reserve(SHOT_PREFIX.length + MAXIMUM_NUMBER_LENGTH * 2 + suffix.length);
+        buffer.put(SHOT_PREFIX);
+        codec.formatTo(cellIndex, buffer);
+        buffer.put(suffix);
+    }
+
+    private void sendBoard(NioConnection connection, GameSession session, int player) {
+        renderer.reset()
+                .appendView(session.getEnemyGrid(player), GameGridViewPerspective.ENEMY_PERSPECTIVE)
+                .appendNewLine()
+                .appendLine(GAME_GRIDS_SEPARATOR)
+                .appendView(session.getOwnGrid(player), GameGridViewPerspective.ALLY_PERSPECTIVE)
+                .appendNewLine();
+        ByteBuffer header = connection.reserve(BOARD_PREFIX.length + MAXIMUM_NUMBER_LENGTH + 1);
+        header.put(BOARD_PREFIX);
+        putNumber(header, renderer.length());
+        header.put((byte) END_OF_LINE);
+        int written = 0;
+        while (written < renderer.length()) {
+            written += renderer.writeTo(connection.reserve(1), written);
+        }
+    }
+
+    private void handleSpectate(NioConnection connection, ByteBuffer line, int from, int to) {
+        if (connection.isWatching() || !startsWith(line, from, to, SPECTATE_COMMAND)) {
+            connection.write(WRONG_FORMAT_ERROR);
+            return;
+        }
+        int matchNumber = startedMatches;
+        if (to - from > SPECTATE_COMMAND.length) {
+            matchNumber = parseNumber(line, from + SPECTATE_COMMAND.length + 1, to);
+            if (line.get(from + SPECTATE_COMMAND.length) != SEPARATOR || matchNumber < 0) {
+                connection.write(WRONG_FORMAT_ERROR);
+                return;
+            }
+        }
+        GameSession session = activeSessions.get(matchNumber);
+        if (session == null) {
+            connection.write(NO_MATCH_ERROR);
+            return;
+        }
+        ByteBuffer header = connection.reserve(SPECTATING_PREFIX.length + MAXIMUM_NUMBER_LENGTH + 1);
+        header.put(SPECTATING_PREFIX);
+        putNumber(header, matchNumber);
+        header.put((byte) END_OF_LINE);
+        connection.spectate(session, matchNumber);
+        spectators.computeIfAbsent(session, watchedSession -> new ArrayList<>()).add(connection);
+    }
+
+    private void flushSpectators(GameSession session, boolean isFinished) {
+        ArrayList<NioConnection> watchers = spectators.get(session);
+        if (watchers == null) {
+            return;
+        }
+        if (isFinished) {
+            spectators.remove(session);
+        }
+        for (int i = watchers.size() - 1; i >= 0; i--) {
+            NioConnection watcher = watchers.get(i);
+            if (isFinished) {
+                watcher.closeAfterFlush();
+            }
+            flushOrDisconnect(watcher);
+        }
+    }
+
+    private void abandonSpectators(GameSession session) {
+        ArrayList<NioConnection> watchers = spectators.remove(session);
+        if (watchers == null) {
+            return;
+        }
+        for (NioConnection watcher : watchers) {
+            watcher.write(OPPONENT_LEFT_MESSAGE);
+            watcher.closeAfterFlush();
+            flushOrDisconnect(watcher);
+        }
+    }
+
+    private void flushOrDisconnect(NioConnection connection) {
+        if (connection.isClosed()) {
+            return;
+        }
+        try {
+            connection.flush();
+            if (connection.isClosed()) {
+                openConnections--;
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void disconnect(NioConnection connection) {
+        if (connection.isClosed()) {
+            return;
+        }
+        connection.close();
+        openConnections--;
+        if (waitingConnection == connection) {
+            waitingConnection = null;
+        }
+        GameSession session = connection.getSession();
+        if (connection.isSpectator()) {
+            ArrayList<NioConnection> watchers = spectators.get(session);
+            if (watchers != null) {
+                watchers.remove(connection);
+            }
+            return;
+        }
+        NioConnection opponent = connection.getOpponent();
+        if (session != null && session.getPhase() != GameSession.Phase.FINISHED && !opponent.isClosed()) {
+            activeSessions.remove(connection.getMatchNumber());
+            abandonSpectators(session);
+            activeMatches--;
+            abandonedMatches++;
+            opponent.write(OPPONENT_LEFT_MESSAGE);
+            opponent.closeAfterFlush();
+            flushOrDisconnect(opponent);
+        }
+    }
+
+    private boolean isBoardCommand(ByteBuffer line, int from, int to) {
+        return to - from == BOARD_COMMAND.length && startsWith(line, from, to, BOARD_COMMAND);
+    }
+
+    private static boolean startsWith(ByteBuffer line, int from, int to, byte[] prefix) {
+        if (to - from < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (line.get(from + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parseNumber(ByteBuffer line, int from, int to) {
+        if (from >= to || to - from > MAXIMUM_NUMBER_LENGTH - 1) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            byte digit = line.get(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            number = number * 10 + digit - '0';
+        }
+        return number;
+    }
+
+    private boolean isDiagonal(int frontCell, int rearCell) {
+        int gridSize = rules.getGridSize();
+        return frontCell / gridSize != rearCell / gridSize && frontCell % gridSize != rearCell % gridSize;
+    }
+
+    private int getShipSize(int frontCell, int rearCell) {
+        int gridSize = rules.getGridSize();
+        return Math.max(
+                Math.abs(frontCell / gridSize - rearCell / gridSize),
+                Math.abs(frontCell % gridSize - rearCell % gridSize)
+        ) + 1;
+    }
+
+    private static void putNumber(ByteBuffer buffer, int number) {
+        int divisor = 1;
+        while (divisor <= number / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + number / divisor % 10));
+        }
+    }
+
+    private static byte[] toError(String code) {
+        return toMessage(ERROR + SEPARATOR + code);
+    }
+
+    private static byte[] toMessage(String message) {
+        return (message + END_OF_LINE).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public void close() throws IOException {
+        isRunning = false;
+        selector.wakeup();
+        serverChannel.close();
+        if (spectatorChannel != null) {
+            spectatorChannel.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        GameMetrics.install();
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int spectatorPort = args.length > 1 ? Integer.parseInt(args[1]) : -1;
+        NioGameServer server = new NioGameServer(GameRules.STANDARD, port, spectatorPort);
+        server.start();
+        System.out.printf("Battleship NIO server listening on port %d%n", server.getPort());
+        if (spectatorPort >= 0) {
+            System.out.printf("Spectators can connect on port %d%n", server.getSpectatorPort());
+        }
+        Thread.currentThread().join();
+    }
+}
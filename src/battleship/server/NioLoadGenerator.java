@@ -0,0 +1,318 @@
+package battleship.server;
+
+import battleship.game.engine.strategy.FleetGenerator;
+import battleship.game.rules.GameRules;
+import battleship.game.square.CoordinateCodec;
+import battleship.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static battleship.server.Protocol.*;
+
+public class NioLoadGenerator {
+    private static final int INPUT_BUFFER_SIZE = 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 64;
+    private static final byte[] BOARD_REQUEST = (BOARD + END_OF_LINE).getBytes(StandardCharsets.US_ASCII);
+
+    private final InetSocketAddress serverAddress;
+    private final GameRules rules;
+    private final int boardRequestInterval;
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+    private final List<Bot> bots = new ArrayList<>();
+    private Selector selector;
+    private int connectedBots = 0;
+    private int matchedBots = 0;
+    private int finishedBots = 0;
+    private int failedBots = 0;
+    private boolean isPlacementReleased = false;
+
+    public NioLoadGenerator(InetSocketAddress serverAddress, GameRules rules, int boardRequestInterval) {
+        this.serverAddress = serverAddress;
+        this.rules = rules;
+        this.boardRequestInterval = boardRequestInterval;
+    }
+
+    public void connect(int numberOfMatches, long seed) throws IOException {
+        selector = Selector.open();
+        SplittableRandom masterRandom = new SplittableRandom(seed);
+        FleetGenerator fleetGenerator = new FleetGenerator(rules.getGridSize(), rules.getFleet());
+        for (int i = 0; i < 2 * numberOfMatches; i++) {
+            SocketChannel channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.connect(serverAddress);
+            Bot bot = new Bot(channel, masterRandom.split(), fleetGenerator);
+            channel.register(selector, SelectionKey.OP_CONNECT, bot);
+            bots.add(bot);
+        }
+        while (matchedBots + failedBots < bots.size()) {
+            processEvents();
+        }
+    }
+
+    public void play() throws IOException {
+        isPlacementReleased = true;
+        for (Bot bot : bots) {
+            if (!bot.isFinished) {
+                bot.answerPendingPlacement();
+            }
+        }
+        while (finishedBots + failedBots < bots.size()) {
+            processEvents();
+        }
+        selector.close();
+    }
+
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    public int getFinishedBots() {
+        return finishedBots;
+    }
+
+    public int getFailedBots() {
+        return failedBots;
+    }
+
+    private void processEvents() throws IOException {
+        selector.select();
+        Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+        while (selectedKeys.hasNext()) {
+            SelectionKey key = selectedKeys.next();
+            selectedKeys.remove();
+            Bot bot = (Bot) key.attachment();
+            try {
+                if (key.isConnectable()) {
+                    bot.channel.finishConnect();
+                    bot.channel.socket().setTcpNoDelay(true);
+                    key.interestOps(SelectionKey.OP_READ);
+                    connectedBots++;
+                } else {
+                    if (key.isWritable()) {
+                        bot.flush();
+                    }
+                    if (key.isValid() && key.isReadable()) {
+                        bot.read();
+                    }
+                }
+            } catch (IOException e) {
+                bot.fail();
+            }
+        }
+    }
+
+    private final class Bot {
+        private final SocketChannel channel;
+        private final CoordinateCodec codec = rules.getCoordinateCodec();
+        private final ByteBuffer input = ByteBuffer.allocate(INPUT_BUFFER_SIZE);
+        private final ByteBuffer output = ByteBuffer.allocate(OUTPUT_BUFFER_SIZE);
+        private final int[] frontCells = new int[rules.getNumberOfShips()];
+        private final int[] rearCells = new int[rules.getNumberOfShips()];
+        private final int[] shotOrder;
+        private int nextShip = 0;
+        private int nextShot = 0;
+        private int pendingPlacements = 0;
+        private int bytesToSkip = 0;
+        private long shotSentAt = -1;
+        private boolean isMatched = false;
+        private boolean isFinished = false;
+
+        private Bot(SocketChannel channel, SplittableRandom random, FleetGenerator fleetGenerator) {
+            this.channel = channel;
+            fleetGenerator.generate(random, frontCells, rearCells);
+            shotOrder = new int[rules.getNumberOfCells()];
+            for (int i = 0; i < shotOrder.length; i++) {
+                int j = random.nextInt(i + 1);
+                shotOrder[i] = shotOrder[j];
+                shotOrder[j] = i;
+            }
+        }
+
+        private void read() throws IOException {
+            if (channel.read(input) < 0) {
+                throw new IOException("Connection closed by server");
+            }
+            input.flip();
+            while (input.hasRemaining() && !isFinished) {
+                if (bytesToSkip > 0) {
+                    int skipped = Math.min(bytesToSkip, input.remaining());
+                    input.position(input.position() + skipped);
+                    bytesToSkip -= skipped;
+                    continue;
+                }
+                int lineEnd = findLineEnd();
+                if (lineEnd < 0) {
+                    break;
+                }
+                handleLine(input.position(), lineEnd);
+                input.position(lineEnd + 1);
+            }
+            input.compact();
+            flush();
+        }
+
+        private int findLineEnd() {
+            for (int i = input.position(); i < input.limit(); i++) {
+                if (input.get(i) == END_OF_LINE) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void handleLine(int from, int to) throws IOException {
+            if (startsWith(from, to, PLACE)) {
+                if (!isMatched) {
+                    isMatched = true;
+                    matchedBots++;
+                }
+                pendingPlacements++;
+                if (isPlacementReleased) {
+                    answerPendingPlacement();
+                }
+            } else if (startsWith(from, to, TURN)) {
+                if (boardRequestInterval > 0 && nextShot % boardRequestInterval == 0) {
+                    output.put(BOARD_REQUEST);
+                }
+                shotSentAt = System.nanoTime();
+                codec.formatTo(shotOrder[nextShot++], output);
+                output.put((byte) END_OF_LINE);
+            } else if (startsWith(from, to, RESULT)) {
+                if (shotSentAt >= 0) {
+                    moveLatency.record(System.nanoTime() - shotSentAt);
+                    shotSentAt = -1;
+                }
+            } else if (startsWith(from, to, BOARD)) {
+                bytesToSkip = parseNumber(from + BOARD.length() + 1, to);
+            } else if (startsWith(from, to, WIN) && to - from == WIN.length()
+                    || startsWith(from, to, LOSE)) {
+                finish();
+            } else if (startsWith(from, to, OPPONENT_LEFT) || startsWith(from, to, ERROR)) {
+                fail();
+            }
+        }
+
+        private void answerPendingPlacement() throws IOException {
+            for (; pendingPlacements > 0; pendingPlacements--) {
+                codec.formatTo(frontCells[nextShip], output);
+                output.put((byte) SEPARATOR);
+                codec.formatTo(rearCells[nextShip], output);
+                output.put((byte) END_OF_LINE);
+                nextShip++;
+            }
+            flush();
+        }
+
+        private void flush() throws IOException {
+            output.flip();
+            channel.write(output);
+            SelectionKey key = channel.keyFor(selector);
+            if (output.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            } else if (key.isValid()) {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+            output.compact();
+        }
+
+        private void finish() throws IOException {
+            isFinished = true;
+            finishedBots++;
+            channel.close();
+        }
+
+        private void fail() {
+            if (isFinished) {
+                return;
+            }
+            isFinished = true;
+            failedBots++;
+            if (!isMatched) {
+                isMatched = true;
+                matchedBots++;
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private boolean startsWith(int from, int to, String prefix) {
+            if (to - from < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (input.get(from + i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int parseNumber(int from, int to) {
+            int number = 0;
+            for (int i = from; i < to; i++) {
+                number = number * 10 + input.get(i) - '0';
+            }
+            return number;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int numberOfMatches = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int boardRequestInterval = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String host = args.length > 2 ? args[2] : null;
+        int port = args.length > 3 ? Integer.parseInt(args[3]) : NioGameServer.DEFAULT_PORT;
+        NioGameServer embeddedServer = null;
+        if (host == null) {
+            embeddedServer = new NioGameServer(GameRules.STANDARD, 0);
+            embeddedServer.start();
+            host = "localhost";
+            port = embeddedServer.getPort();
+        }
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+        NioLoadGenerator generator = new NioLoadGenerator(new InetSocketAddress(host, port), GameRules.STANDARD,
+                boardRequestInterval);
+        long start = System.nanoTime();
+        generator.connect(numberOfMatches, 0);
+        System.gc();
+        long heapPerConnection = (memory.getHeapMemoryUsage().getUsed() - heapBefore) / (2L * numberOfMatches);
+        int openConnections = embeddedServer != null ? embeddedServer.getOpenConnections() : -1;
+        generator.play();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        LatencyHistogram latency = generator.getMoveLatency();
+        System.out.printf("%d matches, %d connections finished, %d failed in %.2f s%n", numberOfMatches,
+                generator.getFinishedBots(), generator.getFailedBots(), seconds);
+        System.out.printf("%d moves (%.0f moves/s), latency us: mean %.1f, p50 %.1f, p90 %.1f, p99 %.1f, "
+                        + "p99.9 %.1f, max %.1f%n",
+                latency.getCount(), latency.getCount() / seconds, latency.getMean() / 1e3,
+                latency.getValueAtPercentile(50) / 1e3, latency.getValueAtPercentile(90) / 1e3,
+                latency.getValueAtPercentile(99) / 1e3, latency.getValueAtPercentile(99.9) / 1e3,
+                latency.getMax() / 1e3);
+        System.out.printf("Heap per connection with all matches placing ships: %d bytes (client and server side)%n",
+                heapPerConnection);
+        if (embeddedServer != null) {
+            System.out.printf("Server: %d connections open at peak, %d finished, %d abandoned, "
+                            + "%d KB pooled direct memory%n",
+                    openConnections, embeddedServer.getFinishedMatches(), embeddedServer.getAbandonedMatches(),
+                    embeddedServer.getPooledDirectMemory() / 1024);
+            embeddedServer.close();
+        }
+    }
+}
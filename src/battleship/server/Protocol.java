@@ -0,0 +1,31 @@
+package battleship.server;
+
+public final class Protocol {
+    private Protocol() {
+
+    }
+
+    public static final String WAITING = "WAITING";
+    public static final String MATCH = "MATCH";
+    public static final String PLACE = "PLACE";
+    public static final String START = "START";
+    public static final String TURN = "TURN";
+    public static final String RESULT = "RESULT";
+    public static final String SHOT = "SHOT";
+    public static final String WIN = "WIN";
+    public static final String LOSE = "LOSE";
+    public static final String OPPONENT_LEFT = "OPPONENT_LEFT";
+    public static final String ERROR = "ERROR";
+    public static final String BOARD = "BOARD";
+    public static final String WRONG_SIZE = "WRONG_SIZE";
+    public static final String WRONG_FORMAT = "WRONG_FORMAT";
+    public static final String NOT_SAME_LANE_OR_COLUMN = "NOT_SAME_LANE_OR_COLUMN";
+    public static final String WRONG_SHIP_SIZE = "WRONG_SHIP_SIZE";
+    public static final String NOT_YOUR_TURN = "NOT_YOUR_TURN";
+    public static final String NO_MATCH = "NO_MATCH";
+    public static final String LINE_TOO_LONG = "LINE_TOO_LONG";
+    public static final String SPECTATE = "SPECTATE";
+    public static final String SPECTATING = "SPECTATING";
+    public static final char SEPARATOR = ' ';
+    public static final char END_OF_LINE = '\n';
+}
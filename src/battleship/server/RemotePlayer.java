@@ -0,0 +1,236 @@
+package battleship.server;
+
+import battleship.game.engine.PlacementStrategy;
+import battleship.game.engine.ShipPlacement;
+import battleship.game.engine.ShootingStrategy;
+import battleship.game.grid.GameGrid;
+import battleship.game.grid.GridModificationResult;
+import battleship.game.metrics.GameMetrics;
+import battleship.game.rules.GameRules;
+import battleship.game.ship.ShipType;
+import battleship.game.square.CoordinateCodec;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static battleship.server.Protocol.*;
+
+class RemotePlayer implements PlacementStrategy, ShootingStrategy {
+    private static final int WATCH_INTERVAL_MILLIS = 50;
+    private static final int LAST_CHECK_MILLIS = 1;
+    private static final int END_OF_STREAM = -1;
+    private static final int NO_INPUT = 0;
+    private static final int PENDING_INPUT = 1;
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final BufferedWriter writer;
+    private final CountDownLatch matchFinished = new CountDownLatch(1);
+    private final BlockingQueue<RemotePlayer> offeredOpponents = new ArrayBlockingQueue<>(1);
+    private CoordinateCodec codec;
+    private RemotePlayer opponent;
+
+    RemotePlayer(Socket socket) throws IOException {
+        this.socket = socket;
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        this.writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+    }
+
+    void onMatchStarted(int playerNumber, RemotePlayer opponent, GameRules rules) {
+        this.opponent = opponent;
+        this.codec = rules.getCoordinateCodec();
+        send(MATCH + SEPARATOR + playerNumber + SEPARATOR + rules.getGridSize());
+        flush();
+    }
+
+    @Override
+    public ShipPlacement nextPlacement(ShipType shipType) {
+        send(PLACE + SEPARATOR + shipType.name() + SEPARATOR + shipType.getSize());
+        while (true) {
+            String input = readLine();
+            long startTime = GameMetrics.startTimer();
+            String[] coordinates = input.split(" ");
+            if (coordinates.length != 2) {
+                GameMetrics.stopTimer(GameMetrics.Timer.INPUT_PARSING, startTime);
+                sendError(WRONG_SIZE);
+                continue;
+            }
+            int frontCell = codec.parse(coordinates[0]);
+            int rearCell = codec.parse(coordinates[1]);
+            GameMetrics.stopTimer(GameMetrics.Timer.INPUT_PARSING, startTime);
+            if (frontCell == CoordinateCodec.INVALID_FORMAT || rearCell == CoordinateCodec.INVALID_FORMAT) {
+                sendError(WRONG_FORMAT);
+            } else if (frontCell == CoordinateCodec.OUT_OF_GAME_GRID || rearCell == CoordinateCodec.OUT_OF_GAME_GRID) {
+                return new ShipPlacement(-1, -1);
+            } else if (isDiagonal(frontCell, rearCell)) {
+                sendError(NOT_SAME_LANE_OR_COLUMN);
+            } else if (getShipSize(frontCell, rearCell) != shipType.getSize()) {
+                sendError(WRONG_SHIP_SIZE);
+            } else {
+                return new ShipPlacement(frontCell, rearCell);
+            }
+        }
+    }
+
+    @Override
+    public void onPlacementResult(ShipType shipType, GridModificationResult result) {
+        send(RESULT + SEPARATOR + result.name());
+    }
+
+    @Override
+    public void onGameStarted(GameGrid enemyGrid) {
+        send(START);
+    }
+
+    @Override
+    public void onTurnStarted() {
+        send(TURN);
+    }
+
+    @Override
+    public int nextShot() {
+        while (true) {
+            String input = readLine();
+            long startTime = GameMetrics.startTimer();
+            int cellIndex = codec.parse(input);
+            GameMetrics.stopTimer(GameMetrics.Timer.INPUT_PARSING, startTime);
+            if (cellIndex == CoordinateCodec.INVALID_FORMAT) {
+                sendError(WRONG_FORMAT);
+            } else {
+                return cellIndex;
+            }
+        }
+    }
+
+    @Override
+    public void onShotResult(int cellIndex, GridModificationResult result) {
+        send(RESULT + SEPARATOR + result.name());
+        if (result != GridModificationResult.OUT_OF_GAME_GRID) {
+            opponent.send(SHOT + SEPARATOR + codec.format(cellIndex) + SEPARATOR + result.name());
+            opponent.flush();
+        }
+        flush();
+    }
+
+    void send(String message) {
+        try {
+            writer.write(message);
+            writer.write(END_OF_LINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void offerOpponent(RemotePlayer opponent) {
+        offeredOpponents.add(opponent);
+    }
+
+    RemotePlayer takeOfferedOpponent() throws InterruptedException {
+        return offeredOpponents.take();
+    }
+
+    RemotePlayer awaitOpponent() throws InterruptedException {
+        try {
+            int idleTimeout = socket.getSoTimeout();
+            try {
+                while (true) {
+                    boolean isOffered = !offeredOpponents.isEmpty();
+                    int input = peekInput(isOffered ? LAST_CHECK_MILLIS : WATCH_INTERVAL_MILLIS);
+                    if (input == END_OF_STREAM) {
+                        return null;
+                    }
+                    if (isOffered) {
+                        return offeredOpponents.poll();
+                    }
+                    if (input == PENDING_INPUT) {
+                        RemotePlayer offered = offeredOpponents.poll(WATCH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                        if (offered != null) {
+                            return offered;
+                        }
+                    }
+                }
+            } finally {
+                socket.setSoTimeout(idleTimeout);
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private int peekInput(int timeoutMillis) throws IOException {
+        socket.setSoTimeout(timeoutMillis);
+        reader.mark(1);
+        try {
+            if (reader.read() < 0) {
+                return END_OF_STREAM;
+            }
+            reader.reset();
+            return PENDING_INPUT;
+        } catch (SocketTimeoutException e) {
+            return NO_INPUT;
+        }
+    }
+
+    void awaitMatchFinished() throws InterruptedException {
+        matchFinished.await();
+    }
+
+    void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        } finally {
+            matchFinished.countDown();
+        }
+    }
+
+    private void sendError(String code) {
+        send(ERROR + SEPARATOR + code);
+    }
+
+    private String readLine() {
+        flush();
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new EOFException("Connection closed by player");
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isDiagonal(int frontCell, int rearCell) {
+        int gridSize = codec.getGridSize();
+        return frontCell / gridSize != rearCell / gridSize && frontCell % gridSize != rearCell % gridSize;
+    }
+
+    private int getShipSize(int frontCell, int rearCell) {
+        int gridSize = codec.getGridSize();
+        return Math.max(
+                Math.abs(frontCell / gridSize - rearCell / gridSize),
+                Math.abs(frontCell % gridSize - rearCell % gridSize)
+        ) + 1;
+    }
+}
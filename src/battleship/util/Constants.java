@@ -21,13 +21,7 @@ public final class Constants {
         private GameGridPrinterConstants() {
 
         }
-        public static final char LINE_IDENTIFIERS_STARTER = 'A';
-        public static final String SEPARATOR = " ";
-        public static final String FIRST_SQUARE = "%s";
-        public static final String SQUARE = " %s";
         public static final String NEW_LINE = System.lineSeparator();
-        public static final String ALLY_FILTER_REGEX = "[" + RESERVED + "]";
-        public static final String ENEMY_FILTER_REGEX = "[" + SHIP + RESERVED + "]";
         public static final String TRAINING_FILTER_REGEX = "[" + RESERVED + "]";
         public static final String GAME_GRIDS_SEPARATOR = "---------------------";
     }
@@ -21,6 +21,7 @@ public class CustomMessages {
         public static final String NEXT_PLAYER_MOVE = "Press Enter and pass the move to another player";
         public static final String PLAYER_1_TURN = "Player 1, it's your turn:";
         public static final String PLAYER_2_TURN = "Player 2, it's your turn:";
+        public static final String GAME_RESUMED = "The saved game is resumed";
     }
 
     public static final class GamePlayErrorMessage {